@@ -0,0 +1,48 @@
+package io.kestra.benchmarks;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.runners.Executor;
+import io.kestra.core.runners.ExecutorService;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * One pass of the executor on a sequential flow where all the tasks but the last one are successful: it creates the
+ * last task run and its worker task.
+ */
+@State(Scope.Benchmark)
+public class ExecutorServiceBenchmark {
+    @Param({"10", "1000", "10000"})
+    public int taskCount;
+
+    private ApplicationContext applicationContext;
+    private ExecutorService executorService;
+    private Flow flow;
+    private Execution execution;
+
+    @Setup
+    public void setup() {
+        this.applicationContext = Fixtures.context();
+        this.executorService = this.applicationContext.getBean(ExecutorService.class);
+
+        this.flow = Fixtures.flow(this.taskCount);
+        this.execution = Fixtures.execution(this.flow, this.taskCount - 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.applicationContext.close();
+    }
+
+    @Benchmark
+    public Executor process() {
+        Executor executor = this.executorService.process(new Executor(this.execution, null).withFlow(this.flow));
+
+        if (executor.getException() != null) {
+            throw new IllegalStateException(executor.getException());
+        }
+
+        return executor;
+    }
+}
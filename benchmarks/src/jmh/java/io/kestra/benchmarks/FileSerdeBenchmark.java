@@ -0,0 +1,70 @@
+package io.kestra.benchmarks;
+
+import io.kestra.core.serializers.FileSerde;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Flux;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Writing and reading of the ION files used by the tasks to store rows in the internal storage, in memory to leave
+ * the disk out of the measure.
+ */
+@State(Scope.Benchmark)
+public class FileSerdeBenchmark {
+    @Param({"1000", "100000"})
+    public int rowCount;
+
+    private List<Map<String, Object>> rows;
+    private byte[] content;
+
+    @Setup
+    public void setup() throws IOException {
+        this.rows = IntStream.range(0, this.rowCount)
+            .<Map<String, Object>>mapToObj(i -> Map.of(
+                "id", i,
+                "name", "row-" + i,
+                "date", Instant.ofEpochSecond(1_700_000_000L + i),
+                "values", List.of(i, i * 2D, "value")
+            ))
+            .toList();
+
+        this.content = this.writeAll();
+    }
+
+    @Benchmark
+    public byte[] writeAll() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), FileSerde.BUFFER_SIZE)) {
+            FileSerde.writeAll(writer, Flux.fromIterable(this.rows)).block();
+        }
+
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeEach() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (OutputStream outputStream = new BufferedOutputStream(output, FileSerde.BUFFER_SIZE)) {
+            for (Map<String, Object> row : this.rows) {
+                FileSerde.write(outputStream, row);
+            }
+        }
+
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public Long readAll() throws IOException {
+        try (Reader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(this.content), StandardCharsets.UTF_8), FileSerde.BUFFER_SIZE)) {
+            return FileSerde.readAll(reader).count().block();
+        }
+    }
+}
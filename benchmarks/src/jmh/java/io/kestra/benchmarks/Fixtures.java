@@ -0,0 +1,79 @@
+package io.kestra.benchmarks;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.models.tasks.ResolvedTask;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.plugin.core.debug.Return;
+import io.micronaut.context.ApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Synthetic flows and executions shared by the benchmarks.
+ */
+public final class Fixtures {
+    public static final String NAMESPACE = "io.kestra.benchmarks";
+
+    private Fixtures() {
+    }
+
+    /**
+     * Start an application context with the benchmark environment: in-memory H2 and local storage.
+     */
+    public static ApplicationContext context() {
+        return ApplicationContext.run("benchmark");
+    }
+
+    /**
+     * A flow with the given number of sequential tasks.
+     */
+    public static Flow flow(int taskCount) {
+        List<Task> tasks = IntStream.range(0, taskCount)
+            .<Task>mapToObj(i -> Return.builder()
+                .id("task-" + i)
+                .type(Return.class.getName())
+                .format("{{ task.id }} > {{ taskrun.startDate }}")
+                .build()
+            )
+            .toList();
+
+        return Flow.builder()
+            .id("flow-" + taskCount)
+            .namespace(NAMESPACE)
+            .revision(1)
+            .tasks(tasks)
+            .build();
+    }
+
+    /**
+     * A running execution of the flow where the given number of tasks are already successful.
+     */
+    public static Execution execution(Flow flow, int successCount) {
+        Execution execution = Execution.builder()
+            .id(IdUtils.create())
+            .namespace(flow.getNamespace())
+            .flowId(flow.getId())
+            .flowRevision(flow.getRevision())
+            .inputs(Map.of("string", "value", "int", 1))
+            .state(new State())
+            .build()
+            .withState(State.Type.RUNNING);
+
+        List<TaskRun> taskRuns = new ArrayList<>(successCount);
+        for (int i = 0; i < successCount; i++) {
+            taskRuns.add(TaskRun.of(execution, ResolvedTask.of(flow.getTasks().get(i)))
+                .withState(State.Type.RUNNING)
+                .withState(State.Type.SUCCESS)
+            );
+        }
+
+        return execution.withTaskRunList(taskRuns);
+    }
+}
@@ -0,0 +1,35 @@
+package io.kestra.benchmarks;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.NextTaskRun;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.tasks.ResolvedTask;
+import io.kestra.core.runners.FlowableUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+
+/**
+ * Resolution of the next task of a sequential flow, from an execution where all the previous tasks are successful.
+ */
+@State(Scope.Benchmark)
+public class FlowableUtilsBenchmark {
+    @Param({"10", "1000", "10000"})
+    public int taskCount;
+
+    private Execution execution;
+    private List<ResolvedTask> tasks;
+
+    @Setup
+    public void setup() {
+        Flow flow = Fixtures.flow(this.taskCount);
+
+        this.execution = Fixtures.execution(flow, this.taskCount - 1);
+        this.tasks = ResolvedTask.of(flow.getTasks());
+    }
+
+    @Benchmark
+    public List<NextTaskRun> resolveSequentialNexts() {
+        return FlowableUtils.resolveSequentialNexts(this.execution, this.tasks);
+    }
+}
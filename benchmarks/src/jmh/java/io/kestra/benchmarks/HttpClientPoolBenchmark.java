@@ -0,0 +1,72 @@
+package io.kestra.benchmarks;
+
+import com.sun.net.httpserver.HttpServer;
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.plugin.core.http.HttpClientPool;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.client.DefaultHttpClientConfiguration;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.reactor.http.client.ReactorHttpClient;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * A GET request on a local HTTP server, with a client leased from the {@link HttpClientPool} that keeps its connections
+ * alive, or with a new client, and so a new connection, for each call like the HTTP tasks were doing.
+ */
+@State(Scope.Benchmark)
+public class HttpClientPoolBenchmark {
+    private static final byte[] BODY = "{\"hello\":\"world\"}".getBytes(StandardCharsets.UTF_8);
+
+    private ApplicationContext applicationContext;
+    private HttpServer server;
+    private HttpClientPool pool;
+    private URI uri;
+
+    @Setup
+    public void setup() throws IOException {
+        this.applicationContext = Fixtures.context();
+
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext("/hello", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, BODY.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(BODY);
+            }
+        });
+        this.server.start();
+
+        this.uri = URI.create("http://localhost:" + this.server.getAddress().getPort() + "/hello");
+        this.pool = new HttpClientPool(this.applicationContext.getBean(MetricRegistry.class), 50, Duration.ofMinutes(10));
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.pool.close();
+        this.server.stop(0);
+        this.applicationContext.close();
+    }
+
+    @Benchmark
+    public String pooled() throws Exception {
+        try (HttpClientPool.Lease<HttpClient> lease = this.pool.client(this.uri, new DefaultHttpClientConfiguration())) {
+            return lease.client().toBlocking().retrieve(HttpRequest.GET(this.uri.toString()), Argument.STRING);
+        }
+    }
+
+    @Benchmark
+    public String clientPerCall() throws Exception {
+        try (HttpClient client = ReactorHttpClient.create(this.uri.toURL(), new DefaultHttpClientConfiguration())) {
+            return client.toBlocking().retrieve(HttpRequest.GET(this.uri.toString()), Argument.STRING);
+        }
+    }
+}
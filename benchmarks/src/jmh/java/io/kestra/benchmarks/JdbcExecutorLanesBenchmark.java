@@ -0,0 +1,67 @@
+package io.kestra.benchmarks;
+
+import io.kestra.core.exceptions.DeserializationException;
+import io.kestra.core.utils.Either;
+import io.kestra.jdbc.runner.JdbcExecutorLanes;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Throughput of the executor lanes, each message simulating an executor pass: some CPU work and a database round-trip.
+ * An operation routes a burst of messages spread over many executions and waits for all of them to be processed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JdbcExecutorLanesBenchmark {
+    private static final int MESSAGE_COUNT = 1000;
+    private static final int EXECUTION_COUNT = 100;
+
+    @Param({"1", "4", "16"})
+    public int lanes;
+
+    @Param({"50000"})
+    public long ioNanos;
+
+    private JdbcExecutorLanes executorLanes;
+    private Consumer<Either<Message, DeserializationException>> consumer;
+    private volatile CountDownLatch processed;
+
+    @Setup
+    public void setup() {
+        this.executorLanes = new JdbcExecutorLanes(this.lanes, 100, null);
+        this.consumer = this.executorLanes.route(Message::executionId, either -> {
+            Blackhole.consumeCPU(1000);
+            LockSupport.parkNanos(this.ioNanos);
+
+            this.processed.countDown();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.executorLanes.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public void route() throws InterruptedException {
+        this.processed = new CountDownLatch(MESSAGE_COUNT);
+
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            this.consumer.accept(Either.left(new Message("execution-" + (i % EXECUTION_COUNT))));
+        }
+
+        if (!this.processed.await(1, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Messages not processed in time, " + this.processed.getCount() + " remaining");
+        }
+    }
+
+    public record Message(String executionId) {
+    }
+}
@@ -0,0 +1,99 @@
+package io.kestra.benchmarks;
+
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.queues.QueueException;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.event.Level;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+/**
+ * The JDBC queue on H2: emitting messages one by one or as a single batch, and the latency between an emit and its
+ * reception by a consumer of the same instance.
+ */
+@State(Scope.Benchmark)
+public class JdbcQueueBenchmark {
+    @Param({"1", "100"})
+    public int messageCount;
+
+    private ApplicationContext applicationContext;
+    private QueueInterface<LogEntry> logQueue;
+    private Runnable cancellation;
+    private final Map<String, CompletableFuture<LogEntry>> pending = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() {
+        this.applicationContext = Fixtures.context();
+        this.logQueue = this.applicationContext.getBean(QueueInterface.class, Qualifiers.byName(QueueFactoryInterface.WORKERTASKLOG_NAMED));
+
+        this.cancellation = this.logQueue.receive(either -> {
+            if (either.isLeft()) {
+                CompletableFuture<LogEntry> future = this.pending.remove(either.getLeft().getMessage());
+                if (future != null) {
+                    future.complete(either.getLeft());
+                }
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.cancellation.run();
+        this.applicationContext.close();
+    }
+
+    @Benchmark
+    public void emitEach() throws QueueException {
+        for (LogEntry logEntry : this.logEntries()) {
+            this.logQueue.emit(logEntry);
+        }
+    }
+
+    @Benchmark
+    public void emitBatch() throws QueueException {
+        this.logQueue.emit(this.logEntries());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public LogEntry emitToReceive() throws QueueException, ExecutionException, InterruptedException, TimeoutException {
+        List<LogEntry> logEntries = this.logEntries();
+        LogEntry last = logEntries.getLast();
+
+        CompletableFuture<LogEntry> received = new CompletableFuture<>();
+        this.pending.put(last.getMessage(), received);
+        this.logQueue.emit(logEntries);
+
+        return received.get(30, TimeUnit.SECONDS);
+    }
+
+    private List<LogEntry> logEntries() {
+        Instant now = Instant.now();
+        String prefix = Thread.currentThread().getName() + "-" + System.nanoTime() + "-";
+
+        return IntStream.range(0, this.messageCount)
+            .mapToObj(i -> LogEntry.builder()
+                .namespace(Fixtures.NAMESPACE)
+                .flowId("flow")
+                .executionId("execution")
+                .level(Level.INFO)
+                .message(prefix + i)
+                .timestamp(now)
+                .build()
+            )
+            .toList();
+    }
+}
@@ -0,0 +1,40 @@
+package io.kestra.benchmarks;
+
+import io.kestra.core.runners.pebble.filters.JqFilter;
+import io.pebbletemplates.pebble.error.PebbleException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * The jq Pebble filter with and without its cache of compiled expressions, a cache size of 0 compiles the expression
+ * on each call.
+ */
+@State(Scope.Benchmark)
+public class JqFilterBenchmark {
+    @Param({"0", "1000"})
+    public int cacheSize;
+
+    @Param({".name", "[.items[] | select(.index % 2 == 0) | .name] | length"})
+    public String expression;
+
+    private JqFilter jqFilter;
+    private Map<String, Object> input;
+    private Map<String, Object> args;
+
+    @Setup
+    public void setup() {
+        this.jqFilter = new JqFilter(this.cacheSize, null);
+        this.input = Map.of(
+            "name", "value",
+            "items", IntStream.range(0, 100).mapToObj(i -> Map.of("index", i, "name", "item-" + i)).toList()
+        );
+        this.args = Map.of("expression", this.expression);
+    }
+
+    @Benchmark
+    public Object apply() throws PebbleException {
+        return this.jqFilter.apply(this.input, this.args, null, null, 0);
+    }
+}
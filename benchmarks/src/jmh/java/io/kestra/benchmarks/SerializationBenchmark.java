@@ -0,0 +1,80 @@
+package io.kestra.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.tasks.ResolvedTask;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.runners.WorkerJob;
+import io.kestra.core.runners.WorkerTask;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.jdbc.JdbcMapper;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * (De)serialization of the messages written to the queues and repositories: executions with their task runs and
+ * worker tasks, with the API mapper and the JDBC mapper.
+ */
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+    @Param({"10", "100", "1000"})
+    public int taskRunCount;
+
+    @Param({"json", "jdbc"})
+    public String mapper;
+
+    private ApplicationContext applicationContext;
+    private ObjectMapper objectMapper;
+    private Execution execution;
+    private String executionJson;
+    private WorkerTask workerTask;
+    private String workerTaskJson;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        this.applicationContext = Fixtures.context();
+        this.objectMapper = this.mapper.equals("jdbc") ? JdbcMapper.of() : JacksonMapper.ofJson();
+
+        Flow flow = Fixtures.flow(this.taskRunCount + 1);
+        this.execution = Fixtures.execution(flow, this.taskRunCount);
+        this.executionJson = this.objectMapper.writeValueAsString(this.execution);
+
+        Task task = flow.getTasks().getLast();
+        TaskRun taskRun = TaskRun.of(this.execution, ResolvedTask.of(task));
+        this.workerTask = WorkerTask.builder()
+            .task(task)
+            .taskRun(taskRun)
+            .runContext(this.applicationContext.getBean(RunContextFactory.class).of(flow, task, this.execution, taskRun))
+            .build();
+        this.workerTaskJson = this.objectMapper.writeValueAsString(this.workerTask);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.applicationContext.close();
+    }
+
+    @Benchmark
+    public String serializeExecution() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsString(this.execution);
+    }
+
+    @Benchmark
+    public Execution deserializeExecution() throws JsonProcessingException {
+        return this.objectMapper.readValue(this.executionJson, Execution.class);
+    }
+
+    @Benchmark
+    public String serializeWorkerTask() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsString(this.workerTask);
+    }
+
+    @Benchmark
+    public WorkerJob deserializeWorkerTask() throws JsonProcessingException {
+        return this.objectMapper.readValue(this.workerTaskJson, WorkerJob.class);
+    }
+}
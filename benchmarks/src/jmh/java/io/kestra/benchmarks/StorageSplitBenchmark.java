@@ -0,0 +1,84 @@
+package io.kestra.benchmarks;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.services.StorageService;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.plugin.core.storage.Split;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Split of a file of the local storage in chunks of rows, each chunk being written back to the local storage.
+ */
+@State(Scope.Benchmark)
+public class StorageSplitBenchmark {
+    private static final int ROW_COUNT = 100_000;
+
+    @Param({"100", "10000"})
+    public int rows;
+
+    private ApplicationContext applicationContext;
+    private StorageInterface storageInterface;
+    private RunContext runContext;
+    private URI from;
+    private Split split;
+    private final List<URI> chunks = new ArrayList<>();
+
+    @Setup
+    public void setup() throws IOException {
+        this.applicationContext = Fixtures.context();
+        this.storageInterface = this.applicationContext.getBean(StorageInterface.class);
+        this.runContext = this.applicationContext.getBean(RunContextFactory.class).of();
+
+        String content = IntStream.range(0, ROW_COUNT)
+            .mapToObj(i -> "{\"id\":" + i + ",\"name\":\"row-" + i + "\"}")
+            .collect(Collectors.joining("\n"));
+
+        this.from = this.storageInterface.put(
+            null,
+            null,
+            URI.create("/" + Fixtures.NAMESPACE.replace('.', '/') + "/split.ion"),
+            new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))
+        );
+
+        this.split = Split.builder()
+            .from(this.from.toString())
+            .rows(Property.of(this.rows))
+            .build();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteChunks() throws IOException {
+        for (URI chunk : this.chunks) {
+            this.storageInterface.delete(null, null, chunk);
+        }
+
+        this.chunks.clear();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        this.storageInterface.delete(null, null, this.from);
+        this.applicationContext.close();
+    }
+
+    @Benchmark
+    public int split() throws IOException, IllegalVariableEvaluationException {
+        List<URI> uris = StorageService.split(this.runContext, this.split, this.from);
+        this.chunks.addAll(uris);
+
+        return uris.size();
+    }
+}
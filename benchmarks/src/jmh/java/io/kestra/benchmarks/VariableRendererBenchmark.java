@@ -0,0 +1,58 @@
+package io.kestra.benchmarks;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.runners.VariableRenderer;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Rendering of the expressions found in flows, the templates are compiled once and cached by the renderer.
+ */
+@State(Scope.Benchmark)
+public class VariableRendererBenchmark {
+    @Param({
+        "constant",
+        "{{ inputs.string }}",
+        "{{ outputs.task.value | upper }} {{ execution.id }}",
+        "{% for item in outputs.task.items %}{{ item.name }},{% endfor %}",
+        "{{ outputs.task.items | jq('.[].name') | first }}"
+    })
+    public String template;
+
+    private ApplicationContext applicationContext;
+    private VariableRenderer variableRenderer;
+    private Map<String, Object> variables;
+
+    @Setup
+    public void setup() {
+        this.applicationContext = Fixtures.context();
+        this.variableRenderer = this.applicationContext.getBean(VariableRenderer.class);
+        this.variables = Map.of(
+            "inputs", Map.of("string", "value"),
+            "execution", Map.of("id", "6lJpNbKJFQj6ytexPmFjtg"),
+            "outputs", Map.of("task", Map.of(
+                "value", "output value",
+                "items", IntStream.range(0, 100).mapToObj(i -> Map.of("name", "item-" + i)).toList()
+            ))
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.applicationContext.close();
+    }
+
+    @Benchmark
+    public String render() throws IllegalVariableEvaluationException {
+        return this.variableRenderer.render(this.template, this.variables);
+    }
+
+    @Benchmark
+    public Map<String, Object> renderMap() throws IllegalVariableEvaluationException {
+        return this.variableRenderer.render(Map.of("first", this.template, "nested", Map.of("second", this.template, "list", List.of(this.template))), this.variables);
+    }
+}
@@ -16,6 +16,8 @@ import jakarta.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ArrayUtils;
 
+import java.util.function.ToDoubleFunction;
+
 @Singleton
 @Slf4j
 public class MetricRegistry {
@@ -34,6 +36,8 @@ public class MetricRegistry {
     public static final String METRIC_WORKER_TRIGGER_ENDED_COUNT = "worker.trigger.ended.count";
     public static final String METRIC_WORKER_TRIGGER_ERROR_COUNT = "worker.trigger.error.count";
     public static final String METRIC_WORKER_TRIGGER_EXECUTION_COUNT = "worker.trigger.execution.count";
+    public static final String METRIC_WORKER_LOG_FLUSHED_COUNT = "worker.log.flushed.count";
+    public static final String METRIC_WORKER_LOG_DROPPED_COUNT = "worker.log.dropped.count";
 
     public static final String EXECUTOR_TASKRUN_NEXT_COUNT = "executor.taskrun.next.count";
     public static final String EXECUTOR_TASKRUN_ENDED_COUNT = "executor.taskrun.ended.count";
@@ -42,6 +46,10 @@ public class MetricRegistry {
     public static final String EXECUTOR_EXECUTION_STARTED_COUNT = "executor.execution.started.count";
     public static final String EXECUTOR_EXECUTION_END_COUNT = "executor.execution.end.count";
     public static final String EXECUTOR_EXECUTION_DURATION = "executor.execution.duration";
+    public static final String EXECUTOR_FLOW_CACHE_HIT_COUNT = "executor.flow.cache.hit.count";
+    public static final String EXECUTOR_FLOW_CACHE_MISS_COUNT = "executor.flow.cache.miss.count";
+    public static final String EXECUTOR_LANE_QUEUE_SIZE = "executor.lane.queue.size";
+    public static final String EXECUTOR_LANE_MESSAGE_COUNT = "executor.lane.message.count";
 
     public static final String METRIC_INDEXER_REQUEST_COUNT = "indexer.request.count";
     public static final String METRIC_INDEXER_REQUEST_DURATION = "indexer.request.duration";
@@ -52,6 +60,7 @@ public class MetricRegistry {
     public static final String METRIC_INDEXER_MESSAGE_OUT_COUNT = "indexer.message.out.count";
 
     public static final String SCHEDULER_LOOP_COUNT = "scheduler.loop.count";
+    public static final String SCHEDULER_LOOP_DURATION = "scheduler.loop.duration";
     public static final String SCHEDULER_TRIGGER_COUNT = "scheduler.trigger.count";
     public static final String SCHEDULER_TRIGGER_DELAY_DURATION = "scheduler.trigger.delay.duration";
     public static final String SCHEDULER_EVALUATE_COUNT = "scheduler.evaluate.count";
@@ -60,6 +69,24 @@ public class MetricRegistry {
 
     public static final String STREAMS_STATE_COUNT = "stream.state.count";
 
+    public static final String JQ_CACHE_HIT_COUNT = "jq.cache.hit.count";
+    public static final String JQ_CACHE_MISS_COUNT = "jq.cache.miss.count";
+
+    public static final String PLUGIN_DEFAULTS_CACHE_HIT_COUNT = "plugin.defaults.cache.hit.count";
+    public static final String PLUGIN_DEFAULTS_CACHE_MISS_COUNT = "plugin.defaults.cache.miss.count";
+    public static final String PLUGIN_DEFAULTS_CACHE_SAVED_DURATION = "plugin.defaults.cache.saved.duration";
+    public static final String PLUGIN_DEFAULTS_INJECT_DURATION = "plugin.defaults.inject.duration";
+
+    public static final String HTTP_CLIENT_POOL_CLIENT_COUNT = "http.client.pool.client.count";
+    public static final String HTTP_CLIENT_POOL_LEASED_COUNT = "http.client.pool.leased.count";
+    public static final String HTTP_CLIENT_POOL_CREATED_COUNT = "http.client.pool.created.count";
+    public static final String HTTP_CLIENT_POOL_REUSED_COUNT = "http.client.pool.reused.count";
+
+    public static final String NAMESPACE_FILES_CACHE_HIT_COUNT = "namespace.files.cache.hit.count";
+    public static final String NAMESPACE_FILES_CACHE_MISS_COUNT = "namespace.files.cache.miss.count";
+    public static final String NAMESPACE_FILES_CACHE_EVICTED_COUNT = "namespace.files.cache.evicted.count";
+    public static final String NAMESPACE_FILES_CACHE_SIZE = "namespace.files.cache.size";
+
     public static final String JDBC_QUERY_DURATION = "jdbc.query.duration";
 
     public static final String QUEUE_BIG_MESSAGE_COUNT = "queue.big_message.count";
@@ -73,6 +100,8 @@ public class MetricRegistry {
     public static final String TAG_WORKER_GROUP = "worker_group";
     public static final String TAG_TENANT_ID = "tenant_id";
     public static final String TAG_CLASS_NAME = "class_name";
+    public static final String TAG_LANE = "lane";
+    public static final String TAG_POLICY = "policy";
 
     @Inject
     private MeterRegistry meterRegistry;
@@ -105,6 +134,21 @@ public class MetricRegistry {
         return this.meterRegistry.gauge(metricName(name), Tags.of(tags), number);
     }
 
+    /**
+     * Register a gauge that reports the value of an object, computed by the given function.
+     *
+     * @param name          Name of the gauge being registered.
+     * @param obj           State object used to compute a value.
+     * @param valueFunction Function that produces an instantaneous gauge value from the state object.
+     * @param tags          Sequence of dimensions for breaking down the name.
+     * @param <T>           The type of the state object from which the gauge value is extracted.
+     * @return The state object that was passed in so the registration can be done as part of an assignment
+     * statement.
+     */
+    public <T> T gauge(String name, T obj, ToDoubleFunction<T> valueFunction, String... tags) {
+        return this.meterRegistry.gauge(metricName(name), Tags.of(tags), obj, valueFunction);
+    }
+
     /**
      * Measures the time taken for short tasks and the count of these tasks.
      *
@@ -35,6 +35,7 @@ import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.chrono.ChronoZonedDateTime;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -106,6 +107,26 @@ public class Execution implements DeletedInterface, TenantInterface {
     @Nullable
     Instant scheduleDate;
 
+    /**
+     * Lazily built index of the task run list, shared with the copies that only replace a task run.
+     */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Hidden
+    transient AtomicReference<TaskRunIndex> taskRunIndex = new AtomicReference<>();
+
+    /**
+     * Lazily merged outputs of the task runs, as an execution is immutable it's computed once for each execution state.
+     */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Hidden
+    transient AtomicReference<Map<String, Object>> mergedOutputs = new AtomicReference<>();
+
     /**
      * Factory method for constructing a new {@link Execution} object for the given {@link Flow}.
      *
@@ -227,21 +248,28 @@ public class Execution implements DeletedInterface, TenantInterface {
     }
 
     public Execution withTaskRun(TaskRun taskRun) throws InternalException {
-        ArrayList<TaskRun> newTaskRunList = new ArrayList<>(this.taskRunList);
+        TaskRunIndex index = this.taskRunIndex();
+        int position = index.positionOf(taskRun.getId());
 
-        boolean b = Collections.replaceAll(
-            newTaskRunList,
-            this.findTaskRunByTaskRunId(taskRun.getId()),
-            taskRun
-        );
+        if (position < 0) {
+            // will throw the same exception as before
+            this.findTaskRunByTaskRunId(taskRun.getId());
 
-        if (!b) {
             throw new IllegalStateException(
                 "Can't replace taskRun '" + taskRun.getId() + "' on execution'" + this.getId()
                     + "'");
         }
 
-        return new Execution(
+        // like Collections.replaceAll(), every task run equal to the first one with this id is replaced
+        ArrayList<TaskRun> newTaskRunList = new ArrayList<>(this.taskRunList);
+        TaskRun previous = newTaskRunList.get(position);
+        index.positionsOf(taskRun.getId()).forEach(p -> {
+            if (newTaskRunList.get(p).equals(previous)) {
+                newTaskRunList.set(p, taskRun);
+            }
+        });
+
+        Execution execution = new Execution(
             this.tenantId,
             this.id,
             this.namespace,
@@ -260,6 +288,29 @@ public class Execution implements DeletedInterface, TenantInterface {
             this.metadata,
             this.scheduleDate
         );
+
+        if (TaskRunIndex.isValidForReplacement(previous, taskRun)) {
+            execution.taskRunIndex.set(index);
+        }
+
+        return execution;
+    }
+
+    private TaskRunIndex taskRunIndex() {
+        TaskRunIndex index = this.taskRunIndex.get();
+        if (index == null) {
+            index = TaskRunIndex.of(this.taskRunList == null ? Collections.emptyList() : this.taskRunList);
+            this.taskRunIndex.set(index);
+        }
+
+        return index;
+    }
+
+    private List<TaskRun> taskRunsAt(Collection<Integer> positions) {
+        List<TaskRun> result = new ArrayList<>(positions.size());
+        positions.forEach(position -> result.add(this.taskRunList.get(position)));
+
+        return result;
     }
 
     public Execution childExecution(String childExecutionId, List<TaskRun> taskRunList,
@@ -290,35 +341,26 @@ public class Execution implements DeletedInterface, TenantInterface {
             return Collections.emptyList();
         }
 
-        return this.taskRunList
-            .stream()
-            .filter(taskRun -> taskRun.getTaskId().equals(id))
-            .toList();
+        return Collections.unmodifiableList(this.taskRunsAt(this.taskRunIndex().positionsOfTaskId(id)));
     }
 
     public TaskRun findTaskRunByTaskRunId(String id) throws InternalException {
-        Optional<TaskRun> find = (this.taskRunList == null ? Collections.<TaskRun>emptyList()
-            : this.taskRunList)
-            .stream()
-            .filter(taskRun -> taskRun.getId().equals(id))
-            .findFirst();
+        int position = this.taskRunList == null ? -1 : this.taskRunIndex().positionOf(id);
 
-        if (find.isEmpty()) {
+        if (position < 0) {
             throw new InternalException(
                 "Can't find taskrun with taskrunId '" + id + "' on execution '" + this.id + "' "
                     + this.toStringState());
         }
 
-        return find.get();
+        return this.taskRunList.get(position);
     }
 
     public TaskRun findTaskRunByTaskIdAndValue(String id, List<String> values)
         throws InternalException {
-        Optional<TaskRun> find = (this.taskRunList == null ? Collections.<TaskRun>emptyList()
-            : this.taskRunList)
+        Optional<TaskRun> find = this.findTaskRunsByTaskId(id)
             .stream()
-            .filter(taskRun -> taskRun.getTaskId().equals(id) && findParentsValues(taskRun,
-                true).equals(values))
+            .filter(taskRun -> findParentsValues(taskRun, true).equals(values))
             .findFirst();
 
         if (find.isEmpty()) {
@@ -396,15 +438,38 @@ public class Execution implements DeletedInterface, TenantInterface {
             return Collections.emptyList();
         }
 
-        return this
-            .getTaskRunList()
+        // only look at the children of the parent task run, or at the task runs of the resolved tasks if there are
+        // fewer of them, keeping the task run list order
+        TaskRunIndex index = this.taskRunIndex();
+        List<List<Integer>> byTask = resolvedTasks
             .stream()
-            .filter(t -> resolvedTasks
-                .stream()
-                .anyMatch(
-                    resolvedTask -> FlowableUtils.isTaskRunFor(resolvedTask, t, parentTaskRun))
-            )
+            .map(resolvedTask -> index.positionsOfTaskId(resolvedTask.getTask().getId()))
             .toList();
+        List<Integer> children = parentTaskRun == null ? null : index.positionsOfChildren(parentTaskRun.getId());
+
+        Collection<Integer> positions;
+        if (children != null && children.size() <= byTask.stream().mapToInt(List::size).sum()) {
+            positions = children
+                .stream()
+                .filter(position -> resolvedTasks
+                    .stream()
+                    .anyMatch(resolvedTask -> FlowableUtils.isTaskRunFor(resolvedTask, this.taskRunList.get(position), parentTaskRun))
+                )
+                .toList();
+        } else {
+            TreeSet<Integer> sorted = new TreeSet<>();
+            for (int i = 0; i < resolvedTasks.size(); i++) {
+                ResolvedTask resolvedTask = resolvedTasks.get(i);
+                byTask.get(i).forEach(position -> {
+                    if (FlowableUtils.isTaskRunFor(resolvedTask, this.taskRunList.get(position), parentTaskRun)) {
+                        sorted.add(position);
+                    }
+                });
+            }
+            positions = sorted;
+        }
+
+        return Collections.unmodifiableList(this.taskRunsAt(positions));
     }
 
     public Optional<TaskRun> findFirstByState(State.Type state) {
@@ -776,6 +841,16 @@ public class Execution implements DeletedInterface, TenantInterface {
             return ImmutableMap.of();
         }
 
+        Map<String, Object> outputs = this.mergedOutputs.get();
+        if (outputs == null) {
+            outputs = Collections.unmodifiableMap(this.mergeOutputs());
+            this.mergedOutputs.set(outputs);
+        }
+
+        return outputs;
+    }
+
+    private Map<String, Object> mergeOutputs() {
         // we pre-compute the map of taskrun by id to avoid traversing the list of all taskrun for each taskrun
         Map<String, TaskRun> byIds = this.taskRunList.stream().collect(Collectors.toMap(
             taskRun -> taskRun.getId(),
@@ -866,18 +941,15 @@ public class Execution implements DeletedInterface, TenantInterface {
             return Collections.emptyList();
         }
 
+        TaskRunIndex index = this.taskRunIndex();
         ArrayList<TaskRun> result = new ArrayList<>();
         boolean ended = false;
         while (!ended) {
-            final TaskRun finalTaskRun = taskRun;
-            Optional<TaskRun> find = this.taskRunList
-                .stream()
-                .filter(t -> t.getId().equals(finalTaskRun.getParentTaskRunId()))
-                .findFirst();
+            int position = taskRun.getParentTaskRunId() == null ? -1 : index.positionOf(taskRun.getParentTaskRunId());
 
-            if (find.isPresent()) {
-                result.add(find.get());
-                taskRun = find.get();
+            if (position >= 0) {
+                taskRun = this.taskRunList.get(position);
+                result.add(taskRun);
             } else {
                 ended = true;
             }
@@ -0,0 +1,84 @@
+package io.kestra.core.models.executions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable index of the positions of the task runs of an {@link Execution} task run list,
+ * by task run id, by task id and by parent task run id.
+ * <p>
+ * As it only stores positions, the same index stays valid for a copy of the list where a task run has been replaced
+ * by another version of itself (same id, same task id and same parent).
+ */
+final class TaskRunIndex {
+    private final Map<String, List<Integer>> byId;
+    private final Map<String, List<Integer>> byTaskId;
+    private final Map<String, List<Integer>> byParentId;
+
+    private TaskRunIndex(Map<String, List<Integer>> byId, Map<String, List<Integer>> byTaskId, Map<String, List<Integer>> byParentId) {
+        this.byId = byId;
+        this.byTaskId = byTaskId;
+        this.byParentId = byParentId;
+    }
+
+    static TaskRunIndex of(List<TaskRun> taskRuns) {
+        Map<String, List<Integer>> byId = HashMap.newHashMap(taskRuns.size());
+        Map<String, List<Integer>> byTaskId = new HashMap<>();
+        Map<String, List<Integer>> byParentId = new HashMap<>();
+
+        for (int i = 0; i < taskRuns.size(); i++) {
+            TaskRun taskRun = taskRuns.get(i);
+
+            byId.computeIfAbsent(taskRun.getId(), k -> new ArrayList<>(1)).add(i);
+            byTaskId.computeIfAbsent(taskRun.getTaskId(), k -> new ArrayList<>()).add(i);
+            if (taskRun.getParentTaskRunId() != null) {
+                byParentId.computeIfAbsent(taskRun.getParentTaskRunId(), k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        return new TaskRunIndex(byId, byTaskId, byParentId);
+    }
+
+    /**
+     * @return the position of the first task run with this id, or -1 if not found.
+     */
+    int positionOf(String taskRunId) {
+        List<Integer> positions = this.byId.get(taskRunId);
+
+        return positions == null ? -1 : positions.getFirst();
+    }
+
+    /**
+     * @return the ordered positions of the task runs with this id, there is only one unless the list has duplicates.
+     */
+    List<Integer> positionsOf(String taskRunId) {
+        return this.byId.getOrDefault(taskRunId, Collections.emptyList());
+    }
+
+    /**
+     * @return the ordered positions of the task runs of this task id.
+     */
+    List<Integer> positionsOfTaskId(String taskId) {
+        return this.byTaskId.getOrDefault(taskId, Collections.emptyList());
+    }
+
+    /**
+     * @return the ordered positions of the direct children of this task run id.
+     */
+    List<Integer> positionsOfChildren(String parentTaskRunId) {
+        return this.byParentId.getOrDefault(parentTaskRunId, Collections.emptyList());
+    }
+
+    /**
+     * Whether the index is still valid for the given replacement of the task run at this position.
+     */
+    static boolean isValidForReplacement(TaskRun previous, TaskRun replacement) {
+        return Objects.equals(previous.getId(), replacement.getId()) &&
+            Objects.equals(previous.getTaskId(), replacement.getTaskId()) &&
+            Objects.equals(previous.getParentTaskRunId(), replacement.getParentTaskRunId());
+    }
+}
@@ -0,0 +1,190 @@
+package io.kestra.core.queues;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+
+/**
+ * Buffer items in a bounded queue and send them in batches from a single thread, so a queue can write them in a single
+ * multi-row insert.
+ * <p>
+ * A batch is sent as soon as it is full or once the linger time is elapsed after its first item. With no linger time,
+ * everything that was buffered while the previous batch was sent is sent at once, so there is no added latency when
+ * the load is low.
+ * <p>
+ * A batch that can't be sent, whatever the exception, is given to the failure handler and the thread goes on with the
+ * next ones. Once closed, the buffered items are sent and the items added after are sent directly by the caller.
+ */
+@Slf4j
+public class BatchingEmitter<T> {
+    // wakes up the thread on close
+    private static final Object WAKE_UP = new Object();
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+    private static final long POLL_TIMEOUT_NANOS = Duration.ofMillis(100).toNanos();
+
+    private final BlockingQueue<Object> buffer;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final Sender<T> sender;
+    private final BiConsumer<List<T>, Exception> failureHandler;
+    // items are only buffered under the read lock, so none can be buffered after the last drain of close
+    private final ReadWriteLock closing = new ReentrantReadWriteLock();
+    private final Thread thread;
+
+    private volatile boolean running = true;
+
+    public BatchingEmitter(String name, int capacity, int batchSize, Duration linger, Sender<T> sender, BiConsumer<List<T>, Exception> failureHandler) {
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+        this.sender = sender;
+        this.failureHandler = failureHandler;
+
+        this.thread = Thread.ofPlatform()
+            .name(name)
+            .daemon(true)
+            .start(this::run);
+    }
+
+    /**
+     * Add an item if there is some space in the buffer.
+     *
+     * @return false if the buffer is full.
+     */
+    public boolean offer(T item) {
+        this.closing.readLock().lock();
+        try {
+            if (this.running) {
+                return this.buffer.offer(item);
+            }
+        } finally {
+            this.closing.readLock().unlock();
+        }
+
+        this.send(List.of(item));
+        return true;
+    }
+
+    /**
+     * Add an item, waiting for some space in the buffer.
+     */
+    public void put(T item) throws InterruptedException {
+        this.closing.readLock().lock();
+        try {
+            if (this.running) {
+                this.buffer.put(item);
+                return;
+            }
+        } finally {
+            this.closing.readLock().unlock();
+        }
+
+        this.send(List.of(item));
+    }
+
+    private void run() {
+        List<T> batch = new ArrayList<>(this.batchSize);
+
+        while (this.running || !this.buffer.isEmpty()) {
+            try {
+                Object first = this.buffer.poll(POLL_TIMEOUT_NANOS, TimeUnit.NANOSECONDS);
+                if (first == null || first == WAKE_UP) {
+                    continue;
+                }
+
+                batch.add(cast(first));
+
+                // wait for a full batch, but no longer than the linger time after the first item
+                long deadline = System.nanoTime() + this.lingerNanos;
+                while (batch.size() < this.batchSize) {
+                    this.drain(batch, this.batchSize - batch.size());
+
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= this.batchSize || remaining <= 0 || !this.running) {
+                        break;
+                    }
+
+                    Object next = this.buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null || next == WAKE_UP) {
+                        break;
+                    }
+
+                    batch.add(cast(next));
+                }
+            } catch (InterruptedException e) {
+                this.drain(batch, Integer.MAX_VALUE);
+                this.running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                this.send(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void drain(List<T> batch, int max) {
+        List<Object> drained = new ArrayList<>();
+        this.buffer.drainTo(drained, max);
+
+        drained.stream()
+            .filter(item -> item != WAKE_UP)
+            .forEach(item -> batch.add(cast(item)));
+    }
+
+    private void send(List<T> batch) {
+        try {
+            this.sender.send(batch);
+        } catch (QueueException | RuntimeException e) {
+            try {
+                this.failureHandler.accept(batch, e);
+            } catch (RuntimeException handlerException) {
+                log.error("Unable to handle the failure of a batch of {} items", batch.size(), handlerException);
+            }
+        }
+    }
+
+    /**
+     * Send the buffered items, the ones added after are sent directly.
+     */
+    public void close() throws InterruptedException {
+        // wait for the callers that are buffering an item
+        boolean locked = this.closing.writeLock().tryLock(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        try {
+            this.running = false;
+        } finally {
+            if (locked) {
+                this.closing.writeLock().unlock();
+            } else {
+                log.warn("Closing '{}' without waiting for the pending items to be buffered", this.thread.getName());
+            }
+        }
+
+        this.buffer.offer(WAKE_UP);
+        this.thread.join(CLOSE_TIMEOUT);
+
+        List<T> remaining = new ArrayList<>();
+        this.drain(remaining, Integer.MAX_VALUE);
+        if (!remaining.isEmpty()) {
+            this.send(remaining);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object item) {
+        return (T) item;
+    }
+
+    @FunctionalInterface
+    public interface Sender<T> {
+        void send(List<T> batch) throws QueueException;
+    }
+}
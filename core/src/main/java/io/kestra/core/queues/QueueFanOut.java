@@ -0,0 +1,97 @@
+package io.kestra.core.queues;
+
+import io.kestra.core.exceptions.DeserializationException;
+import io.kestra.core.utils.Either;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Share a single subscription to a queue between many subscribers, each one receiving only the messages of its key.
+ * <p>
+ * The queue is only consumed while there is at least one subscriber, so the number of subscribers doesn't change the
+ * load on the queue. Messages are dispatched on the queue consumer thread: subscribers must not block and should hand
+ * the message over to their own bounded buffer.
+ */
+@Slf4j
+public class QueueFanOut<T> {
+    private final QueueInterface<T> queue;
+
+    private final Function<T, String> keyExtractor;
+
+    private final Map<String, List<Consumer<T>>> subscribers = new ConcurrentHashMap<>();
+
+    private int subscriberCount = 0;
+
+    private Runnable queueCancellation;
+
+    public QueueFanOut(QueueInterface<T> queue, Function<T, String> keyExtractor) {
+        this.queue = queue;
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Subscribe to the messages of the given key.
+     *
+     * @return a runnable that cancels the subscription, it can safely be called many times.
+     */
+    public synchronized Runnable subscribe(String key, Consumer<T> consumer) {
+        this.subscribers.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(consumer);
+
+        if (this.subscriberCount++ == 0) {
+            this.queueCancellation = this.queue.receive(this::dispatch);
+        }
+
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        return () -> {
+            if (cancelled.compareAndSet(false, true)) {
+                this.unsubscribe(key, consumer);
+            }
+        };
+    }
+
+    private synchronized void unsubscribe(String key, Consumer<T> consumer) {
+        this.subscribers.computeIfPresent(key, (k, consumers) -> {
+            consumers.remove(consumer);
+            return consumers.isEmpty() ? null : consumers;
+        });
+
+        if (--this.subscriberCount == 0) {
+            this.queueCancellation.run();
+            this.queueCancellation = null;
+        }
+    }
+
+    private void dispatch(Either<T, DeserializationException> either) {
+        if (either.isRight()) {
+            log.error("Unable to deserialize a message: {}", either.getRight().getMessage());
+            return;
+        }
+
+        T message = either.getLeft();
+        String key = this.keyExtractor.apply(message);
+        if (key == null) {
+            return;
+        }
+
+        List<Consumer<T>> consumers = this.subscribers.get(key);
+        if (consumers == null) {
+            return;
+        }
+
+        for (Consumer<T> consumer : consumers) {
+            try {
+                consumer.accept(message);
+            } catch (RuntimeException e) {
+                // a failing subscriber must not prevent the others from receiving the message
+                log.warn("Unable to dispatch a message for the key '{}'", key, e);
+            }
+        }
+    }
+}
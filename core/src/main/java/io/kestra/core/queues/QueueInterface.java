@@ -4,6 +4,7 @@ import io.kestra.core.exceptions.DeserializationException;
 import io.kestra.core.utils.Either;
 
 import java.io.Closeable;
+import java.util.List;
 import java.util.function.Consumer;
 
 public interface QueueInterface<T> extends Closeable {
@@ -13,6 +14,20 @@ public interface QueueInterface<T> extends Closeable {
 
     void emit(String consumerGroup, T message) throws QueueException;
 
+    default void emit(List<T> messages) throws QueueException {
+        emit(null, messages);
+    }
+
+    /**
+     * Emit multiple messages at once, implementations may write them in a single round-trip.
+     * Messages are emitted in order; on failure, the messages before the failing one may have been emitted.
+     */
+    default void emit(String consumerGroup, List<T> messages) throws QueueException {
+        for (T message : messages) {
+            emit(consumerGroup, message);
+        }
+    }
+
     default void emitAsync(T message) throws QueueException {
         emitAsync(null, message);
     }
@@ -8,6 +8,7 @@ import jakarta.annotation.PreDestroy;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 
 /**
  * Interface for consuming the {@link WorkerJob} queue.
@@ -16,6 +17,18 @@ public interface WorkerJobQueueInterface extends Closeable {
 
     Runnable receive(String consumerGroup, Class<?> queueType, Consumer<Either<WorkerJob, DeserializationException>> consumer);
 
+    /**
+     * Receives at most as many jobs as the number of credits, the credits supplier being called before each fetch.
+     * While there are no credits left, the jobs stay in the queue so other consumers of the group can take them.
+     * <p>
+     * Implementations that can't limit their fetch size fall back to {@link #receive(String, Class, Consumer)}.
+     *
+     * @param credits the number of jobs the consumer can take now.
+     */
+    default Runnable receive(String consumerGroup, Class<?> queueType, IntSupplier credits, Consumer<Either<WorkerJob, DeserializationException>> consumer) {
+        return this.receive(consumerGroup, queueType, consumer);
+    }
+
     /**
      * Closes any resources used for the queue consumption.
      */
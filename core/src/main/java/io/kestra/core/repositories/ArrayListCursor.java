@@ -0,0 +1,34 @@
+package io.kestra.core.repositories;
+
+import jakarta.annotation.Nullable;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page fetched with a {@link KeysetPageable}, with the cursor of the next page.
+ * The total is -1 if it was not requested.
+ */
+@Getter
+public class ArrayListCursor<T> extends ArrayListTotal<T> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The cursor of the next page, null if this page is the last one.
+     */
+    @Nullable
+    private final String next;
+
+    public ArrayListCursor(List<T> list, long total, @Nullable String next) {
+        super(list, total);
+        this.next = next;
+    }
+
+    @Override
+    public <R> ArrayListCursor<R> map(Function<T, R> map) {
+        return new ArrayListCursor<>(this.stream().map(map).toList(), this.getTotal(), this.next);
+    }
+}
@@ -72,6 +72,25 @@ public interface ExecutionRepositoryInterface extends SaveRepositoryInterface<Ex
         @Nullable ChildFilter childFilter
     );
 
+    /**
+     * Same as {@link #find(Pageable, String, String, List, String, String, ZonedDateTime, ZonedDateTime, List, Map, String, ChildFilter)}
+     * but with the keyset pagination, to fetch deep pages in constant time.
+     */
+    ArrayListCursor<Execution> find(
+        KeysetPageable pageable,
+        @Nullable String query,
+        @Nullable String tenantId,
+        @Nullable List<FlowScope> scope,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        @Nullable List<State.Type> state,
+        @Nullable Map<String, String> labels,
+        @Nullable String triggerExecutionId,
+        @Nullable ChildFilter childFilter
+    );
+
     default Flux<Execution> find(
         @Nullable String query,
         @Nullable String tenantId,
@@ -102,6 +102,12 @@ public interface FlowRepositoryInterface {
 
     Integer lastRevision(String tenantId, String namespace, String id);
 
+    /**
+     * The highest revision of the flow that is not deleted, an index lookup to check that a flow is still current
+     * without reading its revisions. A deleted flow keeps its revision, so its previous one is returned, if any.
+     */
+    Optional<Integer> maxRevision(String tenantId, String namespace, String id);
+
     List<Flow> findAll(String tenantId);
 
     List<FlowWithSource> findAllWithSource(String tenantId);
@@ -0,0 +1,62 @@
+package io.kestra.core.repositories;
+
+import io.micronaut.data.model.Sort;
+import jakarta.annotation.Nullable;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * A page request for the keyset pagination: the rows are fetched after the last row of the previous page, identified
+ * by the cursor returned with it, instead of skipping all the rows of the previous pages. The cost of a page doesn't
+ * depend on its depth, and the total is only counted if requested.
+ * <p>
+ * Rows are sorted by the given sort then by key so the order is total, null values being last in ascending order and
+ * first in descending order. The row of the cursor must still exist when the next page is fetched.
+ */
+@Value
+public class KeysetPageable {
+    int size;
+
+    Sort sort;
+
+    /**
+     * The opaque cursor returned with the previous page, null for the first page.
+     */
+    @Nullable
+    String cursor;
+
+    boolean withTotal;
+
+    public static KeysetPageable from(int size, @Nullable Sort sort, @Nullable String cursor, boolean withTotal) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be greater than 0");
+        }
+
+        return new KeysetPageable(size, sort == null ? Sort.UNSORTED : sort, cursor, withTotal);
+    }
+
+    /**
+     * @return the key of the last row of the previous page, empty for the first page.
+     */
+    public Optional<String> after() {
+        if (this.cursor == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new String(Base64.getUrlDecoder().decode(this.cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor '" + this.cursor + "'", e);
+        }
+    }
+
+    /**
+     * @return the cursor of the page following the row with this key.
+     */
+    public static String cursor(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+}
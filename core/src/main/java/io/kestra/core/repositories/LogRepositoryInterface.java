@@ -8,6 +8,7 @@ import io.kestra.plugin.core.dashboard.data.Logs;
 import io.micronaut.data.model.Pageable;
 import jakarta.annotation.Nullable;
 import org.slf4j.event.Level;
+import reactor.core.publisher.Flux;
 
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -39,6 +40,43 @@ public interface LogRepositoryInterface extends SaveRepositoryInterface<LogEntry
 
     ArrayListTotal<LogEntry> findByExecutionId(String tenantId, String executionId, Level minLevel, Pageable pageable);
 
+    /**
+     * Streams all the log entries for the given tenant and execution, sorted by date, optionally filtered by tasks,
+     * task run and attempt. The log entries are fetched by pages, on demand, so they are never all loaded in memory.
+     * <p>
+     * This method will verify the current user's permissions.
+     *
+     * @param tenantId          The tenant's ID.
+     * @param executionId       The execution's ID.
+     * @param minLevel          The minimum log-level.
+     * @param taskRunId         The task run's ID.
+     * @param taskIds           The IDs of the tasks, all tasks if null or empty.
+     * @param attempt           The attempt number.
+     * @return A {@link Flux} of log entries.
+     */
+    Flux<LogEntry> findAllByExecutionId(
+        String tenantId,
+        String executionId,
+        @Nullable Level minLevel,
+        @Nullable String taskRunId,
+        @Nullable List<String> taskIds,
+        @Nullable Integer attempt
+    );
+
+    /**
+     * Same as {@link #findAllByExecutionId(String, String, Level, String, List, Integer)}.
+     * <p>
+     * This method will NOT verify the current user's permissions.
+     */
+    Flux<LogEntry> findAllByExecutionIdWithoutAcl(
+        String tenantId,
+        String executionId,
+        @Nullable Level minLevel,
+        @Nullable String taskRunId,
+        @Nullable List<String> taskIds,
+        @Nullable Integer attempt
+    );
+
     /**
      * This method is the same as {@link #findByExecutionId(String, String, Level)} but with
      * namespace and flow as additional parameters so that the logs are only found if it is an execution for this flow.
@@ -85,6 +123,22 @@ public interface LogRepositoryInterface extends SaveRepositoryInterface<LogEntry
         @Nullable ZonedDateTime endDate
     );
 
+    /**
+     * Same as {@link #find(Pageable, String, String, String, String, String, Level, ZonedDateTime, ZonedDateTime)}
+     * but with the keyset pagination, to fetch deep pages in constant time.
+     */
+    ArrayListCursor<LogEntry> find(
+        KeysetPageable pageable,
+        @Nullable String query,
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable String triggerId,
+        @Nullable Level minLevel,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate
+    );
+
     List<LogStatistics> statistics(
         @Nullable String query,
         @Nullable String tenantId,
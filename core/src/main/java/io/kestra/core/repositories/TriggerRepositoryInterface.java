@@ -30,6 +30,12 @@ public interface TriggerRepositoryInterface {
 
     ArrayListTotal<Trigger> find(Pageable from, String query, String tenantId, String namespace, String flowId, String workerId);
 
+    /**
+     * Same as {@link #find(Pageable, String, String, String, String, String)} but with the keyset pagination,
+     * to fetch deep pages in constant time.
+     */
+    ArrayListCursor<Trigger> find(KeysetPageable pageable, String query, String tenantId, String namespace, String flowId, String workerId);
+
     /**
      * Counts the total number of triggers.
      *
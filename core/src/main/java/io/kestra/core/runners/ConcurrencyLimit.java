@@ -0,0 +1,72 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.models.HasUID;
+import io.kestra.core.utils.IdUtils;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The running executions of a flow with a concurrency limit.
+ * <p>
+ * Execution ids are stored instead of a plain counter so adding or removing an execution twice has no effect.
+ */
+@Value
+@AllArgsConstructor
+@Builder
+public class ConcurrencyLimit implements HasUID {
+    String tenantId;
+
+    @NotNull
+    String namespace;
+
+    @NotNull
+    String flowId;
+
+    @NotNull
+    List<String> executionIds;
+
+    public static ConcurrencyLimit empty(String tenantId, String namespace, String flowId) {
+        return new ConcurrencyLimit(tenantId, namespace, flowId, List.of());
+    }
+
+    public int running() {
+        return this.executionIds.size();
+    }
+
+    public boolean isRunning(String executionId) {
+        return this.executionIds.contains(executionId);
+    }
+
+    public ConcurrencyLimit withRunning(String executionId) {
+        if (this.isRunning(executionId)) {
+            return this;
+        }
+
+        List<String> executionIds = new ArrayList<>(this.executionIds);
+        executionIds.add(executionId);
+
+        return new ConcurrencyLimit(this.tenantId, this.namespace, this.flowId, executionIds);
+    }
+
+    public ConcurrencyLimit withoutRunning(String executionId) {
+        if (!this.isRunning(executionId)) {
+            return this;
+        }
+
+        List<String> executionIds = new ArrayList<>(this.executionIds);
+        executionIds.remove(executionId);
+
+        return new ConcurrencyLimit(this.tenantId, this.namespace, this.flowId, executionIds);
+    }
+
+    /** {@inheritDoc **/
+    @Override
+    public String uid() {
+        return IdUtils.fromParts(this.tenantId, this.namespace, this.flowId);
+    }
+}
@@ -1,27 +1,65 @@
 package io.kestra.core.runners;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.FlowWithSource;
 import io.kestra.core.repositories.FlowRepositoryInterface;
 import io.kestra.core.services.FlowListenersInterface;
+import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
-import java.util.Objects;
-import lombok.Setter;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+/**
+ * Resolve flows from the last versions maintained by the {@link FlowListenersInterface}, indexed by uid,
+ * and from a bounded cache of older revisions loaded from the repository.
+ * As a flow revision never changes, cached revisions never need to be invalidated.
+ */
 @Singleton
 public class DefaultFlowExecutor implements FlowExecutorInterface {
     private final FlowRepositoryInterface flowRepository;
 
-    @Setter
+    private final MetricRegistry metricRegistry;
+
+    private final Cache<String, FlowWithSource> revisions;
+
     private List<FlowWithSource> allFlows;
 
-    public DefaultFlowExecutor(FlowListenersInterface flowListeners, FlowRepositoryInterface flowRepository) {
+    private volatile Map<String, FlowWithSource> lastVersions = Map.of();
+
+    public DefaultFlowExecutor(
+        FlowListenersInterface flowListeners,
+        FlowRepositoryInterface flowRepository,
+        MetricRegistry metricRegistry,
+        @Value("${kestra.executor.flow-cache-size:1000}") int flowCacheSize
+    ) {
         this.flowRepository = flowRepository;
+        this.metricRegistry = metricRegistry;
+        this.revisions = CacheBuilder.newBuilder()
+            .maximumSize(flowCacheSize)
+            .build();
+
+        flowListeners.listen(this::setAllFlows);
+    }
+
+    public void setAllFlows(List<FlowWithSource> allFlows) {
+        Map<String, FlowWithSource> lastVersions = HashMap.newHashMap(allFlows.size());
+        allFlows.forEach(flow -> {
+            lastVersions.put(flow.uidWithoutRevision(), flow);
+
+            if (flow.getRevision() != null) {
+                this.revisions.put(flow.uid(), flow);
+            }
+        });
 
-        flowListeners.listen(flows -> this.allFlows = flows);
+        this.allFlows = allFlows;
+        this.lastVersions = lastVersions;
     }
 
     @Override
@@ -31,20 +69,28 @@ public class DefaultFlowExecutor implements FlowExecutorInterface {
 
     @Override
     public Optional<FlowWithSource> findById(String tenantId, String namespace, String id, Optional<Integer> revision) {
-        Optional<FlowWithSource> find = this.allFlows
-            .stream()
-            .filter(flow -> ((flow.getTenantId() == null && tenantId == null) || Objects.equals(flow.getTenantId(), tenantId)) &&
-                flow.getNamespace().equals(namespace) &&
-                flow.getId().equals(id) &&
-                (revision.isEmpty() || revision.get().equals(flow.getRevision()))
-            )
-            .findFirst();
-
-        if (find.isPresent()) {
-            return find;
-        } else {
-            return flowRepository.findByIdWithSource(tenantId, namespace, id, revision);
+        FlowWithSource last = this.lastVersions.get(Flow.uidWithoutRevision(tenantId, namespace, id));
+        if (last != null && (revision.isEmpty() || revision.get().equals(last.getRevision()))) {
+            this.metricRegistry.counter(MetricRegistry.EXECUTOR_FLOW_CACHE_HIT_COUNT).increment();
+            return Optional.of(last);
         }
+
+        if (revision.isPresent()) {
+            FlowWithSource cached = this.revisions.getIfPresent(Flow.uid(tenantId, namespace, id, revision));
+            if (cached != null) {
+                this.metricRegistry.counter(MetricRegistry.EXECUTOR_FLOW_CACHE_HIT_COUNT).increment();
+                return Optional.of(cached);
+            }
+        }
+
+        this.metricRegistry.counter(MetricRegistry.EXECUTOR_FLOW_CACHE_MISS_COUNT).increment();
+
+        Optional<FlowWithSource> find = flowRepository.findByIdWithSource(tenantId, namespace, id, revision);
+        if (revision.isPresent()) {
+            find.ifPresent(flow -> this.revisions.put(Flow.uid(tenantId, namespace, id, revision), flow));
+        }
+
+        return find;
     }
 
     @Override
@@ -0,0 +1,126 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.queues.BatchingEmitter;
+import io.kestra.core.queues.QueueException;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.micronaut.context.annotation.Value;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buffer the logs of the tasks and triggers in a bounded queue, they are emitted to the log queue by a single thread
+ * in batches, as soon as a batch is full or when the flush interval is elapsed, so the queue can write them in a
+ * single multi-row insert instead of one insert per line. A batch that can't be emitted is dropped.
+ * <p>
+ * When the buffer is full, the {@link OverflowPolicy} decides if the task thread waits for the buffer to be flushed or
+ * if some lines are dropped.
+ */
+@Singleton
+@Slf4j
+public class LogBatcher {
+    private final QueueInterface<LogEntry> logQueue;
+    private final MetricRegistry metricRegistry;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final AtomicLong overflowed = new AtomicLong();
+    private final BatchingEmitter<LogEntry> emitter;
+
+    public LogBatcher(
+        @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED) QueueInterface<LogEntry> logQueue,
+        MetricRegistry metricRegistry,
+        @Value("${kestra.logs.batch.capacity:10000}") int capacity,
+        @Value("${kestra.logs.batch.size:500}") int batchSize,
+        @Value("${kestra.logs.batch.flush-interval:100ms}") Duration flushInterval,
+        @Value("${kestra.logs.batch.overflow-policy:BLOCK}") OverflowPolicy overflowPolicy,
+        @Value("${kestra.logs.batch.sample-rate:10}") int sampleRate
+    ) {
+        this.logQueue = logQueue;
+        this.metricRegistry = metricRegistry;
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = Math.max(sampleRate, 1);
+
+        this.emitter = new BatchingEmitter<>("log-batcher", capacity, batchSize, flushInterval, this::send, this::failed);
+    }
+
+    /**
+     * Add a log to the buffer, waiting for some space or dropping it if the buffer is full, depending on the overflow policy.
+     */
+    public void emit(LogEntry logEntry) {
+        if (this.emitter.offer(logEntry)) {
+            return;
+        }
+
+        boolean keep = switch (this.overflowPolicy) {
+            case BLOCK -> true;
+            case DROP_DEBUG -> !isDebug(logEntry);
+            case SAMPLE -> isSevere(logEntry) || this.overflowed.getAndIncrement() % this.sampleRate == 0;
+        };
+
+        if (!keep) {
+            this.dropped(1);
+            return;
+        }
+
+        try {
+            this.emitter.put(logEntry);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.dropped(1);
+        }
+    }
+
+    private static boolean isDebug(LogEntry logEntry) {
+        return logEntry.getLevel() == Level.DEBUG || logEntry.getLevel() == Level.TRACE;
+    }
+
+    private static boolean isSevere(LogEntry logEntry) {
+        return logEntry.getLevel() == Level.WARN || logEntry.getLevel() == Level.ERROR;
+    }
+
+    private void send(List<LogEntry> batch) throws QueueException {
+        this.logQueue.emit(batch);
+        this.metricRegistry.counter(MetricRegistry.METRIC_WORKER_LOG_FLUSHED_COUNT).increment(batch.size());
+    }
+
+    private void failed(List<LogEntry> batch, Exception e) {
+        log.warn("Unable to emit {} logs", batch.size(), e);
+        this.dropped(batch.size());
+    }
+
+    private void dropped(int count) {
+        this.metricRegistry.counter(MetricRegistry.METRIC_WORKER_LOG_DROPPED_COUNT, MetricRegistry.TAG_POLICY, this.overflowPolicy.name()).increment(count);
+    }
+
+    /**
+     * Flush the remaining lines, the ones emitted after are sent directly to the log queue.
+     */
+    @PreDestroy
+    public void close() throws InterruptedException {
+        this.emitter.close();
+    }
+
+    public enum OverflowPolicy {
+        /**
+         * Wait until there is some space in the buffer, slowing down the task.
+         */
+        BLOCK,
+        /**
+         * Drop the DEBUG and TRACE lines, wait for the others.
+         */
+        DROP_DEBUG,
+        /**
+         * Keep the WARN and ERROR lines and one line out of {@code sample-rate} for the others, drop the rest.
+         */
+        SAMPLE
+    }
+}
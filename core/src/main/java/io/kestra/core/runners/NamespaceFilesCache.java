@@ -0,0 +1,367 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.storages.FileAttributes;
+import io.kestra.core.storages.NamespaceFile;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.IdUtils;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.convert.format.ReadableBytesTypeConverter;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A worker-local cache of the namespace files, so the tasks using the same namespace files don't download all of them
+ * for each run.
+ * <p>
+ * The files are stored by the SHA-256 of their content, and indexed by tenant, namespace and path. An indexed file is
+ * only used if the last modified time and size of the namespace file in the storage didn't change since it was cached,
+ * otherwise it is downloaded again. Missing files are downloaded in parallel, and the least recently used files are
+ * evicted once the cache is bigger than its maximum size.
+ * <p>
+ * Files are copied into the working directory, or hard-linked with the {@link Materialization#HARDLINK} mode. A
+ * hard-linked file is the cached file itself: it is read-only, but a task running as the same user can make it writable
+ * and a task running as root ignores the permissions, so modifying it in place modifies it for all the tasks using it.
+ * The content of a hard-linked file is checked against its hash on each hit, and a modified file is downloaded again,
+ * but the tasks already using it see the modification. Only use hard links if the tasks never modify their namespace
+ * files, and not with task runners running as root.
+ */
+@Singleton
+@Slf4j
+public class NamespaceFilesCache {
+    private static final String CACHE_DIRECTORY = "kestra-namespace-files-cache";
+
+    private final StorageInterface storageInterface;
+    private final MetricRegistry metricRegistry;
+    private final boolean enabled;
+    private final long maxSize;
+    private final Materialization materialization;
+    private final Semaphore downloads;
+    private final Path directory;
+
+    private final Map<IndexKey, Indexed> index = new ConcurrentHashMap<>();
+    // content hash to size, in access order
+    private final LinkedHashMap<String, Long> blobs = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong size = new AtomicLong();
+
+    public NamespaceFilesCache(
+        StorageInterface storageInterface,
+        MetricRegistry metricRegistry,
+        @Value("${kestra.tasks.tmp-dir.path}") Optional<String> tmpdirPath,
+        @Value("${kestra.tasks.namespace-files.cache.enabled:true}") boolean enabled,
+        @Value("${kestra.tasks.namespace-files.cache.max-size:1GB}") String maxSize,
+        @Value("${kestra.tasks.namespace-files.cache.materialization:COPY}") Materialization materialization,
+        @Value("${kestra.tasks.namespace-files.cache.parallelism:16}") int parallelism
+    ) throws IOException {
+        this.storageInterface = storageInterface;
+        this.metricRegistry = metricRegistry;
+        this.enabled = enabled;
+        this.maxSize = new ReadableBytesTypeConverter().convert(maxSize, Number.class)
+            .orElseThrow(() -> new IllegalArgumentException("Invalid namespace files cache size '" + maxSize + "'"))
+            .longValue();
+        this.materialization = materialization;
+        this.downloads = new Semaphore(Math.max(parallelism, 1));
+        // the index is not persisted, so each instance has its own directory
+        this.directory = Path.of(tmpdirPath.orElse(System.getProperty("java.io.tmpdir")))
+            .resolve(CACHE_DIRECTORY)
+            .resolve(IdUtils.create());
+        Files.createDirectories(this.directory);
+
+        metricRegistry.gauge(MetricRegistry.NAMESPACE_FILES_CACHE_SIZE, this.size, AtomicLong::get);
+    }
+
+    /**
+     * Put the namespace files into the working directory of the run context.
+     *
+     * @param runContext     the run context of the task.
+     * @param namespaceFiles the namespace files to put into the working directory, in the namespace of the flow.
+     * @param overwrite      whether an existing file of the working directory is replaced, or is an error.
+     */
+    public void materialize(RunContext runContext, List<NamespaceFile> namespaceFiles, boolean overwrite) throws IOException {
+        String tenantId = runContext.flowInfo().tenantId();
+
+        if (!this.enabled) {
+            for (NamespaceFile namespaceFile : namespaceFiles) {
+                this.download(runContext, namespaceFile, overwrite);
+            }
+
+            return;
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(namespaceFiles.size());
+            for (NamespaceFile namespaceFile : namespaceFiles) {
+                futures.add(executor.submit(() -> {
+                    this.materialize(runContext, tenantId, namespaceFile, overwrite);
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    private void materialize(RunContext runContext, String tenantId, NamespaceFile namespaceFile, boolean overwrite) throws IOException, InterruptedException {
+        Path target = this.target(runContext, namespaceFile, overwrite);
+
+        IndexKey key = new IndexKey(tenantId, namespaceFile.namespace(), namespaceFile.path());
+
+        // the storage calls are bounded, like the downloads
+        FileAttributes attributes;
+        this.downloads.acquire();
+        try {
+            attributes = this.storageInterface.getAttributes(tenantId, namespaceFile.namespace(), namespaceFile.uri());
+        } finally {
+            this.downloads.release();
+        }
+
+        Indexed indexed = this.index.get(key);
+        if (indexed != null && indexed.lastModifiedTime() == attributes.getLastModifiedTime() && indexed.size() == attributes.getSize()) {
+            try {
+                Path blob = this.touch(indexed.hash());
+
+                if (this.materialization == Materialization.HARDLINK && !this.isIntact(indexed.hash(), blob)) {
+                    // modified in place through a hard link, it must not be served again
+                    log.warn("The cached namespace file '{}' was modified by a task, downloading it again", namespaceFile.path());
+                    this.discard(indexed.hash());
+                } else {
+                    this.link(blob, target);
+                    this.metricRegistry.counter(MetricRegistry.NAMESPACE_FILES_CACHE_HIT_COUNT).increment();
+                    return;
+                }
+            } catch (NoSuchFileException e) {
+                // evicted in the meantime
+            }
+        }
+
+        this.metricRegistry.counter(MetricRegistry.NAMESPACE_FILES_CACHE_MISS_COUNT).increment();
+
+        String hash;
+        this.downloads.acquire();
+        try {
+            hash = this.fetch(tenantId, namespaceFile);
+        } finally {
+            this.downloads.release();
+        }
+
+        this.index.put(key, new Indexed(attributes.getLastModifiedTime(), attributes.getSize(), hash));
+
+        try {
+            this.link(this.touch(hash), target);
+        } catch (NoSuchFileException e) {
+            // evicted by a concurrent task, download it directly
+            this.download(runContext, namespaceFile, true);
+        }
+    }
+
+    private Path target(RunContext runContext, NamespaceFile namespaceFile, boolean overwrite) throws IOException {
+        Path target = runContext.workingDir().resolve(Path.of(namespaceFile.path()));
+        Files.createDirectories(target.getParent());
+
+        if (Files.exists(target)) {
+            if (!overwrite) {
+                throw new FileAlreadyExistsException(target.toString());
+            }
+
+            Files.delete(target);
+        }
+
+        return target;
+    }
+
+    private void download(RunContext runContext, NamespaceFile namespaceFile, boolean overwrite) throws IOException {
+        InputStream content = runContext.storage().getFile(namespaceFile.uri());
+
+        if (overwrite) {
+            runContext.workingDir().putFile(Path.of(namespaceFile.path()), content);
+        } else {
+            runContext.workingDir().createFile(namespaceFile.path(), content);
+        }
+    }
+
+    /**
+     * Download a namespace file to the cache, and return the hash of its content.
+     */
+    private String fetch(String tenantId, NamespaceFile namespaceFile) throws IOException {
+        Path temp = Files.createTempFile(this.directory, null, ".tmp");
+
+        try {
+            MessageDigest digest = sha256();
+            long length;
+            try (
+                InputStream inputStream = new DigestInputStream(this.storageInterface.get(tenantId, namespaceFile.namespace(), namespaceFile.uri()), digest);
+                OutputStream outputStream = Files.newOutputStream(temp)
+            ) {
+                length = inputStream.transferTo(outputStream);
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path blob = this.blob(hash);
+
+            synchronized (this.blobs) {
+                if (!this.blobs.containsKey(hash)) {
+                    Files.createDirectories(blob.getParent());
+                    Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                    blob.toFile().setReadOnly();
+
+                    this.blobs.put(hash, length);
+                    this.size.addAndGet(length);
+                    this.evict(hash);
+                }
+            }
+
+            return hash;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path touch(String hash) throws NoSuchFileException {
+        synchronized (this.blobs) {
+            if (this.blobs.get(hash) == null) {
+                throw new NoSuchFileException(hash);
+            }
+
+            return this.blob(hash);
+        }
+    }
+
+    private boolean isIntact(String hash, Path blob) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream inputStream = new DigestInputStream(Files.newInputStream(blob), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+
+        return HexFormat.of().formatHex(digest.digest()).equals(hash);
+    }
+
+    private void discard(String hash) {
+        synchronized (this.blobs) {
+            Long length = this.blobs.remove(hash);
+            if (length == null) {
+                return;
+            }
+
+            this.size.addAndGet(-length);
+
+            try {
+                Files.deleteIfExists(this.blob(hash));
+            } catch (IOException e) {
+                log.warn("Unable to delete the cached namespace file '{}'", hash, e);
+            }
+        }
+    }
+
+    private void link(Path blob, Path target) throws IOException {
+        if (this.materialization == Materialization.HARDLINK) {
+            try {
+                Files.createLink(target, blob);
+                return;
+            } catch (UnsupportedOperationException | IOException e) {
+                // not supported by the file system, or the cache is on another file system
+                log.debug("Unable to hard-link '{}', copying it", target, e);
+            }
+        }
+
+        Files.copy(blob, target);
+        // the copy keeps the file writable for the task
+        target.toFile().setWritable(true);
+    }
+
+    private void evict(String added) {
+        Iterator<Map.Entry<String, Long>> iterator = this.blobs.entrySet().iterator();
+
+        while (this.size.get() > this.maxSize && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (eldest.getKey().equals(added)) {
+                continue;
+            }
+
+            try {
+                Files.deleteIfExists(this.blob(eldest.getKey()));
+            } catch (IOException e) {
+                log.warn("Unable to delete the cached namespace file '{}'", eldest.getKey(), e);
+            }
+
+            iterator.remove();
+            this.size.addAndGet(-eldest.getValue());
+            this.metricRegistry.counter(MetricRegistry.NAMESPACE_FILES_CACHE_EVICTED_COUNT).increment();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        try {
+            FileUtils.deleteDirectory(this.directory.toFile());
+        } catch (IOException e) {
+            log.warn("Unable to delete the namespace files cache '{}'", this.directory, e);
+        }
+    }
+
+    private Path blob(String hash) {
+        return this.directory.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public enum Materialization {
+        /**
+         * Copy the cached file into the working directory.
+         */
+        COPY,
+        /**
+         * Hard-link the cached file into the working directory, falling back to a copy if the file system doesn't support it.
+         * Unsafe if the tasks modify their namespace files in place or run as root, see {@link NamespaceFilesCache}.
+         */
+        HARDLINK
+    }
+
+    private record IndexKey(String tenantId, String namespace, String path) {}
+
+    private record Indexed(long lastModifiedTime, long size, String hash) {}
+}
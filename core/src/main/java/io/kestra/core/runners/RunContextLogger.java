@@ -34,6 +34,7 @@ public class RunContextLogger implements Supplier<org.slf4j.Logger> {
     private final String loggerName;
     private Logger logger;
     private QueueInterface<LogEntry> logQueue;
+    private LogBatcher logBatcher;
     private LogEntry logEntry;
     private Level loglevel;
     private List<String> useSecrets = new ArrayList<>();
@@ -49,12 +50,17 @@ public class RunContextLogger implements Supplier<org.slf4j.Logger> {
     }
 
     public RunContextLogger(QueueInterface<LogEntry> logQueue, LogEntry logEntry, org.slf4j.event.Level loglevel, boolean logToFile) {
+        this(logQueue, null, logEntry, loglevel, logToFile);
+    }
+
+    public RunContextLogger(QueueInterface<LogEntry> logQueue, LogBatcher logBatcher, LogEntry logEntry, org.slf4j.event.Level loglevel, boolean logToFile) {
         if (logEntry.getExecutionId() != null) {
             this.loggerName = "flow." + logEntry.getFlowId() + "." + logEntry.getExecutionId() + (logEntry.getTaskRunId() != null ? "." + logEntry.getTaskRunId() : "");
         } else {
             this.loggerName = "flow." + logEntry.getFlowId() + "." + logEntry.getTriggerId();
         }
         this.logQueue = logQueue;
+        this.logBatcher = logBatcher;
         this.logEntry = logEntry;
         this.loglevel = loglevel == null ? Level.TRACE : Level.toLevel(loglevel.toString());
         this.logToFile = logToFile;
@@ -158,7 +164,7 @@ public class RunContextLogger implements Supplier<org.slf4j.Logger> {
 
             // unit tests don't always have the log queue as we construct a logger directly without it
             if (this.logQueue != null && !this.logToFile) {
-                ContextAppender contextAppender = new ContextAppender(this, this.logger, this.logQueue, this.logEntry);
+                ContextAppender contextAppender = new ContextAppender(this, this.logger, this.logQueue, this.logBatcher, this.logEntry);
                 contextAppender.setContext(loggerContext);
                 contextAppender.start();
 
@@ -261,6 +267,11 @@ public class RunContextLogger implements Supplier<org.slf4j.Logger> {
         }
 
         protected ILoggingEvent transform(ILoggingEvent event) {
+            // nothing to mask, avoid copying the event for each appender
+            if (runContextLogger.useSecrets.isEmpty()) {
+                return event;
+            }
+
             try {
                 String message = replaceSecret(event.getMessage());
                 Object[] argumentArray = replaceSecret(event.getArgumentArray());
@@ -282,11 +293,17 @@ public class RunContextLogger implements Supplier<org.slf4j.Logger> {
 
     public static class ContextAppender extends BaseAppender {
         private final QueueInterface<LogEntry> logQueue;
+        private final LogBatcher logBatcher;
         private final LogEntry logEntry;
 
         public ContextAppender(RunContextLogger runContextLogger, Logger logger, QueueInterface<LogEntry> logQueue, LogEntry logEntry) {
+            this(runContextLogger, logger, logQueue, null, logEntry);
+        }
+
+        public ContextAppender(RunContextLogger runContextLogger, Logger logger, QueueInterface<LogEntry> logQueue, LogBatcher logBatcher, LogEntry logEntry) {
             super(runContextLogger, logger);
             this.logQueue = logQueue;
+            this.logBatcher = logBatcher;
             this.logEntry = logEntry;
         }
 
@@ -294,14 +311,18 @@ public class RunContextLogger implements Supplier<org.slf4j.Logger> {
         protected void append(ILoggingEvent e) {
             e = this.transform(e);
 
-            logEntries(e, logEntry)
-                .forEach(log -> {
-                    try {
-                        logQueue.emitAsync(log);
-                    } catch (QueueException ex) {
-                        // silently do nothing
-                    }
-                });
+            for (LogEntry log : logEntries(e, logEntry)) {
+                if (logBatcher != null) {
+                    logBatcher.emit(log);
+                    continue;
+                }
+
+                try {
+                    logQueue.emitAsync(log);
+                } catch (QueueException ex) {
+                    // silently do nothing
+                }
+            }
         }
     }
 
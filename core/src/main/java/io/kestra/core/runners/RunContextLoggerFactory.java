@@ -23,9 +23,13 @@ public class RunContextLoggerFactory {
     @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED)
     private QueueInterface<LogEntry> logQueue;
 
+    @Inject
+    private LogBatcher logBatcher;
+
     public RunContextLogger create(TaskRun taskRun, Task task) {
         return new RunContextLogger(
             logQueue,
+            logBatcher,
             LogEntry.of(taskRun),
             task.getLogLevel(),
             task.isLogToFile()
@@ -35,6 +39,7 @@ public class RunContextLoggerFactory {
     public RunContextLogger create(Execution execution) {
         return new RunContextLogger(
             logQueue,
+            logBatcher,
             LogEntry.of(execution),
             null,
             false
@@ -44,6 +49,7 @@ public class RunContextLoggerFactory {
     public RunContextLogger create(TriggerContext triggerContext, AbstractTrigger trigger) {
         return new RunContextLogger(
             logQueue,
+            logBatcher,
             LogEntry.of(triggerContext, trigger),
             trigger.getLogLevel(),
             trigger.isLogToFile()
@@ -53,6 +59,7 @@ public class RunContextLoggerFactory {
     public RunContextLogger create(Flow flow, AbstractTrigger trigger) {
         return new RunContextLogger(
             logQueue,
+            logBatcher,
             LogEntry.of(flow, trigger),
             trigger.getLogLevel(),
             trigger.isLogToFile()
@@ -264,10 +264,12 @@ public class VariableRenderer {
             this.cacheEnabled = true;
             this.cacheSize = 1000;
             this.recursiveRendering = false;
+            this.jqCacheSize = 1000;
         }
 
         Boolean cacheEnabled;
         Integer cacheSize;
         Boolean recursiveRendering;
+        Integer jqCacheSize;
     }
 }
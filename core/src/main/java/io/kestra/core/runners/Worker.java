@@ -228,15 +228,18 @@ public class Worker implements Service, Runnable, AutoCloseable {
             }
         }));
 
+        // only fetch as many jobs as there are free threads, so the others stay in the queue for the other workers
         this.receiveCancellations.addFirst(this.workerJobQueue.receive(
             this.workerGroup,
             Worker.class,
+            () -> numThreads - pendingJobCount.get() - runningJobCount.get(),
             either -> {
                 pendingJobCount.incrementAndGet();
 
                 executorService.execute(() -> {
-                    pendingJobCount.decrementAndGet();
+                    // increment first so the job is never missing from the credits computation
                     runningJobCount.incrementAndGet();
+                    pendingJobCount.decrementAndGet();
 
                     try {
                         if (either.isRight()) {
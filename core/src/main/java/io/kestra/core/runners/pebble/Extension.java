@@ -1,5 +1,7 @@
 package io.kestra.core.runners.pebble;
 
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.runners.VariableRenderer;
 import io.kestra.core.runners.pebble.expression.NullCoalescingExpression;
 import io.kestra.core.runners.pebble.expression.UndefinedCoalescingExpression;
 import io.kestra.core.runners.pebble.filters.*;
@@ -51,6 +53,14 @@ public class Extension extends AbstractExtension {
     @Nullable
     private ErrorLogsFunction errorLogsFunction;
 
+    @Inject
+    @Nullable
+    private VariableRenderer.VariableConfiguration variableConfiguration;
+
+    @Inject
+    @Nullable
+    private MetricRegistry metricRegistry;
+
     @Override
     public List<TokenParser> getTokenParsers() {
         return null;
@@ -83,7 +93,10 @@ public class Extension extends AbstractExtension {
         filters.put("timestamp", new TimestampFilter());
         filters.put("timestampMicro", new TimestampMicroFilter());
         filters.put("timestampNano", new TimestampNanoFilter());
-        filters.put("jq", new JqFilter());
+        filters.put("jq", variableConfiguration != null ?
+            new JqFilter(variableConfiguration.getJqCacheSize(), metricRegistry) :
+            new JqFilter()
+        );
         filters.put("escapeChar", new EscapeCharFilter());
         filters.put("json", new JsonFilter());
         filters.put("toJson", new ToJsonFilter());
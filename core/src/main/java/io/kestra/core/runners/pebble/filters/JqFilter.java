@@ -1,8 +1,12 @@
 package io.kestra.core.runners.pebble.filters;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.fasterxml.jackson.databind.node.*;
+import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.serializers.JacksonMapper;
+import io.micronaut.core.annotation.Nullable;
 import io.pebbletemplates.pebble.error.PebbleException;
 import io.pebbletemplates.pebble.extension.Filter;
 import io.pebbletemplates.pebble.template.EvaluationContext;
@@ -11,19 +15,33 @@ import net.thisptr.jackson.jq.BuiltinFunctionLoader;
 import net.thisptr.jackson.jq.JsonQuery;
 import net.thisptr.jackson.jq.Scope;
 import net.thisptr.jackson.jq.Versions;
+import net.thisptr.jackson.jq.exception.JsonQueryException;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 public class JqFilter implements Filter {
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+
     private final Scope scope;
     private final List<String> argumentNames = new ArrayList<>();
+    // compiled queries are immutable and can be applied concurrently on the shared builtin scope
+    private final Cache<String, JsonQuery> queries;
+    private final MetricRegistry metricRegistry;
 
     public JqFilter() {
+        this(DEFAULT_CACHE_SIZE, null);
+    }
+
+    public JqFilter(int cacheSize, @Nullable MetricRegistry metricRegistry) {
         scope = Scope.newEmptyScope();
         BuiltinFunctionLoader.getInstance().loadFunctions(Versions.JQ_1_6, scope);
         this.argumentNames.add("expression");
+        this.queries = CacheBuilder.newBuilder()
+            .maximumSize(cacheSize)
+            .build();
+        this.metricRegistry = metricRegistry;
     }
 
     @Override
@@ -43,15 +61,14 @@ public class JqFilter implements Filter {
 
         String pattern = (String) args.get("expression");
 
-        Scope rootScope = Scope.newEmptyScope();
-        BuiltinFunctionLoader.getInstance().loadFunctions(Versions.JQ_1_6, rootScope);
         try {
-
-            JsonQuery q = JsonQuery.compile(pattern, Versions.JQ_1_6);
+            JsonQuery q = this.compile(pattern);
 
             JsonNode in;
             if (input instanceof String stringValue) {
                 in = JacksonMapper.ofJson().readTree(stringValue);
+            } else if (input instanceof JsonNode jsonNode) {
+                in = jsonNode;
             } else {
                 in = JacksonMapper.ofJson().valueToTree(input);
             }
@@ -85,4 +102,26 @@ public class JqFilter implements Filter {
             throw new PebbleException(e, "Unable to parse jq value '" + input + "' with type '" + input.getClass().getName() + "'", lineNumber, self.getName());
         }
     }
+
+    private JsonQuery compile(String pattern) throws JsonQueryException {
+        JsonQuery query = this.queries.getIfPresent(pattern);
+        if (query != null) {
+            this.count(MetricRegistry.JQ_CACHE_HIT_COUNT);
+            return query;
+        }
+
+        this.count(MetricRegistry.JQ_CACHE_MISS_COUNT);
+
+        // compiled outside the cache loader, so an invalid expression is reported as is and never cached
+        query = JsonQuery.compile(pattern, Versions.JQ_1_6);
+        this.queries.put(pattern, query);
+
+        return query;
+    }
+
+    private void count(String metric) {
+        if (this.metricRegistry != null) {
+            this.metricRegistry.counter(metric).increment();
+        }
+    }
 }
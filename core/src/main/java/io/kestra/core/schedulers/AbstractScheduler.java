@@ -88,6 +88,9 @@ public abstract class AbstractScheduler implements Scheduler, Service {
     @Getter
     private volatile Map<String, FlowWithWorkerTriggerNextDate> schedulableNextDate = new ConcurrentHashMap<>();
 
+    // last version of each flow by uid, seeded on the first flow listener notification then maintained on each flow update
+    private volatile Map<String, FlowWithSource> flowsByUid = new ConcurrentHashMap<>();
+
     private final String id = IdUtils.create();
 
     private final AtomicBoolean shutdown = new AtomicBoolean(false);
@@ -128,6 +131,8 @@ public abstract class AbstractScheduler implements Scheduler, Service {
     @Override
     public void run() {
         this.flowListeners.run();
+        // must be registered before the initialization so no flow update is missed between the seed of the index and its maintenance
+        this.flowListeners.listen(this::updateFlowIndex);
         this.flowListeners.listen(this::initializedTriggers);
 
         ScheduledFuture<?> handle = scheduleExecutor.scheduleAtFixedRate(
@@ -249,6 +254,12 @@ public abstract class AbstractScheduler implements Scheduler, Service {
     private void initializedTriggers(List<FlowWithSource> flows) {
         record FlowAndTrigger(FlowWithSource flow, AbstractTrigger trigger) {
         }
+        if (!this.isReady) {
+            Map<String, FlowWithSource> index = new ConcurrentHashMap<>();
+            flows.forEach(flow -> index.put(flow.uidWithoutRevision(), flow));
+            this.flowsByUid = index;
+        }
+
         List<Trigger> triggers = triggerState.findAllForAllTenants();
 
         flows
@@ -348,57 +359,77 @@ public abstract class AbstractScheduler implements Scheduler, Service {
         }
     }
 
-    private List<FlowWithTriggers> computeSchedulable(List<FlowWithSource> flows, List<Trigger> triggerContextsToEvaluate, ScheduleContextInterface scheduleContext) {
-        List<String> flowToKeep = triggerContextsToEvaluate.stream().map(Trigger::getFlowId).toList();
+    private void updateFlowIndex(FlowWithSource flow, FlowWithSource previous) {
+        if (flow.isDeleted()) {
+            this.flowsByUid.remove(flow.uidWithoutRevision());
+        } else {
+            this.flowsByUid.put(flow.uidWithoutRevision(), flow);
+        }
+    }
 
-        return flows
-            .stream()
-            .filter(flow -> flowToKeep.contains(flow.getId()))
-            .filter(flow -> flow.getTriggers() != null && !flow.getTriggers().isEmpty())
-            .filter(flow -> !flow.isDisabled() && !(flow instanceof FlowWithException))
-            .flatMap(flow -> flow.getTriggers()
+    /**
+     * The run and condition contexts are mutated and cleaned up by each evaluation, so they are never shared between
+     * evaluations of the same trigger.
+     */
+    @VisibleForTesting
+    FlowWithTriggers flowWithTriggers(FlowWithSource flow, AbstractTrigger abstractTrigger, Trigger triggerContext) {
+        RunContext runContext = runContextFactory.of(flow, abstractTrigger);
+        ConditionContext conditionContext = conditionService.conditionContext(runContext, flow, null);
+
+        return new FlowWithTriggers(
+            flow,
+            abstractTrigger,
+            triggerContext,
+            runContext,
+            conditionContext.withVariables(
+                ImmutableMap.of("trigger",
+                    ImmutableMap.of("date", triggerContext.getNextExecutionDate() != null ?
+                        triggerContext.getNextExecutionDate() : now())
+                ))
+        );
+    }
+
+    private List<FlowWithTriggers> computeSchedulable(List<Trigger> triggerContextsToEvaluate, ScheduleContextInterface scheduleContext) {
+        Map<String, FlowWithSource> flows = this.flowsByUid;
+        List<FlowWithTriggers> schedulable = new ArrayList<>(triggerContextsToEvaluate.size());
+
+        for (Trigger lastTrigger : triggerContextsToEvaluate) {
+            // If the flow of a trigger to evaluate is not known, then we ignore it
+            FlowWithSource flow = flows.get(lastTrigger.flowUid());
+            if (flow == null || flow.isDisabled() || flow instanceof FlowWithException) {
+                continue;
+            }
+
+            AbstractTrigger abstractTrigger = ListUtils.emptyOnNull(flow.getTriggers())
                 .stream()
-                .filter(abstractTrigger -> !abstractTrigger.isDisabled() && abstractTrigger instanceof WorkerTriggerInterface)
-                .map(abstractTrigger -> {
-                    RunContext runContext = runContextFactory.of(flow, abstractTrigger);
-                    ConditionContext conditionContext = conditionService.conditionContext(runContext, flow, null);
-                    Trigger triggerContext = null;
-                    Trigger lastTrigger = triggerContextsToEvaluate
-                        .stream()
-                        .filter(triggerContextToFind -> triggerContextToFind.uid().equals(Trigger.uid(flow, abstractTrigger)))
-                        .findFirst()
-                        .orElse(null);
-                    // If a trigger is not found in triggers to evaluate, then we ignore it
-                    if (lastTrigger == null) {
-                        return null;
-                        // Backwards compatibility: we add a next execution date that we compute, this avoids re-triggering all existing triggers
-                    } else if (lastTrigger.getNextExecutionDate() == null) {
-                        try {
-                            triggerContext = lastTrigger.toBuilder()
-                                .nextExecutionDate(this.nextEvaluationDate(abstractTrigger, conditionContext, Optional.of(lastTrigger)))
-                                .build();
-                        } catch (Exception e) {
-                            logError(conditionContext, flow, abstractTrigger, e);
-                            return null;
-                        }
-                        this.triggerState.save(triggerContext, scheduleContext);
-                    } else {
-                        triggerContext = lastTrigger;
-                    }
-                    return new FlowWithTriggers(
-                        flow,
-                        abstractTrigger,
-                        triggerContext,
-                        runContext,
-                        conditionContext.withVariables(
-                            ImmutableMap.of("trigger",
-                                ImmutableMap.of("date", triggerContext.getNextExecutionDate() != null ?
-                                    triggerContext.getNextExecutionDate() : now())
-                            ))
-                    );
-                })
-            )
-            .filter(Objects::nonNull).toList();
+                .filter(t -> t.getId().equals(lastTrigger.getTriggerId()))
+                .findFirst()
+                .orElse(null);
+            if (abstractTrigger == null || abstractTrigger.isDisabled() || !(abstractTrigger instanceof WorkerTriggerInterface)) {
+                continue;
+            }
+
+            Trigger triggerContext;
+            // Backwards compatibility: we add a next execution date that we compute, this avoids re-triggering all existing triggers
+            if (lastTrigger.getNextExecutionDate() == null) {
+                ConditionContext conditionContext = conditionService.conditionContext(runContextFactory.of(flow, abstractTrigger), flow, null);
+                try {
+                    triggerContext = lastTrigger.toBuilder()
+                        .nextExecutionDate(this.nextEvaluationDate(abstractTrigger, conditionContext, Optional.of(lastTrigger)))
+                        .build();
+                } catch (Exception e) {
+                    logError(conditionContext, flow, abstractTrigger, e);
+                    continue;
+                }
+                this.triggerState.save(triggerContext, scheduleContext);
+            } else {
+                triggerContext = lastTrigger;
+            }
+
+            schedulable.add(this.flowWithTriggers(flow, abstractTrigger, triggerContext));
+        }
+
+        return schedulable;
     }
 
     abstract public void handleNext(List<FlowWithSource> flows, ZonedDateTime now, BiConsumer<List<Trigger>, ScheduleContextInterface> consumer);
@@ -427,6 +458,7 @@ public abstract class AbstractScheduler implements Scheduler, Service {
             return;
         }
 
+        Instant start = Instant.now();
         ZonedDateTime now = now();
 
         this.handleNext(this.flowListeners.flows(), now, (triggers, scheduleContext) -> {
@@ -438,7 +470,7 @@ public abstract class AbstractScheduler implements Scheduler, Service {
                 .filter(trigger -> Boolean.FALSE.equals(trigger.getDisabled()))
                 .toList();
 
-            List<FlowWithTriggers> schedulable = this.computeSchedulable(flowListeners.flows(), triggerContextsToEvaluate, scheduleContext);
+            List<FlowWithTriggers> schedulable = this.computeSchedulable(triggerContextsToEvaluate, scheduleContext);
 
             metricRegistry
                 .counter(MetricRegistry.SCHEDULER_LOOP_COUNT)
@@ -449,7 +481,7 @@ public abstract class AbstractScheduler implements Scheduler, Service {
                     "Scheduler next iteration for {} with {} schedulables of {} flows",
                     now,
                     schedulable.size(),
-                    this.flowListeners.flows().size()
+                    this.flowsByUid.size()
                 );
             }
 
@@ -568,6 +600,10 @@ public abstract class AbstractScheduler implements Scheduler, Service {
                     }
                 });
         });
+
+        metricRegistry
+            .timer(MetricRegistry.SCHEDULER_LOOP_DURATION)
+            .record(Duration.between(start, Instant.now()));
     }
 
     private void handleEvaluateWorkerTriggerResult(SchedulerExecutionWithTrigger result, ZonedDateTime nextExecutionDate) {
@@ -1,29 +1,47 @@
 package io.kestra.core.services;
 
+import com.google.common.annotations.VisibleForTesting;
 import io.kestra.core.models.executions.LogEntry;
 import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueFanOut;
 import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.repositories.LogRepositoryInterface;
 import io.micronaut.http.sse.Event;
+import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
 import org.slf4j.event.Level;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
  * Service for fetching logs for from an execution.
  */
 @Singleton
+@Slf4j
 public class ExecutionLogService {
+    private static final int FOLLOW_BUFFER_SIZE = 8192;
+    private static final int STREAM_PREFETCH = 256;
+    // the realtime logs can be older than the subscription, as they are written by batches
+    private static final Duration REPLAY_OVERLAP = Duration.ofMinutes(1);
 
     @Inject
     private LogRepositoryInterface logRepository;
@@ -32,40 +50,48 @@ public class ExecutionLogService {
     @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED)
     protected QueueInterface<LogEntry> logQueue;
 
+    // a single log queue subscription for all the followers of this instance
+    private QueueFanOut<LogEntry> logFanOut;
+
+    @PostConstruct
+    void initFanOut() {
+        this.logFanOut = new QueueFanOut<>(this.logQueue, LogEntry::getExecutionId);
+    }
+
     public Flux<Event<LogEntry>> streamExecutionLogs(final String tenantId,
                                                      final String executionId,
                                                      final Level minLevel,
                                                      final boolean withAccessControl) {
+        return Flux.defer(() -> {
+            final List<String> levels = LogEntry.findLevelsByMin(minLevel).stream().map(Enum::name).toList();
 
-        final AtomicReference<Runnable> disposable = new AtomicReference<>();
-
-        return Flux.<Event<LogEntry>>create(emitter -> {
-                // fetch repository first
-                getExecutionLogs(tenantId, executionId, minLevel, List.of(), withAccessControl)
-                    .forEach(logEntry -> emitter.next(Event.of(logEntry).id("progress")));
-
-                final List<String> levels = LogEntry.findLevelsByMin(minLevel).stream().map(Enum::name).toList();
-
-                // consume in realtime
-                disposable.set(this.logQueue.receive(either -> {
-                    if (either.isRight()) {
-                        return;
+            // subscribe before fetching the repository, realtime logs are buffered until the repository ones are sent
+            final Sinks.Many<Event<LogEntry>> realtime = Sinks.many().unicast().onBackpressureBuffer(Queues.<Event<LogEntry>>get(FOLLOW_BUFFER_SIZE).get());
+            final AtomicBoolean overflowed = new AtomicBoolean(false);
+            final Runnable cancel = this.logFanOut.subscribe(executionId, current -> {
+                if (levels.contains(current.getLevel().name())) {
+                    Sinks.EmitResult result = realtime.tryEmitNext(Event.of(current).id("progress"));
+                    if (result == Sinks.EmitResult.FAIL_OVERFLOW && overflowed.compareAndSet(false, true)) {
+                        log.warn("Too many pending logs for a follower of the execution '{}', new logs are dropped until it catches up", executionId);
+                    } else if (result.isSuccess()) {
+                        overflowed.set(false);
                     }
-
-                    LogEntry current = either.getLeft();
-
-                    if (current.getExecutionId() != null && current.getExecutionId().equals(executionId)) {
-                        if (levels.contains(current.getLevel().name())) {
-                            emitter.next(Event.of(current).id("progress"));
-                        }
-                    }
-                }));
-            }, FluxSink.OverflowStrategy.BUFFER)
-            .doFinally(ignored -> {
-                if (disposable.get() != null) {
-                    disposable.get().run();
                 }
             });
+
+            // realtime logs written before the repository was fetched are also in the repository ones
+            final ReplayedLogs replayed = new ReplayedLogs(Instant.now().minus(REPLAY_OVERLAP));
+
+            return Flux
+                .concat(
+                    findExecutionLogs(tenantId, executionId, minLevel, null, null, null, withAccessControl)
+                        .doOnNext(replayed::add)
+                        .map(logEntry -> Event.of(logEntry).id("progress")),
+                    realtime.asFlux()
+                        .filter(event -> !replayed.remove(event.getData()))
+                )
+                .doFinally(ignored -> cancel.run());
+        });
     }
 
     public InputStream getExecutionLogsAsStream(String tenantId,
@@ -75,8 +101,44 @@ public class ExecutionLogService {
                                                 List<String> taskIds,
                                                 Integer attempt,
                                                 boolean withAccessControl) {
-        List<LogEntry> logs = getExecutionLogs(tenantId, executionId, minLevel, taskRunId, taskIds, attempt, withAccessControl);
-        return new ByteArrayInputStream(logs.stream().map(LogEntry::toPrettyString).collect(Collectors.joining("\n")).getBytes());
+        return getExecutionLogsAsStream(tenantId, executionId, minLevel, taskRunId, taskIds, attempt, withAccessControl, LogEntry::toPrettyString);
+    }
+
+    /**
+     * Get the logs as an input stream with a line by log entry, the log entries are fetched while the stream is read
+     * and closing the stream stops fetching them.
+     */
+    public InputStream getExecutionLogsAsStream(String tenantId,
+                                                String executionId,
+                                                Level minLevel,
+                                                String taskRunId,
+                                                List<String> taskIds,
+                                                Integer attempt,
+                                                boolean withAccessControl,
+                                                Function<LogEntry, String> formatter) {
+        return new LogsInputStream(
+            findExecutionLogs(tenantId, executionId, minLevel, taskRunId, taskIds, attempt, withAccessControl),
+            formatter
+        );
+    }
+
+    /**
+     * Find the logs without loading them all in memory, the task ids take precedence over the task run and attempt,
+     * like in {@link #getExecutionLogs(String, String, Level, String, List, Integer, boolean)}.
+     */
+    public Flux<LogEntry> findExecutionLogs(String tenantId,
+                                            String executionId,
+                                            Level minLevel,
+                                            String taskRunId,
+                                            List<String> taskIds,
+                                            Integer attempt,
+                                            boolean withAccessControl) {
+        String finalTaskRunId = taskIds != null ? null : taskRunId;
+        Integer finalAttempt = taskIds != null || taskRunId == null ? null : attempt;
+
+        return withAccessControl ?
+            logRepository.findAllByExecutionId(tenantId, executionId, minLevel, finalTaskRunId, taskIds, finalAttempt) :
+            logRepository.findAllByExecutionIdWithoutAcl(tenantId, executionId, minLevel, finalTaskRunId, taskIds, finalAttempt);
     }
 
     public List<LogEntry> getExecutionLogs(String tenantId,
@@ -130,4 +192,108 @@ public class ExecutionLogService {
             .stream()
             .filter(data -> taskIds.isEmpty() || taskIds.contains(data.getTaskId()));
     }
+
+    /**
+     * The logs replayed from the repository that can also be received in realtime, the ones with a timestamp after the
+     * start of the overlap with the realtime logs.
+     * Logs have no id, so they are compared by value, and a realtime log is only dropped if the same log was replayed,
+     * whatever the order of their timestamps.
+     */
+    @VisibleForTesting
+    static class ReplayedLogs {
+        private final Instant since;
+        // the same log can be written several times
+        private final Map<LogEntry, Integer> logs = new HashMap<>();
+
+        ReplayedLogs(Instant since) {
+            this.since = since;
+        }
+
+        synchronized void add(LogEntry logEntry) {
+            if (logEntry.getTimestamp() != null && !logEntry.getTimestamp().isBefore(this.since)) {
+                this.logs.merge(logEntry, 1, Integer::sum);
+            }
+        }
+
+        /**
+         * @return whether this log was replayed, it is then forgotten as the same log is received only once.
+         */
+        synchronized boolean remove(LogEntry logEntry) {
+            Integer count = this.logs.get(logEntry);
+            if (count == null) {
+                return false;
+            }
+
+            if (count > 1) {
+                this.logs.put(logEntry, count - 1);
+            } else {
+                this.logs.remove(logEntry);
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * An input stream of the formatted logs, a line by log entry.
+     * The logs are consumed as a blocking stream, closing it cancels the subscription so the remaining logs are
+     * never fetched.
+     */
+    @VisibleForTesting
+    static class LogsInputStream extends InputStream {
+        private final Stream<LogEntry> logs;
+        private final Iterator<LogEntry> iterator;
+        private final Function<LogEntry, String> formatter;
+
+        private InputStream current = InputStream.nullInputStream();
+        private boolean first = true;
+        private boolean closed = false;
+
+        LogsInputStream(Flux<LogEntry> logs, Function<LogEntry, String> formatter) {
+            this.logs = logs.toStream(STREAM_PREFETCH);
+            this.iterator = this.logs.iterator();
+            this.formatter = formatter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] bytes = new byte[1];
+
+            return this.read(bytes, 0, 1) == -1 ? -1 : bytes[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+
+            if (this.closed) {
+                throw new IOException("Stream closed");
+            }
+
+            if (length == 0) {
+                return 0;
+            }
+
+            int read;
+            while ((read = this.current.read(bytes, offset, length)) == -1) {
+                if (!this.iterator.hasNext()) {
+                    return -1;
+                }
+
+                String line = this.formatter.apply(this.iterator.next());
+                this.current = new ByteArrayInputStream((this.first ? line : "\n" + line).getBytes(StandardCharsets.UTF_8));
+                this.first = false;
+            }
+
+            return read;
+        }
+
+        @Override
+        public void close() {
+            if (!this.closed) {
+                this.closed = true;
+                this.logs.close();
+            }
+        }
+    }
 }
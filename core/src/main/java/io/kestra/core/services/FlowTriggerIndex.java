@@ -0,0 +1,150 @@
+package io.kestra.core.services;
+
+import io.kestra.core.models.conditions.Condition;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.FlowWithException;
+import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.models.triggers.AbstractTrigger;
+import io.kestra.core.utils.ListUtils;
+import io.kestra.plugin.core.condition.ExecutionFlow;
+import io.kestra.plugin.core.condition.ExecutionNamespace;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Index of the {@link io.kestra.plugin.core.trigger.Flow} triggers of a set of flows, maintained on each flow change,
+ * to only evaluate the triggers that can be fired by an execution.
+ * <p>
+ * Triggers are indexed by the states they listen to and by the upstream flow or namespace of their
+ * {@link ExecutionFlow} or {@link ExecutionNamespace} (with an equals comparison) conditions. As all trigger
+ * conditions must be valid, a trigger with such a condition can only be fired by an execution of this flow or
+ * namespace. Other triggers are candidates for any execution in the states they listen to.
+ */
+public class FlowTriggerIndex {
+    private static final String ANY = "*";
+
+    // triggers by key, then by flow uid without revision
+    private final Map<Key, Map<String, List<FlowTriggerService.FlowWithFlowTrigger>>> triggers = new ConcurrentHashMap<>();
+
+    private final Map<String, List<Key>> keysByFlow = new ConcurrentHashMap<>();
+
+    /**
+     * Replace the whole index content by the triggers of these flows.
+     */
+    public synchronized void reset(Collection<FlowWithSource> flows) {
+        this.triggers.clear();
+        this.keysByFlow.clear();
+
+        flows.forEach(flow -> this.update(flow, null));
+    }
+
+    /**
+     * Update the index for a flow change, the flow triggers are removed if it's deleted.
+     */
+    public synchronized void update(FlowWithSource flow, FlowWithSource previous) {
+        String uid = flow.uidWithoutRevision();
+
+        Optional.ofNullable(this.keysByFlow.remove(uid))
+            .ifPresent(keys -> keys.forEach(key -> this.triggers.computeIfPresent(key, (k, byFlow) -> {
+                byFlow.remove(uid);
+                return byFlow.isEmpty() ? null : byFlow;
+            })));
+
+        if (flow.isDeleted() || flow.isDisabled() || flow instanceof FlowWithException || ListUtils.isEmpty(flow.getTriggers())) {
+            return;
+        }
+
+        List<io.kestra.plugin.core.trigger.Flow> flowTriggers = flow.getTriggers()
+            .stream()
+            .filter(Predicate.not(AbstractTrigger::isDisabled))
+            .filter(io.kestra.plugin.core.trigger.Flow.class::isInstance)
+            .map(io.kestra.plugin.core.trigger.Flow.class::cast)
+            .toList();
+
+        if (flowTriggers.isEmpty()) {
+            return;
+        }
+
+        // only copied once by flow change, not on each execution
+        Flow copy = flow.toFlow();
+        Map<Key, List<FlowTriggerService.FlowWithFlowTrigger>> byKey = new HashMap<>();
+
+        flowTriggers.forEach(trigger -> {
+            String upstream = upstream(trigger);
+
+            ListUtils.emptyOnNull(trigger.getStates()).stream().distinct().forEach(state -> byKey
+                .computeIfAbsent(new Key(state, upstream), k -> new ArrayList<>())
+                .add(new FlowTriggerService.FlowWithFlowTrigger(copy, trigger))
+            );
+        });
+
+        // lists are published complete as they are read concurrently
+        byKey.forEach((key, flowWithFlowTriggers) -> this.triggers
+            .computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+            .put(uid, List.copyOf(flowWithFlowTriggers))
+        );
+
+        this.keysByFlow.put(uid, List.copyOf(byKey.keySet()));
+    }
+
+    /**
+     * @return the triggers that can be fired by this execution in its current state.
+     */
+    public Stream<FlowTriggerService.FlowWithFlowTrigger> candidates(Execution execution) {
+        State.Type state = execution.getState().getCurrent();
+
+        return Stream.of(
+                new Key(state, flowKey(execution.getNamespace(), execution.getFlowId())),
+                new Key(state, namespaceKey(execution.getNamespace())),
+                new Key(state, ANY)
+            )
+            .map(this.triggers::get)
+            .filter(Objects::nonNull)
+            .flatMap(byFlow -> byFlow.values().stream())
+            .flatMap(Collection::stream);
+    }
+
+    private static String upstream(io.kestra.plugin.core.trigger.Flow trigger) {
+        List<Condition> conditions = ListUtils.emptyOnNull(trigger.getConditions());
+
+        // the most selective condition first, the flow one
+        Optional<String> flowKey = conditions.stream()
+            .filter(ExecutionFlow.class::isInstance)
+            .map(ExecutionFlow.class::cast)
+            .findFirst()
+            .map(condition -> flowKey(condition.getNamespace(), condition.getFlowId()));
+
+        return flowKey.orElseGet(() -> conditions.stream()
+            .filter(ExecutionNamespace.class::isInstance)
+            .map(ExecutionNamespace.class::cast)
+            .filter(condition -> condition.getComparison() == ExecutionNamespace.Comparison.EQUALS ||
+                (condition.getComparison() == null && !condition.isPrefix())
+            )
+            .findFirst()
+            .map(condition -> namespaceKey(condition.getNamespace()))
+            .orElse(ANY)
+        );
+    }
+
+    private static String flowKey(String namespace, String flowId) {
+        return "flow:" + namespace + ":" + flowId;
+    }
+
+    private static String namespaceKey(String namespace) {
+        return "namespace:" + namespace;
+    }
+
+    private record Key(State.Type state, String upstream) {
+    }
+}
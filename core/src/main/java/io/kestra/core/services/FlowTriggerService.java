@@ -50,15 +50,29 @@ public class FlowTriggerService {
     }
 
     public List<Execution> computeExecutionsFromFlowTriggers(Execution execution, List<Flow> allFlows, Optional<MultipleConditionStorageInterface> multipleConditionStorage) {
-        List<FlowWithFlowTrigger> validTriggersBeforeMultipleConditionEval = allFlows.stream()
-            // prevent recursive flow triggers
-            .filter(flow -> flowService.removeUnwanted(flow, execution))
+        Stream<FlowWithFlowTrigger> candidates = allFlows.stream()
             // ensure flow & triggers are enabled
             .filter(flow -> !flow.isDisabled() && !(flow instanceof FlowWithException))
             .filter(flow -> flow.getTriggers() != null && !flow.getTriggers().isEmpty())
             .flatMap(flow -> flowTriggers(flow).map(trigger -> new FlowWithFlowTrigger(flow, trigger)))
             // filter on the execution state the flow listen to
-            .filter(flowWithFlowTrigger -> flowWithFlowTrigger.getTrigger().getStates().contains(execution.getState().getCurrent()))
+            .filter(flowWithFlowTrigger -> flowWithFlowTrigger.getTrigger().getStates().contains(execution.getState().getCurrent()));
+
+        return this.computeExecutionsFromFlowTriggers(execution, candidates, multipleConditionStorage);
+    }
+
+    /**
+     * Same as {@link #computeExecutionsFromFlowTriggers(Execution, List, Optional)} but only evaluates the triggers
+     * of the index that can be fired by the execution, instead of the triggers of all flows.
+     */
+    public List<Execution> computeExecutionsFromFlowTriggers(Execution execution, FlowTriggerIndex flowTriggerIndex, Optional<MultipleConditionStorageInterface> multipleConditionStorage) {
+        return this.computeExecutionsFromFlowTriggers(execution, flowTriggerIndex.candidates(execution), multipleConditionStorage);
+    }
+
+    private List<Execution> computeExecutionsFromFlowTriggers(Execution execution, Stream<FlowWithFlowTrigger> candidates, Optional<MultipleConditionStorageInterface> multipleConditionStorage) {
+        List<FlowWithFlowTrigger> validTriggersBeforeMultipleConditionEval = candidates
+            // prevent recursive flow triggers
+            .filter(flowWithFlowTrigger -> flowService.removeUnwanted(flowWithFlowTrigger.getFlow(), execution))
             // validate flow triggers conditions excluding multiple conditions
             .filter(flowWithFlowTrigger -> conditionService.valid(
                 flowWithFlowTrigger.getFlow(),
@@ -4,7 +4,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
+import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.models.Plugin;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.executions.LogEntry;
@@ -18,12 +21,15 @@ import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.runners.RunContextLogger;
 import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.serializers.YamlParser;
+import io.kestra.core.utils.IdUtils;
 import io.kestra.core.utils.MapUtils;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.core.annotation.Nullable;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
@@ -64,10 +70,25 @@ public class PluginDefaultService {
     @Inject
     private PluginRegistry pluginRegistry;
 
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    @Value("${kestra.plugins.defaults-cache-size:1000}")
+    protected int defaultsCacheSize;
+
     private final AtomicBoolean warnOnce = new AtomicBoolean(false);
 
+    // flows with injected defaults by uid and global defaults fingerprint, checked against the source on each hit
+    private Cache<String, InjectedFlow> injectedFlows;
+
+    private volatile GlobalDefaultsFingerprint globalDefaultsFingerprint;
+
     @PostConstruct
     void validateGlobalPluginDefault() {
+        this.injectedFlows = CacheBuilder.newBuilder()
+            .maximumSize(this.defaultsCacheSize)
+            .build();
+
         List<PluginDefault> mergedDefaults = new ArrayList<>();
         if (taskGlobalDefault != null && taskGlobalDefault.getDefaults() != null) {
             mergedDefaults.addAll(taskGlobalDefault.getDefaults());
@@ -174,8 +195,58 @@ public class PluginDefaultService {
 
     /**
      * Inject plugin defaults into a Flow.
+     * <p>
+     * The result is memoized for the flows with a revision: a flow revision is only parsed again if its source or the
+     * global plugin defaults changed, so the executor and the scheduler can inject defaults for each message.
      */
     public FlowWithSource injectDefaults(FlowWithSource flow) throws ConstraintViolationException {
+        if (flow.getRevision() == null || this.injectedFlows == null) {
+            return this.parseWithDefaults(flow);
+        }
+
+        String key = flow.uid() + "|" + this.defaultsFingerprint(flow);
+        InjectedFlow cached = this.injectedFlows.getIfPresent(key);
+        if (cached != null && cached.source().equals(flow.getSource())) {
+            this.metricRegistry.counter(MetricRegistry.PLUGIN_DEFAULTS_CACHE_HIT_COUNT).increment();
+            this.metricRegistry.timer(MetricRegistry.PLUGIN_DEFAULTS_CACHE_SAVED_DURATION).record(cached.duration());
+            return cached.flow();
+        }
+
+        long start = System.nanoTime();
+        FlowWithSource injected = this.parseWithDefaults(flow);
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+        this.metricRegistry.counter(MetricRegistry.PLUGIN_DEFAULTS_CACHE_MISS_COUNT).increment();
+        this.metricRegistry.timer(MetricRegistry.PLUGIN_DEFAULTS_INJECT_DURATION).record(duration);
+        this.injectedFlows.put(key, new InjectedFlow(flow.getSource(), injected, duration));
+
+        return injected;
+    }
+
+    /**
+     * The fingerprint of the plugin defaults that are not part of the flow source.
+     * Subclasses that add other defaults must include them.
+     */
+    protected String defaultsFingerprint(FlowWithSource flow) {
+        List<PluginDefault> taskDefaults = taskGlobalDefault != null ? taskGlobalDefault.getDefaults() : null;
+        List<PluginDefault> pluginDefaults = pluginGlobalDefault != null ? pluginGlobalDefault.getDefaults() : null;
+
+        GlobalDefaultsFingerprint current = this.globalDefaultsFingerprint;
+        if (current == null || current.taskDefaults() != taskDefaults || current.pluginDefaults() != pluginDefaults) {
+            try {
+                String json = JacksonMapper.ofJson().writeValueAsString(Arrays.asList(taskDefaults, pluginDefaults));
+                current = new GlobalDefaultsFingerprint(taskDefaults, pluginDefaults, IdUtils.from(json));
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+
+            this.globalDefaultsFingerprint = current;
+        }
+
+        return current.value();
+    }
+
+    private FlowWithSource parseWithDefaults(FlowWithSource flow) throws ConstraintViolationException {
         try {
             Map<String, Object> flowAsMap = OBJECT_MAPPER.readValue(flow.getSource(), JacksonMapper.MAP_TYPE_REFERENCE);
 
@@ -192,6 +263,12 @@ public class PluginDefaultService {
         }
     }
 
+    private record InjectedFlow(String source, FlowWithSource flow, Duration duration) {
+    }
+
+    private record GlobalDefaultsFingerprint(List<PluginDefault> taskDefaults, List<PluginDefault> pluginDefaults, String value) {
+    }
+
     @SuppressWarnings("unchecked")
     private Flow innerInjectDefault(Flow flow, Map<String, Object> flowAsMap) {
         List<PluginDefault> allDefaults = mergeAllDefaults(flow);
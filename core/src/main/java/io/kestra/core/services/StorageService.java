@@ -1,116 +1,321 @@
 package io.kestra.core.services;
 
+import com.google.common.io.CountingOutputStream;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.storages.StorageSplitInterface;
+import io.kestra.core.utils.IdUtils;
 import io.micronaut.core.convert.format.ReadableBytesTypeConverter;
 
 import java.io.*;
 import java.net.URI;
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
-import java.util.function.BiFunction;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiPredicate;
 
 import static io.kestra.core.utils.Rethrow.*;
 
 public abstract class StorageService {
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     public static List<URI> split(RunContext runContext, StorageSplitInterface storageSplitInterface, URI from) throws IOException, IllegalVariableEvaluationException {
+        List<URI> uris = new ArrayList<>();
+        split(runContext, storageSplitInterface, from, uris::add);
+
+        return uris;
+    }
+
+    /**
+     * Split the file into chunks of rows, each chunk being uploaded to the internal storage while the next ones are
+     * written. The consumer receives the URI of each chunk as soon as it's stored, in order.
+     * <p>
+     * Rows are split on raw bytes (on {@code \n}, {@code \r} or {@code \r\n}) without any decoding, and each row is
+     * written followed by the separator.
+     */
+    public static void split(RunContext runContext, StorageSplitInterface storageSplitInterface, URI from, ConsumerChecked<URI, IOException> consumer) throws IOException, IllegalVariableEvaluationException {
         String fromPath = from.getPath();
         String extension = ".tmp";
         if (fromPath.indexOf('.') >= 0) {
             extension = fromPath.substring(fromPath.lastIndexOf('.'));
         }
 
-        try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(from)))) {
-            List<Path> splited;
+        // properties are rendered once, not for each row
+        byte[] separator = runContext.render(storageSplitInterface.getSeparator()).as(String.class).orElseThrow().getBytes(StandardCharsets.UTF_8);
+
+        try (
+            InputStream inputStream = runContext.storage().getFile(from);
+            ExecutorService uploads = Executors.newVirtualThreadPerTaskExecutor()
+        ) {
+            ChunkFactory chunks = new ChunkFactory(runContext, extension, uploads);
 
             if (storageSplitInterface.getBytes() != null) {
                 ReadableBytesTypeConverter readableBytesTypeConverter = new ReadableBytesTypeConverter();
                 Number convert = readableBytesTypeConverter.convert(runContext.render(storageSplitInterface.getBytes()).as(String.class).orElseThrow(), Number.class)
                     .orElseThrow(() -> new IllegalArgumentException("Invalid size with value '" + storageSplitInterface.getBytes() + "'"));
+                long maxBytes = convert.longValue();
 
-                splited = StorageService.split(runContext, extension, runContext.render(storageSplitInterface.getSeparator()).as(String.class).orElseThrow(),
-                    bufferedReader, (bytes, size) -> bytes >= convert.longValue());
+                StorageService.split(inputStream, separator, chunks, consumer, (bytes, rows) -> bytes >= maxBytes);
             } else if (storageSplitInterface.getPartitions() != null) {
-                splited = StorageService.partition(runContext, extension, runContext.render(storageSplitInterface.getSeparator()).as(String.class).orElseThrow(),
-                    bufferedReader, runContext.render(storageSplitInterface.getPartitions()).as(Integer.class).orElseThrow());
+                int partitions = runContext.render(storageSplitInterface.getPartitions()).as(Integer.class).orElseThrow();
+
+                StorageService.partition(inputStream, separator, chunks, consumer, partitions);
             } else if (storageSplitInterface.getRows() != null) {
-                splited = StorageService.split(runContext, extension, runContext.render(storageSplitInterface.getSeparator()).as(String.class).orElseThrow(),
-                    bufferedReader, throwBiFunction((bytes, size) -> size >= runContext.render(storageSplitInterface.getRows()).as(Integer.class).orElseThrow()));
+                int maxRows = runContext.render(storageSplitInterface.getRows()).as(Integer.class).orElseThrow();
+
+                StorageService.split(inputStream, separator, chunks, consumer, (bytes, rows) -> rows >= maxRows);
             } else {
                 throw new IllegalArgumentException("Invalid configuration with no size, count, nor rows");
             }
+        }
+    }
+
+    private static void split(InputStream inputStream, byte[] separator, ChunkFactory chunks, ConsumerChecked<URI, IOException> consumer, BiPredicate<Long, Long> predicate) throws IOException {
+        Uploads uploads = new Uploads(consumer);
+        Chunk[] current = new Chunk[1];
+        long[] rows = new long[1];
+
+        try {
+            copyRows(inputStream, separator, () -> {
+                if (current[0] == null || predicate.test(current[0].bytes(), rows[0])) {
+                    if (current[0] != null) {
+                        uploads.add(current[0].close());
+                    }
+
+                    rows[0] = 0;
+                    current[0] = chunks.create();
+                }
+
+                rows[0]++;
+                return current[0].output();
+            });
+
+            if (current[0] != null) {
+                uploads.add(current[0].close());
+                current[0] = null;
+            }
+
+            uploads.flush();
+        } catch (IOException | RuntimeException e) {
+            if (current[0] != null) {
+                current[0].abort();
+            }
+            uploads.abort(e);
+
+            throw e;
+        }
+    }
+
+    private static void partition(InputStream inputStream, byte[] separator, ChunkFactory chunks, ConsumerChecked<URI, IOException> consumer, int partition) throws IOException {
+        Uploads uploads = new Uploads(consumer);
+        // partitions are created on their first row, so there is no empty partition
+        List<Chunk> partitions = new ArrayList<>(partition);
+        int[] index = new int[1];
+
+        try {
+            copyRows(inputStream, separator, () -> {
+                if (partitions.size() <= index[0]) {
+                    partitions.add(chunks.create());
+                }
+
+                OutputStream output = partitions.get(index[0]).output();
+                index[0] = index[0] >= partition - 1 ? 0 : index[0] + 1;
+
+                return output;
+            });
+
+            while (!partitions.isEmpty()) {
+                uploads.add(partitions.getFirst().close());
+                partitions.removeFirst();
+            }
+
+            uploads.flush();
+        } catch (IOException | RuntimeException e) {
+            partitions.forEach(Chunk::abort);
+            uploads.abort(e);
 
-            return splited
-                .stream()
-                .map(throwFunction(path -> runContext.storage().putFile(path.toFile())))
-                .toList();
+            throw e;
         }
     }
 
-    private static List<Path> split(RunContext runContext, String extension, String separator, BufferedReader bufferedReader, BiFunction<Integer, Integer, Boolean> predicate) throws IOException {
-        List<Path> files = new ArrayList<>();
-        RandomAccessFile write = null;
-        int totalBytes = 0;
-        int totalRows = 0;
-        String row;
-
-        while ((row = bufferedReader.readLine()) != null) {
-            if (write == null || predicate.apply(totalBytes, totalRows)) {
-                if (write != null) {
-                    write.close();
+    @FunctionalInterface
+    private interface RowOutput {
+        /**
+         * Called at the start of each row.
+         *
+         * @return the output where the row must be written
+         */
+        OutputStream next() throws IOException;
+    }
+
+    /**
+     * Copy each row of the input, terminated by {@code \n}, {@code \r} or {@code \r\n} like {@link BufferedReader#readLine()},
+     * followed by the separator, to the output given for this row.
+     */
+    private static void copyRows(InputStream inputStream, byte[] separator, RowOutput rowOutput) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        // output of the current row, null between two rows
+        OutputStream output = null;
+        boolean skipLineFeed = false;
+        int read;
+
+        while ((read = inputStream.read(buffer)) != -1) {
+            int start = 0;
+
+            for (int i = 0; i < read; i++) {
+                byte current = buffer[i];
+
+                if (skipLineFeed) {
+                    skipLineFeed = false;
+                    if (current == '\n') {
+                        start = i + 1;
+                        continue;
+                    }
                 }
 
-                totalBytes = 0;
-                totalRows = 0;
+                if (current == '\n' || current == '\r') {
+                    if (output == null) {
+                        output = rowOutput.next();
+                    }
+
+                    output.write(buffer, start, i - start);
+                    output.write(separator);
+                    output = null;
+
+                    start = i + 1;
+                    skipLineFeed = current == '\r';
+                } else if (output == null) {
+                    output = rowOutput.next();
+                }
+            }
 
-                Path path = runContext.workingDir().createTempFile(extension);
-                files.add(path);
-                write = new RandomAccessFile(path.toFile(), "rw");
+            if (output != null) {
+                output.write(buffer, start, read - start);
             }
+        }
+
+        // last row without a line terminator
+        if (output != null) {
+            output.write(separator);
+        }
+    }
+
+    private record ChunkFactory(RunContext runContext, String extension, ExecutorService uploads) {
+        Chunk create() throws IOException {
+            Path file = runContext.workingDir().createTempFile(extension);
+            OutputStream output = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE);
+
+            return new Chunk(this, file, new CountingOutputStream(output));
+        }
 
-            byte[] bytes = (row + separator).getBytes(StandardCharsets.UTF_8);
+        Future<URI> upload(Path file) {
+            String name = IdUtils.create() + extension;
 
-            write.getChannel().write(ByteBuffer.wrap(bytes));
+            // the file is deleted once stored
+            return uploads.submit(() -> runContext.storage().putFile(file.toFile(), name));
+        }
+    }
 
-            totalBytes = totalBytes + bytes.length;
-            totalRows = totalRows + 1;
+    /**
+     * A chunk written to a local file, then uploaded to the internal storage while the next chunks are written.
+     */
+    private record Chunk(ChunkFactory factory, Path file, CountingOutputStream output) {
+        long bytes() {
+            return this.output.getCount();
         }
 
-        if (write != null) {
-            write.close();
+        Future<URI> close() throws IOException {
+            try {
+                this.output.close();
+            } catch (IOException e) {
+                this.abort();
+                throw e;
+            }
+
+            return this.factory.upload(this.file);
         }
 
-        return files;
+        void abort() {
+            try {
+                this.output.close();
+                Files.deleteIfExists(this.file);
+            } catch (IOException ignored) {
+                // the file is in the working directory, it will be deleted with it
+            }
+        }
     }
 
-    private static List<Path> partition(RunContext runContext, String extension, String separator, BufferedReader bufferedReader, int partition) throws IOException {
-        List<Path> files = new ArrayList<>();
-        List<RandomAccessFile> writers = new ArrayList<>();
+    /**
+     * The pending uploads, handed to the consumer in order, with a bounded number of chunks waiting on the local disk.
+     */
+    private static class Uploads {
+        private static final int MAX_PENDING = 4;
 
-        for (int i = 0; i < partition; i++) {
-            Path path = runContext.workingDir().createTempFile(extension);
-            files.add(path);
+        private final ConsumerChecked<URI, IOException> consumer;
+        private final Deque<Future<URI>> pending = new ArrayDeque<>();
 
-            writers.add(new RandomAccessFile(path.toFile(), "rw"));
+        Uploads(ConsumerChecked<URI, IOException> consumer) {
+            this.consumer = consumer;
         }
 
-        String row;
-        int index = 0;
-        while ((row = bufferedReader.readLine()) != null) {
-            writers.get(index).getChannel().write(ByteBuffer.wrap((row + separator).getBytes(StandardCharsets.UTF_8)));
+        void add(Future<URI> upload) throws IOException {
+            this.pending.addLast(upload);
+
+            while (this.pending.size() > MAX_PENDING || (!this.pending.isEmpty() && this.pending.getFirst().isDone())) {
+                this.next();
+            }
+        }
 
-            index = index >= writers.size() - 1 ? 0 : index + 1;
+        void flush() throws IOException {
+            while (!this.pending.isEmpty()) {
+                this.next();
+            }
         }
 
-        writers.forEach(throwConsumer(RandomAccessFile::close));
+        /**
+         * Cancel the pending uploads, the upload failures if any are added to the exception.
+         */
+        void abort(Exception e) {
+            for (Future<URI> upload : this.pending) {
+                if (upload.isDone() && !upload.isCancelled()) {
+                    try {
+                        upload.get();
+                    } catch (ExecutionException ex) {
+                        e.addSuppressed(ex.getCause());
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
 
-        return files.stream().filter(p -> p.toFile().length() > 0).toList();
-    }
+                upload.cancel(true);
+            }
+
+            this.pending.clear();
+        }
+
+        private void next() throws IOException {
+            Future<URI> upload = this.pending.getFirst();
 
+            URI uri;
+            try {
+                uri = upload.get();
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof IOException ioException ? ioException : new IOException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(e.getMessage());
+            }
+
+            this.pending.removeFirst();
+            this.consumer.accept(uri);
+        }
+    }
 }
@@ -11,7 +11,6 @@ import org.slf4j.LoggerFactory;
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -177,15 +176,7 @@ public class InternalStorage implements Storage {
     public URI putFile(File file, String name) throws IOException {
         URI uri = context.getContextStorageURI();
         URI resolved = uri.resolve(uri.getPath() + PATH_SEPARATOR + (name != null ? name : file.getName()));
-        try (InputStream is = new FileInputStream(file)) {
-            return putFile(is, resolved);
-        } finally {
-            try {
-                Files.delete(file.toPath());
-            } catch (IOException e) {
-                logger.warn("Failed to delete temporary file '{}'", file.toPath(), e);
-            }
-        }
+        return putFileAndDelete(file, resolved);
     }
 
     /**
@@ -243,11 +234,12 @@ public class InternalStorage implements Storage {
     }
 
     private URI putFileAndDelete(File file, URI uri) throws IOException {
-        try (InputStream is = new FileInputStream(file)) {
-            return this.putFile(is, uri);
+        try {
+            // the storage may move the file instead of copying it
+            return this.storage.put(context.getTenantId(), context.getNamespace(), uri, file.toPath());
         } finally {
             try {
-                Files.delete(file.toPath());
+                Files.deleteIfExists(file.toPath());
             } catch (IOException e) {
                 logger.warn("Failed to delete temporary file '{}'", file.toPath(), e);
             }
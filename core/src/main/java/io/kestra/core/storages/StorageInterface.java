@@ -3,6 +3,8 @@ package io.kestra.core.storages;
 import io.kestra.core.annotations.Retryable;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.Plugin;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 
 import javax.annotation.Nullable;
 import java.io.BufferedInputStream;
@@ -12,6 +14,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.List;
 
 /**
@@ -41,6 +44,28 @@ public interface StorageInterface extends AutoCloseable, Plugin {
     @Retryable(includes = {IOException.class}, excludes = {FileNotFoundException.class})
     InputStream get(String tenantId, @Nullable String namespace, URI uri) throws IOException;
 
+    /**
+     * Read a range of a file, implementations should only fetch the requested bytes.
+     *
+     * @param offset the position of the first byte to read.
+     * @param length the maximum number of bytes to read, less bytes are returned if the end of the file is reached.
+     */
+    @Retryable(includes = {IOException.class}, excludes = {FileNotFoundException.class})
+    default InputStream get(String tenantId, @Nullable String namespace, URI uri, long offset, long length) throws IOException {
+        InputStream inputStream = get(tenantId, namespace, uri);
+        try {
+            IOUtils.skip(inputStream, offset);
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+
+        return BoundedInputStream.builder()
+            .setInputStream(inputStream)
+            .setMaxCount(length)
+            .get();
+    }
+
     @Retryable(includes = {IOException.class}, excludes = {FileNotFoundException.class})
     StorageObject getWithMetadata(String tenantId, @Nullable String namespace, URI uri) throws IOException;
 
@@ -83,6 +108,15 @@ public interface StorageInterface extends AutoCloseable, Plugin {
     @Retryable(includes = {IOException.class})
     URI put(String tenantId, @Nullable String namespace, URI uri, StorageObject storageObject) throws IOException;
 
+    /**
+     * Store a local file, implementations may move the file instead of copying it.
+     * The caller gives up the file: it must not use it after a successful call, and should delete it if it still exists.
+     */
+    @Retryable(includes = {IOException.class}, excludes = {FileNotFoundException.class})
+    default URI put(String tenantId, @Nullable String namespace, URI uri, Path file) throws IOException {
+        return this.put(tenantId, namespace, uri, new BufferedInputStream(new FileInputStream(file.toFile())));
+    }
+
     @Retryable(includes = {IOException.class})
     boolean delete(String tenantId, @Nullable String namespace, URI uri) throws IOException;
 
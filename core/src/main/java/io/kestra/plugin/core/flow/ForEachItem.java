@@ -42,6 +42,8 @@ import lombok.experimental.SuperBuilder;
 
 import java.io.*;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.HashMap;
@@ -396,12 +398,17 @@ public class ForEachItem extends Task implements FlowableTask<VoidOutput>, Child
                 throw new IllegalArgumentException(errorMessage);
             }
 
-            List<URI> splits = StorageService.split(runContext, this.batch, URI.create(renderedUri));
-            String fileContent = splits.stream().map(uri -> uri.toString()).collect(Collectors.joining(System.lineSeparator()));
-            try (ByteArrayInputStream bis = new ByteArrayInputStream(fileContent.getBytes())){
-                URI splitsFile = runContext.storage().putFile(bis, "splits.txt");
-                return Output.builder().splits(splitsFile).build();
+            // each split URI is written as soon as the split is stored, so the splits are never all kept in memory
+            Path splitsPath = runContext.workingDir().createTempFile(".txt");
+            try (Writer writer = Files.newBufferedWriter(splitsPath)) {
+                StorageService.split(runContext, this.batch, URI.create(renderedUri), uri -> {
+                    writer.write(uri.toString());
+                    writer.write(System.lineSeparator());
+                });
             }
+
+            URI splitsFile = runContext.storage().putFile(splitsPath.toFile(), "splits.txt");
+            return Output.builder().splits(splitsFile).build();
         }
 
         @Builder
@@ -16,13 +16,14 @@ import io.kestra.core.models.tasks.OutputFilesInterface;
 import io.kestra.core.models.tasks.ResolvedTask;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.models.tasks.VoidOutput;
+import io.kestra.core.runners.DefaultRunContext;
 import io.kestra.core.runners.FilesService;
+import io.kestra.core.runners.NamespaceFilesCache;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.WorkerTask;
 import io.kestra.core.serializers.FileSerde;
 import io.kestra.core.storages.NamespaceFile;
 import io.kestra.core.utils.IdUtils;
-import io.kestra.core.utils.Rethrow;
 import io.kestra.core.validations.WorkingDirectoryTaskValidation;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
@@ -263,13 +264,12 @@ public class WorkingDirectory extends Sequential implements NamespaceFilesInterf
         }
 
         if (this.namespaceFiles != null && !Boolean.FALSE.equals(this.namespaceFiles.getEnabled())) {
-            runContext.storage()
+            List<NamespaceFile> matchedNamespaceFiles = runContext.storage()
                 .namespace()
-                .findAllFilesMatching(this.namespaceFiles.getInclude(), this.namespaceFiles.getExclude())
-                .forEach(Rethrow.throwConsumer(namespaceFile -> {
-                    InputStream content = runContext.storage().getFile(namespaceFile.uri());
-                    runContext.workingDir().putFile(Path.of(namespaceFile.path()), content);
-                }));
+                .findAllFilesMatching(this.namespaceFiles.getInclude(), this.namespaceFiles.getExclude());
+
+            ((DefaultRunContext) runContext).getApplicationContext().getBean(NamespaceFilesCache.class)
+                .materialize(runContext, matchedNamespaceFiles, true);
         }
 
         if (this.inputFiles != null) {
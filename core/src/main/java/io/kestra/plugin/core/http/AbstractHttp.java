@@ -2,6 +2,7 @@ package io.kestra.plugin.core.http;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.tasks.Task;
+import io.kestra.core.runners.DefaultRunContext;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.JacksonMapper;
 import io.micronaut.http.*;
@@ -131,18 +132,48 @@ abstract public class AbstractHttp extends Task implements HttpInterface {
         return configuration;
     }
 
+    /**
+     * @deprecated use {@link #pooledClient(RunContext, HttpMethod)} to reuse the connections between calls
+     */
+    @Deprecated
     protected HttpClient client(RunContext runContext, HttpMethod httpMethod) throws IllegalVariableEvaluationException, MalformedURLException, URISyntaxException {
         URI from = new URI(runContext.render(this.uri));
 
         return ReactorHttpClient.create(from.toURL(), this.configuration(runContext, httpMethod));
     }
 
+    /**
+     * @deprecated use {@link #pooledStreamingClient(RunContext, HttpMethod)} to reuse the connections between calls
+     */
+    @Deprecated
     protected ReactorStreamingHttpClient streamingClient(RunContext runContext, HttpMethod httpMethod) throws IllegalVariableEvaluationException, MalformedURLException, URISyntaxException {
         URI from = new URI(runContext.render(this.uri));
 
         return ReactorStreamingHttpClient.create(from.toURL(), this.configuration(runContext, httpMethod));
     }
 
+    /**
+     * Lease a client shared with the other HTTP tasks and triggers, closing the lease gives it back without closing it.
+     */
+    protected HttpClientPool.Lease<HttpClient> pooledClient(RunContext runContext, HttpMethod httpMethod) throws IllegalVariableEvaluationException, MalformedURLException, URISyntaxException {
+        URI from = new URI(runContext.render(this.uri));
+
+        return pool(runContext).client(from, this.configuration(runContext, httpMethod));
+    }
+
+    /**
+     * Lease a streaming client shared with the other HTTP tasks and triggers, closing the lease gives it back without closing it.
+     */
+    protected HttpClientPool.Lease<ReactorStreamingHttpClient> pooledStreamingClient(RunContext runContext, HttpMethod httpMethod) throws IllegalVariableEvaluationException, MalformedURLException, URISyntaxException {
+        URI from = new URI(runContext.render(this.uri));
+
+        return pool(runContext).streamingClient(from, this.configuration(runContext, httpMethod));
+    }
+
+    private static HttpClientPool pool(RunContext runContext) {
+        return ((DefaultRunContext) runContext).getApplicationContext().getBean(HttpClientPool.class);
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected HttpRequest request(RunContext runContext) throws IllegalVariableEvaluationException, URISyntaxException, IOException {
         URI from = new URI(runContext.render(this.uri));
@@ -82,9 +82,10 @@ public class Download extends AbstractHttp implements RunnableTask<Download.Outp
 
         // do it
         try (
-            ReactorStreamingHttpClient client = this.streamingClient(runContext, this.method);
+            HttpClientPool.Lease<ReactorStreamingHttpClient> lease = this.pooledStreamingClient(runContext, this.method);
             BufferedOutputStream output = new BufferedOutputStream(new FileOutputStream(tempFile));
         ) {
+            ReactorStreamingHttpClient client = lease.client();
             @SuppressWarnings("unchecked")
             HttpRequest<String> request = this.request(runContext);
             Long size;
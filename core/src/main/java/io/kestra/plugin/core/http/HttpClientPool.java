@@ -0,0 +1,218 @@
+package io.kestra.plugin.core.http;
+
+import io.kestra.core.metrics.MetricRegistry;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.http.client.DefaultHttpClientConfiguration;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.ssl.ClientSslConfiguration;
+import io.micronaut.reactor.http.client.ReactorHttpClient;
+import io.micronaut.reactor.http.client.ReactorStreamingHttpClient;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTTP clients shared by the HTTP tasks and triggers of this server, so connections are kept alive and reused between
+ * calls instead of opening a new client, and new connections, for each call.
+ * <p>
+ * There is one client by origin (scheme, host and port) and effective client configuration, each one bounding its
+ * number of connections. Clients are leased for the duration of a call, the ones that are not leased and not used
+ * for the idle timeout are closed.
+ */
+@Singleton
+@Slf4j
+public class HttpClientPool {
+    private final Map<Key, PooledClient> clients = new ConcurrentHashMap<>();
+    private final AtomicInteger leased = new AtomicInteger();
+    private final MetricRegistry metricRegistry;
+    private final int maxConnectionsPerHost;
+    private final long idleTimeoutNanos;
+
+    public HttpClientPool(
+        MetricRegistry metricRegistry,
+        @Value("${kestra.http.client.max-connections-per-host:50}") int maxConnectionsPerHost,
+        @Value("${kestra.http.client.idle-timeout:PT10M}") Duration idleTimeout
+    ) {
+        this.metricRegistry = metricRegistry;
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+
+        metricRegistry.gauge(MetricRegistry.HTTP_CLIENT_POOL_CLIENT_COUNT, this.clients, Map::size);
+        metricRegistry.gauge(MetricRegistry.HTTP_CLIENT_POOL_LEASED_COUNT, this.leased, AtomicInteger::get);
+    }
+
+    public Lease<HttpClient> client(URI uri, DefaultHttpClientConfiguration configuration) throws MalformedURLException, URISyntaxException {
+        return this.lease(uri, configuration, false);
+    }
+
+    public Lease<ReactorStreamingHttpClient> streamingClient(URI uri, DefaultHttpClientConfiguration configuration) throws MalformedURLException, URISyntaxException {
+        return this.lease(uri, configuration, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends HttpClient> Lease<T> lease(URI uri, DefaultHttpClientConfiguration configuration, boolean streaming) throws MalformedURLException, URISyntaxException {
+        this.evictIdle();
+
+        URL origin = new URI(uri.getScheme(), null, uri.getHost(), uri.getPort(), null, null, null).toURL();
+        Key key = Key.of(origin, configuration, streaming);
+
+        PooledClient pooled = this.clients.compute(key, (k, current) -> {
+            // a client closed by its user can't be reused
+            if (current != null && current.client.isRunning()) {
+                this.metricRegistry.counter(MetricRegistry.HTTP_CLIENT_POOL_REUSED_COUNT).increment();
+                current.acquire();
+                return current;
+            }
+
+            configuration.getConnectionPoolConfiguration().setEnabled(true);
+            configuration.getConnectionPoolConfiguration().setMaxConcurrentHttp1Connections(this.maxConnectionsPerHost);
+
+            HttpClient client = streaming ?
+                ReactorStreamingHttpClient.create(origin, configuration) :
+                ReactorHttpClient.create(origin, configuration);
+
+            this.metricRegistry.counter(MetricRegistry.HTTP_CLIENT_POOL_CREATED_COUNT).increment();
+
+            PooledClient created = new PooledClient(client);
+            created.acquire();
+            return created;
+        });
+
+        this.leased.incrementAndGet();
+
+        return new Lease<>((T) pooled.client, () -> {
+            pooled.release();
+            this.leased.decrementAndGet();
+        });
+    }
+
+    private void evictIdle() {
+        long now = System.nanoTime();
+
+        this.clients.forEach((key, pooled) -> {
+            if (now - pooled.lastUsed > this.idleTimeoutNanos) {
+                // removed under the map lock so it can't be leased at the same time
+                this.clients.computeIfPresent(key, (k, current) -> {
+                    if (current.leases == 0 && now - current.lastUsed > this.idleTimeoutNanos) {
+                        close(current.client);
+                        return null;
+                    }
+
+                    return current;
+                });
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        this.clients.values().forEach(pooled -> close(pooled.client));
+        this.clients.clear();
+    }
+
+    private static void close(HttpClient client) {
+        try {
+            client.close();
+        } catch (Exception e) {
+            log.warn("Unable to close HTTP client", e);
+        }
+    }
+
+    /**
+     * A client leased from the pool, closing the lease gives the client back to the pool without closing it.
+     */
+    public static class Lease<T extends HttpClient> implements AutoCloseable {
+        private final T client;
+        private final Runnable release;
+        private boolean released;
+
+        private Lease(T client, Runnable release) {
+            this.client = client;
+            this.release = release;
+        }
+
+        public T client() {
+            return this.client;
+        }
+
+        @Override
+        public void close() {
+            if (!this.released) {
+                this.released = true;
+                this.release.run();
+            }
+        }
+    }
+
+    private static class PooledClient {
+        private final HttpClient client;
+        private int leases;
+        private volatile long lastUsed = System.nanoTime();
+
+        private PooledClient(HttpClient client) {
+            this.client = client;
+        }
+
+        private synchronized void acquire() {
+            this.leases++;
+            this.lastUsed = System.nanoTime();
+        }
+
+        private synchronized void release() {
+            this.leases--;
+            this.lastUsed = System.nanoTime();
+        }
+    }
+
+    /**
+     * The configuration that changes the behavior of a client, two calls with the same key can share the same client.
+     */
+    private record Key(
+        String origin,
+        boolean streaming,
+        Duration connectTimeout,
+        Duration readTimeout,
+        Duration readIdleTimeout,
+        Duration connectionPoolIdleTimeout,
+        int maxContentLength,
+        String proxyType,
+        String proxyAddress,
+        String proxyUsername,
+        String proxyPassword,
+        Charset defaultCharset,
+        boolean followRedirects,
+        String logLevel,
+        boolean insecureTrustAllCertificates
+    ) {
+        private static Key of(URL origin, DefaultHttpClientConfiguration configuration, boolean streaming) {
+            return new Key(
+                origin.toString(),
+                streaming,
+                configuration.getConnectTimeout().orElse(null),
+                configuration.getReadTimeout().orElse(null),
+                configuration.getReadIdleTimeout().orElse(null),
+                configuration.getConnectionPoolIdleTimeout().orElse(null),
+                configuration.getMaxContentLength(),
+                Objects.toString(configuration.getProxyType(), null),
+                configuration.getProxyAddress().map(Object::toString).orElse(null),
+                configuration.getProxyUsername().orElse(null),
+                configuration.getProxyPassword().orElse(null),
+                configuration.getDefaultCharset(),
+                configuration.isFollowRedirects(),
+                configuration.getLogLevel().map(Enum::name).orElse(null),
+                configuration.getSslConfiguration() instanceof ClientSslConfiguration ssl && ssl.isInsecureTrustAllCertificates()
+            );
+        }
+    }
+}
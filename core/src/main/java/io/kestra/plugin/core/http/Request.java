@@ -291,7 +291,8 @@ public class Request extends AbstractHttp implements RunnableTask<Request.Output
     public Output run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
 
-        try (HttpClient client = this.client(runContext, this.method)) {
+        try (HttpClientPool.Lease<HttpClient> lease = this.pooledClient(runContext, this.method)) {
+            HttpClient client = lease.client();
             HttpRequest<String> request = this.request(runContext);
             HttpResponse<String> response;
 
@@ -1,7 +1,11 @@
 package io.kestra.core.models.executions;
 
+import io.kestra.core.exceptions.InternalException;
 import io.kestra.core.models.Label;
+import io.kestra.core.models.tasks.ResolvedTask;
+import io.kestra.core.models.tasks.Task;
 import io.kestra.core.utils.IdUtils;
+import io.kestra.plugin.core.debug.Return;
 import org.junit.jupiter.api.Test;
 import io.kestra.core.models.flows.State;
 
@@ -10,7 +14,9 @@ import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ExecutionTest {
     private static final TaskRun.TaskRunBuilder TASK_RUN = TaskRun.builder()
@@ -161,4 +167,79 @@ class ExecutionTest {
         assertThat(execution.getLabels().size(), is(1));
         assertThat(execution.getLabels().getFirst(), is(new Label("test", "test-value")));
     }
+
+    @Test
+    void indexedTaskRunLookups() throws Exception {
+        TaskRun parent = TaskRun.builder().id("parent").taskId("each").state(new State()).build();
+        TaskRun child1 = TaskRun.builder().id("child1").taskId("t1").parentTaskRunId("parent").value("a").state(new State()).build();
+        TaskRun child2 = TaskRun.builder().id("child2").taskId("t1").parentTaskRunId("parent").value("b").state(new State()).build();
+        TaskRun grandChild = TaskRun.builder().id("grandChild").taskId("t2").parentTaskRunId("child2").state(new State()).build();
+
+        Execution execution = Execution.builder()
+            .id(IdUtils.create())
+            .taskRunList(List.of(parent, child1, child2, grandChild))
+            .build();
+
+        assertThat(execution.findTaskRunByTaskRunId("child2"), is(child2));
+        assertThat(execution.findTaskRunsByTaskId("t1"), contains(child1, child2));
+        assertThat(execution.findParents(grandChild), contains(parent, child2));
+        assertThat(execution.findTaskRunByTaskIdAndValue("t1", List.of("b")), is(child2));
+
+        // the index is shared with the copy, and must still return the new version
+        TaskRun child2Running = child2.withState(State.Type.RUNNING);
+        Execution updated = execution.withTaskRun(child2Running);
+
+        assertThat(updated.findTaskRunByTaskRunId("child2").getState().getCurrent(), is(State.Type.RUNNING));
+        assertThat(updated.findTaskRunsByTaskId("t1"), contains(child1, child2Running));
+        assertThat(updated.findParents(grandChild), contains(parent, child2Running));
+        assertThat(execution.findTaskRunByTaskRunId("child2").getState().getCurrent(), is(State.Type.CREATED));
+
+        assertThrows(InternalException.class, () -> updated.findTaskRunByTaskRunId("unknown"));
+    }
+
+    @Test
+    void findTaskRunByTasksWithParent() {
+        TaskRun parent = TaskRun.builder().id("parent").taskId("each").state(new State()).build();
+        TaskRun otherParent = TaskRun.builder().id("otherParent").taskId("each").state(new State()).build();
+        TaskRun child1 = TaskRun.builder().id("child1").taskId("t1").parentTaskRunId("parent").value("a").state(new State()).build();
+        TaskRun otherChild = TaskRun.builder().id("otherChild").taskId("t1").parentTaskRunId("otherParent").value("a").state(new State()).build();
+        TaskRun child2 = TaskRun.builder().id("child2").taskId("t2").parentTaskRunId("parent").value("a").state(new State()).build();
+
+        Execution execution = Execution.builder()
+            .id(IdUtils.create())
+            .taskRunList(List.of(parent, otherParent, child1, otherChild, child2))
+            .build();
+
+        List<ResolvedTask> resolvedTasks = List.of(
+            ResolvedTask.builder().task(task("t2")).value("a").build(),
+            ResolvedTask.builder().task(task("t1")).value("a").build()
+        );
+
+        // in the task run list order, whatever the order of the tasks
+        assertThat(execution.findTaskRunByTasks(resolvedTasks, parent), contains(child1, child2));
+        assertThat(execution.findTaskRunByTasks(resolvedTasks, otherParent), contains(otherChild));
+        assertThat(execution.findTaskRunByTasks(resolvedTasks, null), contains(child1, otherChild, child2));
+        assertThat(execution.findTaskRunByTasks(List.of(ResolvedTask.of(task("each"))), null), contains(parent, otherParent));
+    }
+
+    @Test
+    void withTaskRunReplacesAllEqualTaskRuns() throws Exception {
+        TaskRun taskRun = TaskRun.builder().id("duplicated").taskId("t1").state(new State()).build();
+        TaskRun other = TaskRun.builder().id("other").taskId("t2").state(new State()).build();
+
+        Execution execution = Execution.builder()
+            .id(IdUtils.create())
+            .taskRunList(List.of(taskRun, other, taskRun))
+            .build();
+
+        TaskRun running = taskRun.withState(State.Type.RUNNING);
+        Execution updated = execution.withTaskRun(running);
+
+        assertThat(updated.getTaskRunList(), contains(running, other, running));
+        assertThat(updated.findTaskRunsByTaskId("t1"), contains(running, running));
+    }
+
+    private static Task task(String id) {
+        return Return.builder().id(id).type(Return.class.getName()).format("test").build();
+    }
 }
@@ -0,0 +1,67 @@
+package io.kestra.core.queues;
+
+import io.kestra.core.exceptions.DeserializationException;
+import io.kestra.core.utils.Either;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+
+class QueueFanOutTest {
+    @SuppressWarnings("unchecked")
+    @Test
+    void singleSubscriptionDispatchedByKey() {
+        QueueInterface<String> queue = Mockito.mock(QueueInterface.class);
+        Runnable queueCancellation = Mockito.mock(Runnable.class);
+        ArgumentCaptor<Consumer<Either<String, DeserializationException>>> captor = ArgumentCaptor.forClass(Consumer.class);
+        Mockito.when(queue.receive(captor.capture())).thenReturn(queueCancellation);
+
+        // the key is the first letter of the message
+        QueueFanOut<String> fanOut = new QueueFanOut<>(queue, message -> message.substring(0, 1));
+
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        List<String> other = new ArrayList<>();
+        Runnable cancelFirst = fanOut.subscribe("a", first::add);
+        Runnable cancelSecond = fanOut.subscribe("a", second::add);
+        Runnable cancelOther = fanOut.subscribe("b", other::add);
+
+        Mockito.verify(queue, Mockito.times(1)).receive(any(Consumer.class));
+
+        captor.getValue().accept(Either.left("a1"));
+        captor.getValue().accept(Either.left("b1"));
+        captor.getValue().accept(Either.left("c1"));
+
+        assertThat(first, contains("a1"));
+        assertThat(second, contains("a1"));
+        assertThat(other, contains("b1"));
+
+        cancelFirst.run();
+        cancelFirst.run();
+        captor.getValue().accept(Either.left("a2"));
+
+        assertThat(first, contains("a1"));
+        assertThat(second, contains("a1", "a2"));
+
+        cancelSecond.run();
+        Mockito.verify(queueCancellation, Mockito.never()).run();
+
+        cancelOther.run();
+        Mockito.verify(queueCancellation, Mockito.times(1)).run();
+
+        // a new subscriber starts a new queue subscription
+        List<String> late = new ArrayList<>();
+        fanOut.subscribe("a", late::add);
+        Mockito.verify(queue, Mockito.times(2)).receive(any(Consumer.class));
+        assertThat(late, is(empty()));
+    }
+}
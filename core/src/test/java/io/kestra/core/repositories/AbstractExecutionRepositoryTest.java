@@ -35,6 +35,7 @@ import java.util.*;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
 
@@ -203,6 +204,66 @@ public abstract class AbstractExecutionRepositoryTest {
         assertThat(executions.getTotal(), is(8L));
     }
 
+    @Test
+    protected void findKeyset() {
+        inject();
+
+        Sort sort = Sort.of(Sort.Order.desc("start_date"));
+        ArrayListCursor<Execution> executions = executionRepository.find(KeysetPageable.from(10, sort, null, true),  null, null, null, null, null, null, null, null, null, null, null);
+        assertThat(executions.getTotal(), is(28L));
+        assertThat(executions.size(), is(10));
+
+        List<Execution> all = new ArrayList<>(executions);
+        while (executions.getNext() != null) {
+            executions = executionRepository.find(KeysetPageable.from(10, sort, executions.getNext(), false),  null, null, null, null, null, null, null, null, null, null, null);
+            assertThat(executions.getTotal(), is(-1L));
+            all.addAll(executions);
+        }
+
+        assertThat(executions.size(), is(8));
+        assertThat(all.stream().map(Execution::getId).distinct().count(), is(28L));
+        // the start date columns may be less precise than the ones of the values
+        List<Instant> startDates = all.stream().map(execution -> execution.getState().getStartDate().truncatedTo(ChronoUnit.MILLIS)).toList();
+        assertThat(startDates, is(startDates.stream().sorted(Comparator.reverseOrder()).toList()));
+    }
+
+    @Test
+    protected void findKeysetNullable() {
+        inject();
+
+        for (Sort sort : List.of(Sort.of(Sort.Order.asc("end_date")), Sort.of(Sort.Order.desc("end_date")))) {
+            List<Execution> all = new ArrayList<>();
+            String cursor = null;
+            do {
+                ArrayListCursor<Execution> executions = executionRepository.find(KeysetPageable.from(4, sort, cursor, false),  null, null, null, null, null, null, null, null, null, null, null);
+                all.addAll(executions);
+                cursor = executions.getNext();
+            } while (cursor != null);
+
+            assertThat(all.stream().map(Execution::getId).distinct().count(), is(28L));
+
+            // running executions have no end date, they are last in ascending order and first in descending order
+            List<Boolean> ended = all.stream().map(execution -> execution.getState().getEndDate().isPresent()).toList();
+            Comparator<Boolean> order = sort.getOrderBy().getFirst().getDirection() == Sort.Order.Direction.ASC ? Comparator.reverseOrder() : Comparator.naturalOrder();
+            assertThat(ended, is(ended.stream().sorted(order).toList()));
+        }
+    }
+
+    @Test
+    protected void findKeysetPurgedCursor() {
+        inject();
+
+        Sort sort = Sort.of(Sort.Order.desc("start_date"));
+        ArrayListCursor<Execution> executions = executionRepository.find(KeysetPageable.from(10, sort, null, false),  null, null, null, null, null, null, null, null, null, null, null);
+        executionRepository.purge(executions.getLast());
+
+        String next = executions.getNext();
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> executionRepository.find(KeysetPageable.from(10, sort, next, false),  null, null, null, null, null, null, null, null, null, null, null)
+        );
+    }
+
     @Test
     protected void findTaskRun() {
         inject();
@@ -527,6 +527,7 @@ public abstract class AbstractFlowRepositoryTest {
         String tenantId = "tenant";
 
         assertThat(flowRepository.lastRevision(tenantId, namespace, flowId), nullValue());
+        assertThat(flowRepository.maxRevision(tenantId, namespace, flowId), is(Optional.empty()));
 
         // create with builder
         Flow first = Flow.builder()
@@ -556,9 +557,13 @@ public abstract class AbstractFlowRepositoryTest {
 
             first = flowRepository.update(flowRev2, first, flowRev2.generateSource(), pluginDefaultService.injectDefaults(flowRev2.withSource(flowRev2.generateSource())));
             assertThat(flowRepository.lastRevision(tenantId, namespace, flowId), is(2));
+            assertThat(flowRepository.maxRevision(tenantId, namespace, flowId), is(Optional.of(2)));
         } finally {
             deleteFlow(first);
         }
+
+        // the deleted revision is not current anymore
+        assertThat(flowRepository.maxRevision(tenantId, namespace, flowId), not(Optional.of(2)));
     }
 
     @Test
@@ -12,10 +12,14 @@ import org.slf4j.event.Level;
 
 import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 
 @KestraTest
 public abstract class AbstractLogRepositoryTest {
@@ -91,6 +95,61 @@ public abstract class AbstractLogRepositoryTest {
         assertThat(list.size(), is(0));
     }
 
+    @Test
+    void keyset() {
+        for (int i = 0; i < 25; i++) {
+            logRepository.save(logEntry(Level.INFO).build());
+        }
+
+        ArrayListCursor<LogEntry> find = logRepository.find(KeysetPageable.from(10, null, null, true), null, null, null, null, null, null, null, null);
+        assertThat(find.size(), is(10));
+        assertThat(find.getTotal(), is(25L));
+
+        Set<String> executionIds = new HashSet<>();
+        find.forEach(logEntry -> executionIds.add(logEntry.getExecutionId()));
+
+        find = logRepository.find(KeysetPageable.from(10, null, find.getNext(), false), null, null, null, null, null, null, null, null);
+        assertThat(find.size(), is(10));
+        assertThat(find.getTotal(), is(-1L));
+        find.forEach(logEntry -> executionIds.add(logEntry.getExecutionId()));
+
+        find = logRepository.find(KeysetPageable.from(10, null, find.getNext(), false), null, null, null, null, null, null, null, null);
+        assertThat(find.size(), is(5));
+        assertThat(find.getNext(), nullValue());
+        find.forEach(logEntry -> executionIds.add(logEntry.getExecutionId()));
+
+        assertThat(executionIds.size(), is(25));
+    }
+
+    @Test
+    void findAllByExecutionId() {
+        String executionId = IdUtils.create();
+        Instant timestamp = Instant.now();
+
+        List<LogEntry> logs = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            logs.add(logEntry(i % 2 == 0 ? Level.INFO : Level.DEBUG)
+                .executionId(executionId)
+                .taskId(i < 2000 ? "taskId" : "taskId2")
+                .timestamp(timestamp.plusMillis(i))
+                .build()
+            );
+        }
+        logRepository.saveBatch(logs);
+        logRepository.save(logEntry(Level.INFO).build());
+
+        List<LogEntry> find = logRepository.findAllByExecutionId(null, executionId, null, null, null, null).collectList().block();
+        assertThat(find.size(), is(2500));
+        assertThat(find.getFirst().getTimestamp(), is(logs.getFirst().getTimestamp()));
+        assertThat(find.getLast().getTimestamp(), is(logs.getLast().getTimestamp()));
+
+        find = logRepository.findAllByExecutionId(null, executionId, Level.INFO, null, List.of("taskId2"), null).collectList().block();
+        assertThat(find.size(), is(250));
+
+        find = logRepository.findAllByExecutionIdWithoutAcl(null, executionId, null, null, null, null).take(10).collectList().block();
+        assertThat(find.size(), is(10));
+    }
+
     @Test
     void pageable() {
         String executionId = "123";
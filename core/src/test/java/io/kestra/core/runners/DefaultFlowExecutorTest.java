@@ -0,0 +1,80 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.repositories.FlowRepositoryInterface;
+import io.kestra.core.services.FlowListenersInterface;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DefaultFlowExecutorTest {
+    @Mock
+    private FlowListenersInterface flowListeners;
+
+    @Mock
+    private FlowRepositoryInterface flowRepository;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private MetricRegistry metricRegistry;
+
+    private DefaultFlowExecutor flowExecutor;
+
+    @BeforeEach
+    void beforeEach() {
+        flowExecutor = new DefaultFlowExecutor(flowListeners, flowRepository, metricRegistry, 10);
+        flowExecutor.setAllFlows(List.of(flow(3)));
+    }
+
+    @Test
+    void lastVersionFromListeners() {
+        assertThat(flowExecutor.findById(null, "io.kestra.unittest", "flow", Optional.empty()).orElseThrow().getRevision(), is(3));
+        assertThat(flowExecutor.findById(null, "io.kestra.unittest", "flow", Optional.of(3)).orElseThrow().getRevision(), is(3));
+
+        Mockito.verify(flowRepository, Mockito.never()).findByIdWithSource(any(), any(), any(), any());
+    }
+
+    @Test
+    void olderRevisionLoadedOnce() {
+        Mockito.when(flowRepository.findByIdWithSource(null, "io.kestra.unittest", "flow", Optional.of(1)))
+            .thenReturn(Optional.of(flow(1)));
+
+        assertThat(flowExecutor.findById(null, "io.kestra.unittest", "flow", Optional.of(1)).orElseThrow().getRevision(), is(1));
+        assertThat(flowExecutor.findById(null, "io.kestra.unittest", "flow", Optional.of(1)).orElseThrow().getRevision(), is(1));
+
+        Mockito.verify(flowRepository, Mockito.times(1)).findByIdWithSource(null, "io.kestra.unittest", "flow", Optional.of(1));
+    }
+
+    @Test
+    void previousLastVersionStillCached() {
+        flowExecutor.setAllFlows(List.of(flow(4)));
+
+        assertThat(flowExecutor.findById(null, "io.kestra.unittest", "flow", Optional.of(3)).orElseThrow().getRevision(), is(3));
+        assertThat(flowExecutor.findById(null, "io.kestra.unittest", "flow", Optional.empty()).orElseThrow().getRevision(), is(4));
+
+        Mockito.verify(flowRepository, Mockito.never()).findByIdWithSource(any(), any(), any(), any());
+    }
+
+    private static FlowWithSource flow(int revision) {
+        return FlowWithSource.builder()
+            .namespace("io.kestra.unittest")
+            .id("flow")
+            .revision(revision)
+            .build();
+    }
+}
@@ -15,9 +15,12 @@ import reactor.core.publisher.Flux;
 
 import java.time.Duration;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -131,6 +134,44 @@ public class FlowConcurrencyCaseTest {
         assertThat(executionResult2.get().getState().getHistories().get(2).getState(), is(State.Type.RUNNING));
     }
 
+    public void flowConcurrencyQueueLimit() throws QueueException, InterruptedException {
+        Flow flow = flowRepository
+            .findById(null, "io.kestra.tests", "flow-concurrency-queue", Optional.empty())
+            .orElseThrow();
+        int count = 4;
+
+        Set<String> running = ConcurrentHashMap.newKeySet();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(count);
+
+        Flux<Execution> receive = TestsUtils.receive(executionQueue, e -> {
+            Execution execution = e.getLeft();
+            if (!execution.getFlowId().equals(flow.getId())) {
+                return;
+            }
+
+            if (execution.getState().getCurrent() == State.Type.RUNNING) {
+                running.add(execution.getId());
+                maxRunning.accumulateAndGet(running.size(), Math::max);
+            } else if (execution.getState().isTerminated()) {
+                running.remove(execution.getId());
+                if (execution.getState().getCurrent() == State.Type.SUCCESS) {
+                    latch.countDown();
+                }
+            }
+        });
+
+        // all the executions are created at once, so they are admitted concurrently
+        for (int i = 0; i < count; i++) {
+            executionQueue.emit(Execution.newExecution(flow, null, null, Optional.empty()));
+        }
+
+        assertTrue(latch.await(1, TimeUnit.MINUTES));
+        receive.blockLast();
+
+        assertThat(maxRunning.get(), is(1));
+    }
+
     public void flowConcurrencyQueuePause() throws TimeoutException, QueueException, InterruptedException {
         Execution execution1 = runnerUtils.runOneUntilRunning(null, "io.kestra.tests", "flow-concurrency-queue-pause", null, null, Duration.ofSeconds(30));
         Flow flow = flowRepository
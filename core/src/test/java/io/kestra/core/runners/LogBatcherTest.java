@@ -0,0 +1,135 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.queues.QueueInterface;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.event.Level;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.anyList;
+
+@KestraTest
+class LogBatcherTest {
+    @Inject
+    MetricRegistry metricRegistry;
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void batches() throws Exception {
+        QueueInterface<LogEntry> queue = Mockito.mock(QueueInterface.class);
+        List<List<LogEntry>> batches = new CopyOnWriteArrayList<>();
+        Mockito.doAnswer(invocation -> batches.add(new ArrayList<>(invocation.getArgument(0))))
+            .when(queue).emit(anyList());
+
+        LogBatcher logBatcher = new LogBatcher(queue, metricRegistry, 100, 10, Duration.ofMinutes(1), LogBatcher.OverflowPolicy.BLOCK, 10);
+
+        for (int i = 0; i < 25; i++) {
+            logBatcher.emit(log(Level.INFO, "line " + i));
+        }
+
+        // full batches don't wait for the flush interval
+        long timeout = System.currentTimeMillis() + 5000;
+        while (batches.size() < 2 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertThat(batches.stream().map(List::size).toList(), contains(10, 10));
+
+        // the remaining lines are flushed on close
+        logBatcher.close();
+        assertThat(batches.stream().map(List::size).toList(), contains(10, 10, 5));
+        assertThat(batches.stream().flatMap(List::stream).map(LogEntry::getMessage).toList().getLast(), is("line 24"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void dropDebug() throws Exception {
+        QueueInterface<LogEntry> queue = Mockito.mock(QueueInterface.class);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            sending.countDown();
+            return release.await(10, TimeUnit.SECONDS);
+        }).when(queue).emit(anyList());
+
+        LogBatcher logBatcher = new LogBatcher(queue, metricRegistry, 2, 1, Duration.ofMillis(10), LogBatcher.OverflowPolicy.DROP_DEBUG, 10);
+        double dropped = this.dropped(LogBatcher.OverflowPolicy.DROP_DEBUG);
+
+        // the flusher is stuck on the first line, the next ones fill the buffer
+        logBatcher.emit(log(Level.INFO, "first"));
+        assertThat(sending.await(5, TimeUnit.SECONDS), is(true));
+        logBatcher.emit(log(Level.INFO, "second"));
+        logBatcher.emit(log(Level.INFO, "third"));
+
+        logBatcher.emit(log(Level.DEBUG, "debug"));
+        logBatcher.emit(log(Level.TRACE, "trace"));
+
+        assertThat(this.dropped(LogBatcher.OverflowPolicy.DROP_DEBUG) - dropped, is(2D));
+
+        release.countDown();
+        logBatcher.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void queueFailure() throws Exception {
+        QueueInterface<LogEntry> queue = Mockito.mock(QueueInterface.class);
+        List<List<LogEntry>> batches = new CopyOnWriteArrayList<>();
+        AtomicBoolean failed = new AtomicBoolean(false);
+        Mockito.doAnswer(invocation -> {
+            // like a database failure of the JDBC queue
+            if (failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("database unavailable");
+            }
+
+            return batches.add(new ArrayList<>(invocation.getArgument(0)));
+        }).when(queue).emit(anyList());
+
+        LogBatcher logBatcher = new LogBatcher(queue, metricRegistry, 100, 1, Duration.ofMillis(10), LogBatcher.OverflowPolicy.BLOCK, 10);
+        double dropped = this.dropped(LogBatcher.OverflowPolicy.BLOCK);
+
+        logBatcher.emit(log(Level.INFO, "lost"));
+        long timeout = System.currentTimeMillis() + 5000;
+        while (this.dropped(LogBatcher.OverflowPolicy.BLOCK) - dropped < 1 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertThat(this.dropped(LogBatcher.OverflowPolicy.BLOCK) - dropped, is(1D));
+
+        // the batcher is still running
+        logBatcher.emit(log(Level.INFO, "sent"));
+        timeout = System.currentTimeMillis() + 5000;
+        while (batches.isEmpty() && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertThat(batches.stream().flatMap(List::stream).map(LogEntry::getMessage).toList(), contains("sent"));
+
+        logBatcher.close();
+    }
+
+    private double dropped(LogBatcher.OverflowPolicy policy) {
+        return metricRegistry.counter(MetricRegistry.METRIC_WORKER_LOG_DROPPED_COUNT, MetricRegistry.TAG_POLICY, policy.name()).count();
+    }
+
+    private static LogEntry log(Level level, String message) {
+        return LogEntry.builder()
+            .namespace("io.kestra.unittest")
+            .flowId("flow")
+            .level(level)
+            .message(message)
+            .timestamp(Instant.now())
+            .build();
+    }
+}
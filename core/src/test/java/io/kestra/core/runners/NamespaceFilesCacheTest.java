@@ -0,0 +1,136 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.storages.Namespace;
+import io.kestra.core.storages.NamespaceFile;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.IdUtils;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+class NamespaceFilesCacheTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Inject
+    private StorageInterface storageInterface;
+
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    @Test
+    void materialize() throws Exception {
+        String namespace = "io.kestra." + IdUtils.create().toLowerCase();
+        NamespaceFilesCache cache = new NamespaceFilesCache(storageInterface, metricRegistry, Optional.empty(), true, "1MB", NamespaceFilesCache.Materialization.COPY, 4);
+
+        RunContext first = runContext(namespace);
+        Namespace files = first.storage().namespace();
+        files.putFile(Path.of("main.py"), content("print('hello')"));
+        files.putFile(Path.of("lib/utils.py"), content("def utils(): pass"));
+
+        double hits = this.count(MetricRegistry.NAMESPACE_FILES_CACHE_HIT_COUNT);
+        double misses = this.count(MetricRegistry.NAMESPACE_FILES_CACHE_MISS_COUNT);
+
+        cache.materialize(first, files.all(), true);
+        assertThat(Files.readString(first.workingDir().resolve(Path.of("main.py"))), is("print('hello')"));
+        assertThat(Files.readString(first.workingDir().resolve(Path.of("lib/utils.py"))), is("def utils(): pass"));
+        assertThat(this.count(MetricRegistry.NAMESPACE_FILES_CACHE_MISS_COUNT) - misses, is(2D));
+
+        // a second run uses the cached files, that can be modified by the task
+        RunContext second = runContext(namespace);
+        cache.materialize(second, files.all(), true);
+        assertThat(Files.readString(second.workingDir().resolve(Path.of("main.py"))), is("print('hello')"));
+        assertThat(this.count(MetricRegistry.NAMESPACE_FILES_CACHE_HIT_COUNT) - hits, is(2D));
+        Files.writeString(second.workingDir().resolve(Path.of("main.py")), "modified");
+
+        // an updated file is downloaded again
+        files.putFile(Path.of("main.py"), content("print('updated')"));
+        RunContext third = runContext(namespace);
+        cache.materialize(third, files.all(), true);
+        assertThat(Files.readString(third.workingDir().resolve(Path.of("main.py"))), is("print('updated')"));
+        assertThat(Files.readString(third.workingDir().resolve(Path.of("lib/utils.py"))), is("def utils(): pass"));
+
+        // existing files are not replaced without overwrite
+        assertThrows(FileAlreadyExistsException.class, () -> cache.materialize(third, files.all(), false));
+
+        cache.close();
+    }
+
+    @Test
+    void hardlink() throws Exception {
+        String namespace = "io.kestra." + IdUtils.create().toLowerCase();
+        NamespaceFilesCache cache = new NamespaceFilesCache(storageInterface, metricRegistry, Optional.empty(), true, "1MB", NamespaceFilesCache.Materialization.HARDLINK, 4);
+
+        RunContext first = runContext(namespace);
+        first.storage().namespace().putFile(Path.of("main.py"), content("print('hello')"));
+        List<NamespaceFile> all = first.storage().namespace().all();
+
+        cache.materialize(first, all, true);
+        RunContext second = runContext(namespace);
+        cache.materialize(second, all, true);
+
+        assertThat(Files.readString(second.workingDir().resolve(Path.of("main.py"))), is("print('hello')"));
+        assertThat(Files.isSameFile(first.workingDir().resolve(Path.of("main.py")), second.workingDir().resolve(Path.of("main.py"))), is(true));
+
+        cache.close();
+    }
+
+    @Test
+    void hardlinkModifiedInPlace() throws Exception {
+        String namespace = "io.kestra." + IdUtils.create().toLowerCase();
+        NamespaceFilesCache cache = new NamespaceFilesCache(storageInterface, metricRegistry, Optional.empty(), true, "1MB", NamespaceFilesCache.Materialization.HARDLINK, 4);
+
+        RunContext first = runContext(namespace);
+        first.storage().namespace().putFile(Path.of("main.py"), content("print('hello')"));
+        List<NamespaceFile> all = first.storage().namespace().all();
+
+        cache.materialize(first, all, true);
+
+        // the permissions don't protect the cached file from its owner
+        Path modified = first.workingDir().resolve(Path.of("main.py"));
+        modified.toFile().setWritable(true);
+        Files.writeString(modified, "modified");
+
+        double misses = this.count(MetricRegistry.NAMESPACE_FILES_CACHE_MISS_COUNT);
+
+        RunContext second = runContext(namespace);
+        cache.materialize(second, all, true);
+        assertThat(Files.readString(second.workingDir().resolve(Path.of("main.py"))), is("print('hello')"));
+        assertThat(this.count(MetricRegistry.NAMESPACE_FILES_CACHE_MISS_COUNT) - misses, is(1D));
+
+        // the file downloaded again is served from the cache
+        RunContext third = runContext(namespace);
+        cache.materialize(third, all, true);
+        assertThat(Files.readString(third.workingDir().resolve(Path.of("main.py"))), is("print('hello')"));
+        assertThat(this.count(MetricRegistry.NAMESPACE_FILES_CACHE_MISS_COUNT) - misses, is(1D));
+
+        cache.close();
+    }
+
+    private RunContext runContext(String namespace) {
+        return runContextFactory.of(Map.of("flow", Map.of("namespace", namespace)));
+    }
+
+    private double count(String name) {
+        return metricRegistry.counter(name).count();
+    }
+
+    private static ByteArrayInputStream content(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
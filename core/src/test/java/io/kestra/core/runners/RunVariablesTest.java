@@ -1,11 +1,16 @@
 package io.kestra.core.runners;
 
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
 import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.State;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.models.triggers.AbstractTrigger;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -97,4 +102,32 @@ class RunVariablesTest {
             .build(new RunContextLogger());
         Assertions.assertEquals(Map.of("id", "id-value", "type", "type-value"), variables.get("trigger"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldGetOutputsAndTasksGivenExecution() {
+        Execution execution = Execution.builder()
+            .id("execution")
+            .namespace("io.kestra.unittest")
+            .flowId("flow")
+            .state(new State())
+            .taskRunList(List.of(
+                TaskRun.builder().id("first").taskId("first").state(new State().withState(State.Type.SUCCESS)).outputs(Map.of("value", 1)).build(),
+                TaskRun.builder().id("second").taskId("second").value("a").state(new State().withState(State.Type.RUNNING)).build()
+            ))
+            .build();
+
+        Map<String, Object> variables = new RunVariables.DefaultBuilder()
+            .withExecution(execution)
+            .withDecryptVariables(false)
+            .build(new RunContextLogger());
+
+        // the lazy values must survive a copy of the variables and behave like regular maps
+        Map<String, Object> copy = new HashMap<>(variables);
+        assertThat(copy.get("outputs"), is(Map.of("first", Map.of("value", 1))));
+        assertThat(copy.get("tasks"), is(Map.of(
+            "first", Map.of("state", State.Type.SUCCESS),
+            "second", Map.of("a", Map.of("state", State.Type.RUNNING))
+        )));
+        assertThat(((Map<?, ?>) variables.get("outputs")).containsKey("second"), is(false));
+    }
+}
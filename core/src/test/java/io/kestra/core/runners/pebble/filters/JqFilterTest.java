@@ -2,6 +2,7 @@ package io.kestra.core.runners.pebble.filters;
 
 import com.google.common.collect.ImmutableMap;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.runners.VariableRenderer;
 import io.kestra.core.junit.annotations.KestraTest;
 import jakarta.inject.Inject;
@@ -22,6 +23,9 @@ class JqFilterTest {
     @Inject
     VariableRenderer variableRenderer;
 
+    @Inject
+    MetricRegistry metricRegistry;
+
     @Test
     void fromString() throws IllegalVariableEvaluationException {
         String render = variableRenderer.render("{{ [1, 2, 3] | jq(\".[0]\") | first }}", Map.of());
@@ -144,4 +148,14 @@ class JqFilterTest {
         render = variableRenderer.render("{% set array = vars | jq(\".array\") %}{{array[0][0]}}", vars);
         assertThat(render, is("arrayValue"));
     }
+
+    @Test
+    void cachedExpression() throws IllegalVariableEvaluationException {
+        Map<String, Object> vars = Map.of("vars", Map.of("cached", "value"));
+        assertThat(variableRenderer.render("{{ vars | jq(\".cached\") | first }}", vars), is("value"));
+
+        double hits = metricRegistry.counter(MetricRegistry.JQ_CACHE_HIT_COUNT).count();
+        assertThat(variableRenderer.render("{{ vars | jq(\".cached\") | first }}{{ vars | jq(\".cached\") | first }}", vars), is("valuevalue"));
+        assertThat(metricRegistry.counter(MetricRegistry.JQ_CACHE_HIT_COUNT).count(), greaterThanOrEqualTo(hits + 2));
+    }
 }
@@ -13,7 +13,9 @@ import io.kestra.core.models.triggers.RecoverMissedSchedules;
 import io.kestra.plugin.core.trigger.Schedule;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.runners.DefaultRunContext;
 import io.kestra.core.runners.FlowListeners;
+import io.kestra.core.runners.RunContextInitializer;
 import io.kestra.core.utils.Await;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -25,6 +27,9 @@ import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import static io.kestra.core.utils.Rethrow.throwConsumer;
@@ -47,6 +52,9 @@ public class SchedulerScheduleTest extends AbstractSchedulerTest {
     @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED)
     protected QueueInterface<LogEntry> logQueue;
 
+    @Inject
+    protected RunContextInitializer runContextInitializer;
+
     private Schedule.ScheduleBuilder<?, ?> createScheduleTrigger(String zone, String cron, String triggerId, boolean invalid) {
         return Schedule.builder()
             .id(triggerId + (invalid ? "-invalid" : ""))
@@ -515,4 +523,66 @@ public class SchedulerScheduleTest extends AbstractSchedulerTest {
             throw new RuntimeException(e);
         }
     }
+
+    @Test
+    void sameTriggerEvaluatedTwiceAndConcurrently() throws Exception {
+        FlowWithSource flow = createScheduleFlow("Europe/Paris", "schedule", false);
+        Schedule schedule = (Schedule) flow.getTriggers().getFirst();
+        ZonedDateTime date = ZonedDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        Trigger trigger = Trigger.of(flow, schedule).toBuilder()
+            .date(date)
+            .nextExecutionDate(date)
+            .build();
+
+        try (AbstractScheduler scheduler = scheduler(flowListenersService, executionState)) {
+            // two evaluations in a row, the first one is cleaned up before the second one
+            AbstractScheduler.FlowWithTriggers first = scheduler.flowWithTriggers(flow, schedule, trigger);
+            String firstExecutionId = this.evaluate(first, trigger, schedule);
+            first.getRunContext().cleanup();
+
+            AbstractScheduler.FlowWithTriggers second = scheduler.flowWithTriggers(flow, schedule, trigger);
+            assertThat(second.getRunContext(), not(sameInstance(first.getRunContext())));
+            assertThat(second.getConditionContext(), not(sameInstance(first.getConditionContext())));
+            assertThat(this.evaluate(second, trigger, schedule), not(firstExecutionId));
+            assertThat(second.getRunContext().render("{{ flow.id }}"), is(flow.getId()));
+
+            // concurrent evaluations
+            int concurrency = 8;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<String>> futures = new ArrayList<>();
+            try (ExecutorService executor = Executors.newFixedThreadPool(concurrency)) {
+                for (int i = 0; i < concurrency; i++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        AbstractScheduler.FlowWithTriggers flowWithTriggers = scheduler.flowWithTriggers(flow, schedule, trigger);
+                        String triggerExecutionId = this.evaluate(flowWithTriggers, trigger, schedule);
+                        assertThat(flowWithTriggers.getRunContext().getTriggerExecutionId(), is(triggerExecutionId));
+                        flowWithTriggers.getRunContext().cleanup();
+
+                        return triggerExecutionId;
+                    }));
+                }
+
+                start.countDown();
+
+                Set<String> triggerExecutionIds = new HashSet<>();
+                for (Future<String> future : futures) {
+                    triggerExecutionIds.add(future.get(30, TimeUnit.SECONDS));
+                }
+                assertThat(triggerExecutionIds.size(), is(concurrency));
+            }
+        }
+    }
+
+    private String evaluate(AbstractScheduler.FlowWithTriggers flowWithTriggers, Trigger trigger, Schedule schedule) throws Exception {
+        DefaultRunContext runContext = runContextInitializer.forScheduler(
+            (DefaultRunContext) flowWithTriggers.getRunContext(),
+            trigger,
+            schedule
+        );
+
+        assertThat(schedule.evaluate(flowWithTriggers.getConditionContext(), trigger).isPresent(), is(true));
+
+        return runContext.getTriggerExecutionId();
+    }
 }
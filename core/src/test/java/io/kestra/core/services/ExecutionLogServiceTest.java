@@ -0,0 +1,87 @@
+package io.kestra.core.services;
+
+import io.kestra.core.models.executions.LogEntry;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+import reactor.core.publisher.Flux;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class ExecutionLogServiceTest {
+    @Test
+    void replayedLogs() {
+        Instant now = Instant.now();
+        LogEntry beforeOverlap = logEntry(now.minusSeconds(120), "before overlap");
+        LogEntry first = logEntry(now.minusMillis(2), "first");
+        LogEntry second = logEntry(now, "second");
+        LogEntry older = logEntry(now.minusMillis(1), "older");
+        LogEntry sameTimestamp = logEntry(now, "same timestamp");
+
+        ExecutionLogService.ReplayedLogs replayed = new ExecutionLogService.ReplayedLogs(now.minusSeconds(60));
+        replayed.add(beforeOverlap);
+        replayed.add(first);
+        replayed.add(second);
+        replayed.add(second);
+
+        // written between the subscription and the fetch of the repository
+        assertThat(replayed.remove(first), is(true));
+        assertThat(replayed.remove(second), is(true));
+        assertThat(replayed.remove(second), is(true));
+
+        // received once for each time it was replayed
+        assertThat(replayed.remove(first), is(false));
+        assertThat(replayed.remove(second), is(false));
+
+        // written after the fetch of the repository, whatever their timestamp
+        assertThat(replayed.remove(older), is(false));
+        assertThat(replayed.remove(sameTimestamp), is(false));
+
+        // too old to be received in realtime
+        assertThat(replayed.remove(beforeOverlap), is(false));
+    }
+
+    @Test
+    void logsInputStream() throws IOException {
+        Instant now = Instant.now();
+        AtomicInteger emitted = new AtomicInteger();
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        Flux<LogEntry> logs = Flux.range(0, 100_000)
+            .map(i -> logEntry(now, "log " + i))
+            .doOnNext(logEntry -> emitted.incrementAndGet())
+            .doOnCancel(() -> cancelled.set(true));
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new ExecutionLogService.LogsInputStream(logs, LogEntry::getMessage), StandardCharsets.UTF_8))) {
+            assertThat(reader.readLine(), is("log 0"));
+            assertThat(reader.readLine(), is("log 1"));
+        }
+
+        // the remaining logs are not fetched
+        assertThat(cancelled.get(), is(true));
+        assertThat(emitted.get() < 100_000, is(true));
+
+        try (InputStream inputStream = new ExecutionLogService.LogsInputStream(Flux.range(0, 3).map(i -> logEntry(now, "log " + i)), LogEntry::getMessage)) {
+            assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8), is("log 0\nlog 1\nlog 2"));
+        }
+    }
+
+    private static LogEntry logEntry(Instant timestamp, String message) {
+        return LogEntry.builder()
+            .namespace("io.kestra.unittest")
+            .flowId("flow")
+            .executionId("execution")
+            .timestamp(timestamp)
+            .level(Level.INFO)
+            .message(message)
+            .build();
+    }
+}
@@ -0,0 +1,85 @@
+package io.kestra.core.services;
+
+import io.kestra.core.models.conditions.Condition;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.plugin.core.condition.ExecutionFlow;
+import io.kestra.plugin.core.condition.ExecutionNamespace;
+import io.kestra.plugin.core.debug.Return;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+class FlowTriggerIndexTest {
+    @Test
+    void candidates() {
+        FlowTriggerIndex index = new FlowTriggerIndex();
+        index.reset(List.of(
+            flow("on-parent", List.of(State.Type.SUCCESS), ExecutionFlow.builder().namespace("io.kestra.tests").flowId("parent").build()),
+            flow("on-namespace", List.of(State.Type.SUCCESS, State.Type.FAILED), ExecutionNamespace.builder().namespace("io.kestra.tests").build()),
+            flow("on-prefix", List.of(State.Type.SUCCESS), ExecutionNamespace.builder().namespace("io.kestra").prefix(true).build()),
+            flow("on-other", List.of(State.Type.SUCCESS), ExecutionFlow.builder().namespace("io.kestra.tests").flowId("other").build())
+        ));
+
+        assertThat(candidates(index, "io.kestra.tests", "parent", State.Type.SUCCESS), containsInAnyOrder("on-parent", "on-namespace", "on-prefix"));
+        assertThat(candidates(index, "io.kestra.tests", "parent", State.Type.FAILED), containsInAnyOrder("on-namespace"));
+        assertThat(candidates(index, "io.kestra.others", "parent", State.Type.SUCCESS), containsInAnyOrder("on-prefix"));
+        assertThat(candidates(index, "io.kestra.tests", "parent", State.Type.RUNNING), is(empty()));
+    }
+
+    @Test
+    void update() {
+        FlowTriggerIndex index = new FlowTriggerIndex();
+        FlowWithSource flow = flow("downstream", List.of(State.Type.SUCCESS), ExecutionFlow.builder().namespace("io.kestra.tests").flowId("parent").build());
+        index.update(flow, null);
+
+        assertThat(candidates(index, "io.kestra.tests", "parent", State.Type.SUCCESS), containsInAnyOrder("downstream"));
+
+        // the new revision listens to another flow
+        FlowWithSource updated = flow("downstream", List.of(State.Type.SUCCESS), ExecutionFlow.builder().namespace("io.kestra.tests").flowId("other").build());
+        index.update(updated, flow);
+
+        assertThat(candidates(index, "io.kestra.tests", "parent", State.Type.SUCCESS), is(empty()));
+        assertThat(candidates(index, "io.kestra.tests", "other", State.Type.SUCCESS), containsInAnyOrder("downstream"));
+
+        index.update(updated.toBuilder().deleted(true).build(), updated);
+
+        assertThat(candidates(index, "io.kestra.tests", "other", State.Type.SUCCESS), is(empty()));
+    }
+
+    private static List<String> candidates(FlowTriggerIndex index, String namespace, String flowId, State.Type state) {
+        Execution execution = Execution.builder()
+            .id(IdUtils.create())
+            .namespace(namespace)
+            .flowId(flowId)
+            .state(new State(state))
+            .build();
+
+        return index.candidates(execution)
+            .map(flowWithFlowTrigger -> flowWithFlowTrigger.getFlow().getId())
+            .toList();
+    }
+
+    private static FlowWithSource flow(String id, List<State.Type> states, Condition condition) {
+        return FlowWithSource.builder()
+            .id(id)
+            .namespace("io.kestra.downstream")
+            .revision(1)
+            .tasks(List.of(Return.builder().id("return").type(Return.class.getName()).format("{{ flow.id }}").build()))
+            .triggers(List.of(io.kestra.plugin.core.trigger.Flow.builder()
+                .id("flow")
+                .type(io.kestra.plugin.core.trigger.Flow.class.getName())
+                .states(states)
+                .conditions(List.of(condition))
+                .build()
+            ))
+            .build();
+    }
+}
@@ -41,6 +41,8 @@ import java.util.stream.Stream;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 @KestraTest
 class PluginDefaultServiceTest {
@@ -359,6 +361,51 @@ class PluginDefaultServiceTest {
         assertThat(((Log) injected.getTasks().getFirst()).getLevel(), is(Level.INFO));
     }
 
+    @Test
+    void memoizedByRevision() {
+        String source = """
+            id: memoized
+            namespace: io.kestra.tests
+
+            pluginDefaults:
+            - type: io.kestra.core.services.PluginDefaultServiceTest$DefaultTester
+              values:
+                value: 1
+
+            tasks:
+            - id: test
+              type: io.kestra.core.services.PluginDefaultServiceTest$DefaultTester
+              set: 666""";
+
+        FlowWithSource flow = yamlParser.parse(source, Flow.class).toBuilder().revision(1).build().withSource(source);
+
+        FlowWithSource injected = pluginDefaultService.injectDefaults(flow);
+        assertThat(((DefaultTester) injected.getTasks().getFirst()).getValue(), is(1));
+        assertThat(pluginDefaultService.injectDefaults(flow), sameInstance(injected));
+
+        // same revision with another source, like a flow updated without a new revision
+        String updatedSource = source.replace("value: 1", "value: 2");
+        FlowWithSource updated = yamlParser.parse(updatedSource, Flow.class).toBuilder().revision(1).build().withSource(updatedSource);
+        assertThat(((DefaultTester) pluginDefaultService.injectDefaults(updated).getTasks().getFirst()).getValue(), is(2));
+
+        // global defaults changed
+        PluginGlobalDefaultConfiguration pluginGlobalDefaultConfiguration = new PluginGlobalDefaultConfiguration();
+        pluginGlobalDefaultConfiguration.defaults = List.of(new PluginDefault(DefaultTester.class.getName(), false, ImmutableMap.of(
+            "defaultValue", "global"
+        )));
+
+        var previousGlobalDefault = pluginDefaultService.pluginGlobalDefault;
+        pluginDefaultService.pluginGlobalDefault = pluginGlobalDefaultConfiguration;
+        try {
+            FlowWithSource withGlobal = pluginDefaultService.injectDefaults(flow);
+
+            assertThat(withGlobal, not(sameInstance(injected)));
+            assertThat(((DefaultTester) withGlobal.getTasks().getFirst()).getDefaultValue(), is("global"));
+        } finally {
+            pluginDefaultService.pluginGlobalDefault = previousGlobalDefault;
+        }
+    }
+
     @SuperBuilder
     @ToString
     @EqualsAndHashCode
@@ -0,0 +1,78 @@
+package io.kestra.plugin.core.http;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.metrics.MetricRegistry;
+import io.micronaut.http.client.DefaultHttpClientConfiguration;
+import io.micronaut.http.client.HttpClient;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class HttpClientPoolTest {
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    @Test
+    void reuse() throws Exception {
+        HttpClientPool pool = new HttpClientPool(metricRegistry, 10, Duration.ofMinutes(10));
+
+        HttpClient first;
+        try (HttpClientPool.Lease<HttpClient> lease = pool.client(URI.create("http://localhost:8080/first"), new DefaultHttpClientConfiguration())) {
+            first = lease.client();
+        }
+
+        // same origin and configuration, the client is shared and not closed by the lease
+        try (HttpClientPool.Lease<HttpClient> lease = pool.client(URI.create("http://localhost:8080/second?query=1"), new DefaultHttpClientConfiguration())) {
+            assertThat(lease.client(), sameInstance(first));
+            assertThat(lease.client().isRunning(), is(true));
+        }
+
+        // another origin
+        try (HttpClientPool.Lease<HttpClient> lease = pool.client(URI.create("http://localhost:8081/first"), new DefaultHttpClientConfiguration())) {
+            assertThat(lease.client(), not(sameInstance(first)));
+        }
+
+        // another configuration
+        DefaultHttpClientConfiguration configuration = new DefaultHttpClientConfiguration();
+        configuration.setReadTimeout(Duration.ofSeconds(1));
+        try (HttpClientPool.Lease<HttpClient> lease = pool.client(URI.create("http://localhost:8080/first"), configuration)) {
+            assertThat(lease.client(), not(sameInstance(first)));
+        }
+
+        // a client closed by its user is replaced
+        first.close();
+        try (HttpClientPool.Lease<HttpClient> lease = pool.client(URI.create("http://localhost:8080/first"), new DefaultHttpClientConfiguration())) {
+            assertThat(lease.client(), not(sameInstance(first)));
+        }
+
+        pool.close();
+    }
+
+    @Test
+    void evictIdle() throws Exception {
+        HttpClientPool pool = new HttpClientPool(metricRegistry, 10, Duration.ZERO);
+
+        HttpClientPool.Lease<HttpClient> leased = pool.client(URI.create("http://localhost:8080"), new DefaultHttpClientConfiguration());
+        Thread.sleep(10);
+
+        // a leased client is never evicted
+        try (HttpClientPool.Lease<HttpClient> lease = pool.client(URI.create("http://localhost:8081"), new DefaultHttpClientConfiguration())) {
+            assertThat(leased.client().isRunning(), is(true));
+        }
+
+        leased.close();
+        Thread.sleep(10);
+
+        try (HttpClientPool.Lease<HttpClient> lease = pool.client(URI.create("http://localhost:8081"), new DefaultHttpClientConfiguration())) {
+            assertThat(leased.client().isRunning(), is(false));
+        }
+
+        pool.close();
+    }
+}
@@ -11,12 +11,14 @@ import jakarta.inject.Inject;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -83,6 +85,28 @@ class SplitTest {
         assertThat(readAll(run.getUris()), is(String.join("\n", content(12288)) + "\n"));
     }
 
+    @Test
+    void lineTerminators() throws Exception {
+        RunContext runContext = runContextFactory.of();
+        URI put = storageInterface.put(
+            null,
+            null,
+            new URI("/file/storage/terminators.csv"),
+            new ByteArrayInputStream("a\r\nb\rc\n\nd".getBytes(StandardCharsets.UTF_8))
+        );
+
+        Split result = Split.builder()
+            .from(put.toString())
+            .rows(Property.of(2))
+            .separator(Property.of(";"))
+            .build();
+
+        Split.Output run = result.run(runContext);
+
+        assertThat(run.getUris().size(), is(3));
+        assertThat(readAll(run.getUris()), is("a;b;c;;d;"));
+    }
+
     private List<String> content(int count) {
         return IntStream
             .range(0, count)
@@ -1,6 +1,7 @@
 package io.kestra.repository.h2;
 
 import io.kestra.core.models.executions.LogEntry;
+import io.kestra.jdbc.JdbcTableConfig;
 import io.kestra.jdbc.repository.AbstractJdbcLogRepository;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -13,8 +14,10 @@ import java.util.List;
 @H2RepositoryEnabled
 public class H2LogRepository extends AbstractJdbcLogRepository {
     @Inject
-    public H2LogRepository(@Named("logs") H2Repository<LogEntry> repository) {
-        super(repository);
+    public H2LogRepository(@Named("logs") H2Repository<LogEntry> repository,
+                            @Named("logstatistics") JdbcTableConfig statisticsTableConfig,
+                            @Named("logstatisticsdeltas") JdbcTableConfig statisticsDeltasTableConfig) {
+        super(repository, statisticsTableConfig, statisticsDeltasTableConfig);
     }
 
     @Override
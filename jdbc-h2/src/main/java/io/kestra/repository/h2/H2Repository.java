@@ -18,6 +18,8 @@ import org.jooq.Record;
 import org.jooq.RecordMapper;
 import org.jooq.Result;
 import org.jooq.SelectConditionStep;
+import org.jooq.Table;
+import org.jooq.exception.IntegrityConstraintViolationException;
 import org.jooq.impl.DSL;
 
 import java.util.Arrays;
@@ -66,14 +68,37 @@ public class H2Repository<T> extends io.kestra.jdbc.AbstractJdbcRepository<T> {
     }
 
     @Override
-    public int persistBatch(List<T> items) {
-        return dslContextWrapper.transactionResult(configuration -> {
-            DSLContext dslContext = DSL.using(configuration);
-            return items.stream()
-                .map(item -> this.persistInternal(item, dslContext, this.persistFields(item)))
-                .mapToInt(i -> i)
-                .sum();
-        });
+    public int persistBatch(DSLContext dslContext, List<T> items) {
+        return items.stream()
+            .map(item -> this.persistInternal(item, dslContext, this.persistFields(item)))
+            .mapToInt(i -> i)
+            .sum();
+    }
+
+    @Override
+    public void upsert(DSLContext dslContext, Table<Record> table, String key, Map<Field<?>, Object> insertFields, Map<Field<?>, Object> updateFields) {
+        int affectedRows = dslContext
+            .update(table)
+            .set(updateFields)
+            .where(AbstractJdbcRepository.field("key").eq(key))
+            .execute();
+
+        if (affectedRows == 0) {
+            try {
+                dslContext
+                    .insertInto(table)
+                    .set(AbstractJdbcRepository.field("key"), key)
+                    .set(insertFields)
+                    .execute();
+            } catch (IntegrityConstraintViolationException e) {
+                // inserted by a concurrent transaction since our update
+                dslContext
+                    .update(table)
+                    .set(updateFields)
+                    .where(AbstractJdbcRepository.field("key").eq(key))
+                    .execute();
+            }
+        }
     }
 
     public Condition fullTextCondition(List<String> fields, String query) {
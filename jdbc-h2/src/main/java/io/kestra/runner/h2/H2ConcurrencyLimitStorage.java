@@ -0,0 +1,34 @@
+package io.kestra.runner.h2;
+
+import io.kestra.core.runners.ConcurrencyLimit;
+import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import io.kestra.jdbc.runner.AbstractJdbcConcurrencyLimitStorage;
+import io.kestra.repository.h2.H2Repository;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.jooq.DSLContext;
+import org.jooq.exception.IntegrityConstraintViolationException;
+
+@Singleton
+@H2QueueEnabled
+public class H2ConcurrencyLimitStorage extends AbstractJdbcConcurrencyLimitStorage {
+    public H2ConcurrencyLimitStorage(@Named("concurrencylimit") H2Repository<ConcurrencyLimit> repository) {
+        super(repository);
+    }
+
+    @Override
+    protected void createIfAbsent(DSLContext dslContext, ConcurrencyLimit concurrencyLimit) {
+        try {
+            // emulated with a MERGE on H2
+            dslContext
+                .insertInto(this.jdbcRepository.getTable())
+                .set(AbstractJdbcRepository.field("key"), this.jdbcRepository.key(concurrencyLimit))
+                .set(this.jdbcRepository.persistFields(concurrencyLimit))
+                .onDuplicateKeyIgnore()
+                .execute();
+        } catch (IntegrityConstraintViolationException e) {
+            // inserted by a concurrent transaction that didn't commit yet when the MERGE was evaluated,
+            // a failed statement doesn't roll back the transaction on H2
+        }
+    }
+}
@@ -9,6 +9,7 @@ import io.micronaut.context.ApplicationContext;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 
 @Slf4j
 public class H2WorkerJobQueue implements WorkerJobQueueInterface {
@@ -23,6 +24,11 @@ public class H2WorkerJobQueue implements WorkerJobQueueInterface {
         return jdbcWorkerJobQueueService.receive(consumerGroup, queueType, consumer);
     }
 
+    @Override
+    public Runnable receive(String consumerGroup, Class<?> queueType, IntSupplier credits, Consumer<Either<WorkerJob, DeserializationException>> consumer) {
+        return jdbcWorkerJobQueueService.receive(consumerGroup, queueType, credits, consumer);
+    }
+
     @Override
     public void close() {
         jdbcWorkerJobQueueService.close();
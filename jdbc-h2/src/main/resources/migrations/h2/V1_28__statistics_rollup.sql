@@ -0,0 +1,55 @@
+CREATE TABLE IF NOT EXISTS execution_statistics (
+    "key" VARCHAR(250) NOT NULL PRIMARY KEY,
+    "tenant_id" VARCHAR(250),
+    "namespace" VARCHAR(150) NOT NULL,
+    "flow_id" VARCHAR(150) NOT NULL,
+    "state_current" VARCHAR(50) NOT NULL,
+    "date" TIMESTAMP NOT NULL,
+    "count" BIGINT NOT NULL,
+    "duration_sum" DOUBLE PRECISION NOT NULL,
+    "duration_min" DOUBLE PRECISION,
+    "duration_max" DOUBLE PRECISION
+);
+
+CREATE INDEX IF NOT EXISTS execution_statistics_date ON execution_statistics ("tenant_id", "date");
+
+INSERT INTO execution_statistics ("key", "tenant_id", "namespace", "flow_id", "state_current", "date", "count", "duration_sum", "duration_min", "duration_max")
+SELECT
+    RAWTOHEX(HASH('SHA-256', CONCAT(COALESCE("tenant_id", ''), '|', "namespace", '|', "flow_id", '|', "state_current", '|', DATE_TRUNC('HOUR', "start_date")))),
+    "tenant_id",
+    "namespace",
+    "flow_id",
+    "state_current",
+    DATE_TRUNC('HOUR', "start_date"),
+    COUNT(*),
+    SUM("state_duration"),
+    MIN("state_duration"),
+    MAX("state_duration")
+FROM executions
+WHERE "deleted" = FALSE
+GROUP BY "tenant_id", "namespace", "flow_id", "state_current", DATE_TRUNC('HOUR', "start_date");
+
+CREATE TABLE IF NOT EXISTS log_statistics (
+    "key" VARCHAR(250) NOT NULL PRIMARY KEY,
+    "tenant_id" VARCHAR(250),
+    "namespace" VARCHAR(150) NOT NULL,
+    "flow_id" VARCHAR(150) NOT NULL,
+    "level" VARCHAR(10) NOT NULL,
+    "date" TIMESTAMP NOT NULL,
+    "count" BIGINT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS log_statistics_date ON log_statistics ("tenant_id", "date");
+
+INSERT INTO log_statistics ("key", "tenant_id", "namespace", "flow_id", "level", "date", "count")
+SELECT
+    RAWTOHEX(HASH('SHA-256', CONCAT(COALESCE("tenant_id", ''), '|', "namespace", '|', "flow_id", '|', "level", '|', DATE_TRUNC('HOUR', "timestamp")))),
+    "tenant_id",
+    "namespace",
+    "flow_id",
+    "level",
+    DATE_TRUNC('HOUR', "timestamp"),
+    COUNT(*)
+FROM logs
+WHERE "deleted" = FALSE
+GROUP BY "tenant_id", "namespace", "flow_id", "level", DATE_TRUNC('HOUR', "timestamp");
@@ -0,0 +1,7 @@
+package io.kestra.runner.h2;
+
+import io.kestra.jdbc.runner.AbstractJdbcSchedulerPartitionsTest;
+
+class H2SchedulerPartitionsTest extends AbstractJdbcSchedulerPartitionsTest {
+
+}
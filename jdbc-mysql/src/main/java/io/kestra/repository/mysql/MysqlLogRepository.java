@@ -1,6 +1,7 @@
 package io.kestra.repository.mysql;
 
 import io.kestra.core.models.executions.LogEntry;
+import io.kestra.jdbc.JdbcTableConfig;
 import io.kestra.jdbc.repository.AbstractJdbcLogRepository;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -13,8 +14,10 @@ import java.util.Arrays;
 @MysqlRepositoryEnabled
 public class MysqlLogRepository extends AbstractJdbcLogRepository {
     @Inject
-    public MysqlLogRepository(@Named("logs") MysqlRepository<LogEntry> repository) {
-        super(repository);
+    public MysqlLogRepository(@Named("logs") MysqlRepository<LogEntry> repository,
+                            @Named("logstatistics") JdbcTableConfig statisticsTableConfig,
+                            @Named("logstatisticsdeltas") JdbcTableConfig statisticsDeltasTableConfig) {
+        super(repository, statisticsTableConfig, statisticsDeltasTableConfig);
     }
 
     @Override
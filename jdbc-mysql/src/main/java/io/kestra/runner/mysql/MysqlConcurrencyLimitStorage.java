@@ -0,0 +1,27 @@
+package io.kestra.runner.mysql;
+
+import io.kestra.core.runners.ConcurrencyLimit;
+import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import io.kestra.jdbc.runner.AbstractJdbcConcurrencyLimitStorage;
+import io.kestra.repository.mysql.MysqlRepository;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.jooq.DSLContext;
+
+@Singleton
+@MysqlQueueEnabled
+public class MysqlConcurrencyLimitStorage extends AbstractJdbcConcurrencyLimitStorage {
+    public MysqlConcurrencyLimitStorage(@Named("concurrencylimit") MysqlRepository<ConcurrencyLimit> repository) {
+        super(repository);
+    }
+
+    @Override
+    protected void createIfAbsent(DSLContext dslContext, ConcurrencyLimit concurrencyLimit) {
+        dslContext
+            .insertInto(this.jdbcRepository.getTable())
+            .set(AbstractJdbcRepository.field("key"), this.jdbcRepository.key(concurrencyLimit))
+            .set(this.jdbcRepository.persistFields(concurrencyLimit))
+            .onDuplicateKeyIgnore()
+            .execute();
+    }
+}
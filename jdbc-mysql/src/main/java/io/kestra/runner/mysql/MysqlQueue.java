@@ -28,7 +28,7 @@ public class MysqlQueue<T> extends JdbcQueue<T> {
     }
 
     @Override
-    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType, boolean forUpdate) {
+    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType, boolean forUpdate, int limit) {
         var select = ctx
             .select(
                 AbstractJdbcRepository.field("value"),
@@ -50,7 +50,7 @@ public class MysqlQueue<T> extends JdbcQueue<T> {
 
         var limitSelect = select
             .orderBy(AbstractJdbcRepository.field("offset").asc())
-            .limit(configuration.getPollSize());
+            .limit(limit);
         ResultQuery<Record2<Object, Object>> configuredSelect = limitSelect;
 
         if (forUpdate) {
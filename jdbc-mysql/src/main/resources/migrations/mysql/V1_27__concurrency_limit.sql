@@ -0,0 +1,4 @@
+CREATE TABLE IF NOT EXISTS concurrency_limit (
+    `key` VARCHAR(250) NOT NULL PRIMARY KEY,
+    `value` JSON NOT NULL
+);
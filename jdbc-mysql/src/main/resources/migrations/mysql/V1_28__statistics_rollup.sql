@@ -0,0 +1,53 @@
+CREATE TABLE IF NOT EXISTS execution_statistics (
+    `key` VARCHAR(250) NOT NULL PRIMARY KEY,
+    `tenant_id` VARCHAR(250),
+    `namespace` VARCHAR(150) NOT NULL,
+    `flow_id` VARCHAR(150) NOT NULL,
+    `state_current` VARCHAR(50) NOT NULL,
+    `date` DATETIME(6) NOT NULL,
+    `count` BIGINT NOT NULL,
+    `duration_sum` DOUBLE NOT NULL,
+    `duration_min` DOUBLE,
+    `duration_max` DOUBLE,
+    INDEX ix_tenant_id__date (`tenant_id`, `date`)
+) ENGINE INNODB CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
+
+INSERT INTO execution_statistics (`key`, `tenant_id`, `namespace`, `flow_id`, `state_current`, `date`, `count`, `duration_sum`, `duration_min`, `duration_max`)
+SELECT
+    SHA2(CONCAT(COALESCE(tenant_id, ''), '|', namespace, '|', flow_id, '|', state_current, '|', DATE_FORMAT(start_date, '%Y-%m-%d %H:00:00')), 256),
+    tenant_id,
+    namespace,
+    flow_id,
+    state_current,
+    DATE_FORMAT(start_date, '%Y-%m-%d %H:00:00'),
+    COUNT(*),
+    SUM(state_duration),
+    MIN(state_duration),
+    MAX(state_duration)
+FROM executions
+WHERE deleted = false
+GROUP BY tenant_id, namespace, flow_id, state_current, DATE_FORMAT(start_date, '%Y-%m-%d %H:00:00');
+
+CREATE TABLE IF NOT EXISTS log_statistics (
+    `key` VARCHAR(250) NOT NULL PRIMARY KEY,
+    `tenant_id` VARCHAR(250),
+    `namespace` VARCHAR(150) NOT NULL,
+    `flow_id` VARCHAR(150) NOT NULL,
+    `level` VARCHAR(10) NOT NULL,
+    `date` DATETIME(6) NOT NULL,
+    `count` BIGINT NOT NULL,
+    INDEX ix_tenant_id__date (`tenant_id`, `date`)
+) ENGINE INNODB CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
+
+INSERT INTO log_statistics (`key`, `tenant_id`, `namespace`, `flow_id`, `level`, `date`, `count`)
+SELECT
+    SHA2(CONCAT(COALESCE(tenant_id, ''), '|', namespace, '|', flow_id, '|', level, '|', DATE_FORMAT(`timestamp`, '%Y-%m-%d %H:00:00')), 256),
+    tenant_id,
+    namespace,
+    flow_id,
+    level,
+    DATE_FORMAT(`timestamp`, '%Y-%m-%d %H:00:00'),
+    COUNT(*)
+FROM logs
+WHERE deleted = false
+GROUP BY tenant_id, namespace, flow_id, level, DATE_FORMAT(`timestamp`, '%Y-%m-%d %H:00:00');
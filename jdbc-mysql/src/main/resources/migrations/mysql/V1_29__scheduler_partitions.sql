@@ -0,0 +1,8 @@
+ALTER TABLE triggers ADD COLUMN `partition_slot` INT;
+CREATE INDEX ix_partition_slot ON triggers (`partition_slot`, `next_execution_date`);
+
+CREATE TABLE IF NOT EXISTS scheduler_partitions (
+    `partition_id` INT NOT NULL PRIMARY KEY,
+    `owner` VARCHAR(250),
+    `lease_end` BIGINT
+);
@@ -0,0 +1,22 @@
+CREATE TABLE IF NOT EXISTS execution_statistics_deltas (
+    `id` BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    `tenant_id` VARCHAR(250),
+    `namespace` VARCHAR(150) NOT NULL,
+    `flow_id` VARCHAR(150) NOT NULL,
+    `state_current` VARCHAR(50) NOT NULL,
+    `date` DATETIME(6) NOT NULL,
+    `count` BIGINT NOT NULL,
+    `duration_sum` DOUBLE NOT NULL,
+    `duration_min` DOUBLE,
+    `duration_max` DOUBLE
+) ENGINE INNODB CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS log_statistics_deltas (
+    `id` BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    `tenant_id` VARCHAR(250),
+    `namespace` VARCHAR(150) NOT NULL,
+    `flow_id` VARCHAR(150) NOT NULL,
+    `level` VARCHAR(10) NOT NULL,
+    `date` DATETIME(6) NOT NULL,
+    `count` BIGINT NOT NULL
+) ENGINE INNODB CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
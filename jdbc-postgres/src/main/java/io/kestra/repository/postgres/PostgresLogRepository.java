@@ -1,6 +1,7 @@
 package io.kestra.repository.postgres;
 
 import io.kestra.core.models.executions.LogEntry;
+import io.kestra.jdbc.JdbcTableConfig;
 import io.kestra.jdbc.repository.AbstractJdbcLogRepository;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -18,8 +19,10 @@ import java.util.stream.Collectors;
 @PostgresRepositoryEnabled
 public class PostgresLogRepository extends AbstractJdbcLogRepository {
     @Inject
-    public PostgresLogRepository(@Named("logs") PostgresRepository<LogEntry> repository) {
-        super(repository);
+    public PostgresLogRepository(@Named("logs") PostgresRepository<LogEntry> repository,
+                            @Named("logstatistics") JdbcTableConfig statisticsTableConfig,
+                            @Named("logstatisticsdeltas") JdbcTableConfig statisticsDeltasTableConfig) {
+        super(repository, statisticsTableConfig, statisticsDeltasTableConfig);
     }
 
     @Override
@@ -20,6 +20,7 @@ import org.jooq.Record;
 import org.jooq.RecordMapper;
 import org.jooq.Result;
 import org.jooq.SelectConditionStep;
+import org.jooq.Table;
 import org.jooq.impl.DSL;
 
 import java.util.Arrays;
@@ -77,24 +78,33 @@ public class PostgresRepository<T> extends io.kestra.jdbc.AbstractJdbcRepository
     }
 
     @Override
-    public int persistBatch(List<T> items) {
-        return dslContextWrapper.transactionResult(configuration -> {
-            DSLContext dslContext = DSL.using(configuration);
-            var inserts = items.stream().map(item -> {
-                    Map<Field<Object>, Object> finalFields = this.persistFields(item);
-
-                    return dslContext
-                        .insertInto(table)
-                        .set(AbstractJdbcRepository.field("key"), key(item))
-                        .set(finalFields)
-                        .onConflict(AbstractJdbcRepository.field("key"))
-                        .doUpdate()
-                        .set(finalFields);
-                })
-                .toList();
-
-            return Arrays.stream(dslContext.batch(inserts).execute()).sum();
-        });
+    public int persistBatch(DSLContext dslContext, List<T> items) {
+        var inserts = items.stream().map(item -> {
+                Map<Field<Object>, Object> finalFields = this.persistFields(item);
+
+                return dslContext
+                    .insertInto(table)
+                    .set(AbstractJdbcRepository.field("key"), key(item))
+                    .set(finalFields)
+                    .onConflict(AbstractJdbcRepository.field("key"))
+                    .doUpdate()
+                    .set(finalFields);
+            })
+            .toList();
+
+        return Arrays.stream(dslContext.batch(inserts).execute()).sum();
+    }
+
+    @Override
+    public void upsert(DSLContext dslContext, Table<Record> table, String key, Map<Field<?>, Object> insertFields, Map<Field<?>, Object> updateFields) {
+        dslContext
+            .insertInto(table)
+            .set(AbstractJdbcRepository.field("key"), key)
+            .set(insertFields)
+            .onConflict(AbstractJdbcRepository.field("key"))
+            .doUpdate()
+            .set(updateFields)
+            .execute();
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,28 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.core.runners.ConcurrencyLimit;
+import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import io.kestra.jdbc.runner.AbstractJdbcConcurrencyLimitStorage;
+import io.kestra.repository.postgres.PostgresRepository;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.jooq.DSLContext;
+
+@Singleton
+@PostgresQueueEnabled
+public class PostgresConcurrencyLimitStorage extends AbstractJdbcConcurrencyLimitStorage {
+    public PostgresConcurrencyLimitStorage(@Named("concurrencylimit") PostgresRepository<ConcurrencyLimit> repository) {
+        super(repository);
+    }
+
+    @Override
+    protected void createIfAbsent(DSLContext dslContext, ConcurrencyLimit concurrencyLimit) {
+        dslContext
+            .insertInto(this.jdbcRepository.getTable())
+            .set(AbstractJdbcRepository.field("key"), this.jdbcRepository.key(concurrencyLimit))
+            .set(this.jdbcRepository.persistFields(concurrencyLimit))
+            .onConflict(AbstractJdbcRepository.field("key"))
+            .doNothing()
+            .execute();
+    }
+}
@@ -12,6 +12,7 @@ import org.jooq.*;
 import org.jooq.Record;
 import org.jooq.impl.DSL;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -20,6 +21,10 @@ import static org.jooq.impl.DSL.*;
 public class PostgresQueue<T> extends JdbcQueue<T> {
     private boolean disableSeqScan = false;
 
+    private PostgresQueueNotifier notifier;
+
+    private final Runnable notifierWakeUp = this::wakeUp;
+
     public PostgresQueue(Class<T> cls, ApplicationContext applicationContext) {
         super(cls, applicationContext);
 
@@ -27,6 +32,25 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
         if (maybeDisableSeScan.isPresent() && maybeDisableSeScan.get()) {
             disableSeqScan = true;
         }
+
+        var maybeNotify = applicationContext.getProperty("kestra.queue.postgres.notify", Boolean.class);
+        if (maybeNotify.isPresent() && maybeNotify.get()) {
+            notifier = applicationContext.getBean(PostgresQueueNotifier.class);
+            notifier.subscribe(this.cls.getName(), notifierWakeUp);
+        }
+    }
+
+    @Override
+    protected void notifyConsumers(DSLContext context) {
+        if (notifier != null) {
+            // delivered by Postgres on commit only, and deduplicated inside the transaction
+            context.fetch("SELECT pg_notify(?, ?)", PostgresQueueNotifier.CHANNEL, this.cls.getName());
+        }
+    }
+
+    @Override
+    protected boolean isNotificationEnabled() {
+        return notifier != null;
     }
 
     @Override
@@ -47,7 +71,7 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
     }
 
     @Override
-    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType, boolean forUpdate) {
+    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType, boolean forUpdate, int limit) {
         if (disableSeqScan) {
             ctx.setLocal(name("enable_seqscan"), val("off")).execute();
         }
@@ -68,7 +92,7 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
 
         var limitSelect = select
             .orderBy(AbstractJdbcRepository.field("offset").asc())
-            .limit(configuration.getPollSize());
+            .limit(limit);
         ResultQuery<Record2<Object, Object>> configuredSelect = limitSelect;
 
         if (forUpdate) {
@@ -110,4 +134,13 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
                 }
             });
     }
+
+    @Override
+    public void close() throws IOException {
+        if (notifier != null) {
+            notifier.unsubscribe(this.cls.getName(), notifierWakeUp);
+        }
+
+        super.close();
+    }
 }
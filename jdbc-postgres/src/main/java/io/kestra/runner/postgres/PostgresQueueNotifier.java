@@ -0,0 +1,121 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.core.utils.ExecutorsUtils;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Listen to the Postgres notifications sent by {@link PostgresQueue} on each emit, and wake up the poll loops
+ * of the matching queue type.
+ * A single dedicated connection is used for the whole instance, whatever the number of queues and consumers.
+ */
+@Singleton
+@PostgresQueueEnabled
+@Slf4j
+public class PostgresQueueNotifier {
+    static final String CHANNEL = "kestra_queue";
+
+    private static final Duration LISTEN_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(1);
+
+    private final DataSource dataSource;
+
+    private final ExecutorService executorService;
+
+    private final Map<String, List<Runnable>> subscribers = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean started = new AtomicBoolean(false);
+
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    @Inject
+    public PostgresQueueNotifier(DataSource dataSource, ExecutorsUtils executorsUtils) {
+        this.dataSource = dataSource;
+        this.executorService = executorsUtils.singleThreadExecutor("postgres-queue-notifier");
+    }
+
+    public void subscribe(String queueType, Runnable wakeUp) {
+        this.subscribers.computeIfAbsent(queueType, k -> new CopyOnWriteArrayList<>()).add(wakeUp);
+
+        if (this.started.compareAndSet(false, true)) {
+            this.executorService.execute(this::listen);
+        }
+    }
+
+    public void unsubscribe(String queueType, Runnable wakeUp) {
+        List<Runnable> runnables = this.subscribers.get(queueType);
+        if (runnables != null) {
+            runnables.remove(wakeUp);
+        }
+    }
+
+    private void listen() {
+        while (!this.closed.get()) {
+            try (Connection connection = this.dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+
+                // notifications may have been missed while we were not listening
+                this.wakeUpAll();
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (!this.closed.get()) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) LISTEN_TIMEOUT.toMillis());
+                    if (notifications == null) {
+                        continue;
+                    }
+
+                    for (PGNotification notification : notifications) {
+                        List<Runnable> runnables = this.subscribers.get(notification.getParameter());
+                        if (runnables != null) {
+                            runnables.forEach(Runnable::run);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (this.closed.get()) {
+                    return;
+                }
+
+                log.warn("Unable to listen to queue notifications, falling back to polling until reconnection", e);
+
+                try {
+                    Thread.sleep(RECONNECT_DELAY.toMillis());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void wakeUpAll() {
+        this.subscribers.values().forEach(runnables -> runnables.forEach(Runnable::run));
+    }
+
+    @PreDestroy
+    public void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            this.executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+CREATE TABLE IF NOT EXISTS execution_statistics_deltas (
+    id BIGSERIAL PRIMARY KEY,
+    tenant_id VARCHAR(250),
+    namespace VARCHAR(150) NOT NULL,
+    flow_id VARCHAR(150) NOT NULL,
+    state_current VARCHAR(50) NOT NULL,
+    date TIMESTAMP NOT NULL,
+    count BIGINT NOT NULL,
+    duration_sum DOUBLE PRECISION NOT NULL,
+    duration_min DOUBLE PRECISION,
+    duration_max DOUBLE PRECISION
+);
+
+CREATE TABLE IF NOT EXISTS log_statistics_deltas (
+    id BIGSERIAL PRIMARY KEY,
+    tenant_id VARCHAR(250),
+    namespace VARCHAR(150) NOT NULL,
+    flow_id VARCHAR(150) NOT NULL,
+    level VARCHAR(10) NOT NULL,
+    date TIMESTAMP NOT NULL,
+    count BIGINT NOT NULL
+);
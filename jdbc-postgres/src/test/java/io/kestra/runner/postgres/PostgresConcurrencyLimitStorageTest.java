@@ -0,0 +1,7 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.jdbc.runner.AbstractJdbcConcurrencyLimitStorageTest;
+
+class PostgresConcurrencyLimitStorageTest extends AbstractJdbcConcurrencyLimitStorageTest {
+
+}
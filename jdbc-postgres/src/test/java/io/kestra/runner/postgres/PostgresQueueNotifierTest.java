@@ -0,0 +1,133 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.utils.Await;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.jdbc.JdbcTestUtils;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.kestra.plugin.core.debug.Return;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Property;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * The poll interval is far longer than the expected wake-up delay, so a message received in time can only come from
+ * a notification.
+ * Messages are emitted from another queue instance, so the consumer is not woken up directly like inside the same
+ * instance.
+ */
+@KestraTest
+@Property(name = "kestra.jdbc.queues.min-poll-interval", value = "10s")
+@Property(name = "kestra.jdbc.queues.max-poll-interval", value = "10s")
+class PostgresQueueNotifierTest {
+    private static final Duration WAKE_UP_DELAY = Duration.ofSeconds(2);
+
+    @Inject
+    private ApplicationContext applicationContext;
+
+    @Inject
+    @Named(QueueFactoryInterface.FLOW_NAMED)
+    private QueueInterface<FlowWithSource> flowQueue;
+
+    @Inject
+    private JooqDSLContextWrapper dslContextWrapper;
+
+    @Inject
+    private JdbcTestUtils jdbcTestUtils;
+
+    @Test
+    void wakeUp() throws Exception {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        Flux<FlowWithSource> receive = TestsUtils.receive(flowQueue, either -> received.add(either.getLeft().getNamespace()));
+
+        try (PostgresQueue<FlowWithSource> emitter = new PostgresQueue<>(FlowWithSource.class, applicationContext)) {
+            // let the consumer do its first poll and sleep
+            Thread.sleep(500);
+
+            emitter.emit(flow("io.kestra.first"));
+            assertThat(received.poll(WAKE_UP_DELAY.toMillis(), TimeUnit.MILLISECONDS), is("io.kestra.first"));
+
+            emitter.emit(flow("io.kestra.second"));
+            assertThat(received.poll(WAKE_UP_DELAY.toMillis(), TimeUnit.MILLISECONDS), is("io.kestra.second"));
+        } finally {
+            receive.blockLast();
+        }
+    }
+
+    @Test
+    void reconnect() throws Exception {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        Flux<FlowWithSource> receive = TestsUtils.receive(flowQueue, either -> received.add(either.getLeft().getNamespace()));
+
+        try (PostgresQueue<FlowWithSource> emitter = new PostgresQueue<>(FlowWithSource.class, applicationContext)) {
+            Thread.sleep(500);
+
+            int terminated = this.terminateListeners();
+            assertThat(terminated, greaterThanOrEqualTo(1));
+
+            // the notification is lost, but the consumers are woken up once listening again
+            emitter.emit(flow("io.kestra.disconnected"));
+            assertThat(received.poll(WAKE_UP_DELAY.multipliedBy(3).toMillis(), TimeUnit.MILLISECONDS), is("io.kestra.disconnected"));
+
+            Await.until(() -> this.listeners() >= terminated, Duration.ofMillis(100), Duration.ofSeconds(10));
+
+            emitter.emit(flow("io.kestra.reconnected"));
+            assertThat(received.poll(WAKE_UP_DELAY.toMillis(), TimeUnit.MILLISECONDS), is("io.kestra.reconnected"));
+        } finally {
+            receive.blockLast();
+        }
+    }
+
+    private int terminateListeners() {
+        return dslContextWrapper.transactionResult(configuration -> DSL.using(configuration)
+            .fetchSingle(
+                "SELECT count(pg_terminate_backend(pid)) FROM pg_stat_activity WHERE query = ? AND pid <> pg_backend_pid()",
+                "LISTEN " + PostgresQueueNotifier.CHANNEL
+            )
+            .get(0, Integer.class)
+        );
+    }
+
+    private int listeners() {
+        return dslContextWrapper.transactionResult(configuration -> DSL.using(configuration)
+            .fetchSingle(
+                "SELECT count(*) FROM pg_stat_activity WHERE query = ? AND state = 'idle'",
+                "LISTEN " + PostgresQueueNotifier.CHANNEL
+            )
+            .get(0, Integer.class)
+        );
+    }
+
+    private static FlowWithSource flow(String namespace) {
+        return FlowWithSource.builder()
+            .id(IdUtils.create())
+            .namespace(namespace)
+            .tasks(List.of(Return.builder().id("test").type(Return.class.getName()).format("test").build()))
+            .build();
+    }
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+}
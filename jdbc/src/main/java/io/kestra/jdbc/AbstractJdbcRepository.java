@@ -5,7 +5,9 @@ import com.google.common.collect.ImmutableMap;
 import io.kestra.core.exceptions.DeserializationException;
 import io.kestra.core.models.executions.metrics.MetricAggregation;
 import io.kestra.core.queues.QueueService;
+import io.kestra.core.repositories.ArrayListCursor;
 import io.kestra.core.repositories.ArrayListTotal;
+import io.kestra.core.repositories.KeysetPageable;
 import io.kestra.core.utils.IdUtils;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Sort;
@@ -97,22 +99,39 @@ public abstract class AbstractJdbcRepository<T> {
     }
 
     public int persistBatch(List<T> items) {
-        return dslContextWrapper.transactionResult(configuration -> {
-            DSLContext dslContext = DSL.using(configuration);
-            var inserts = items.stream().map(item -> {
-                    Map<Field<Object>, Object> finalFields = this.persistFields(item);
-
-                    return dslContext
-                        .insertInto(table)
-                        .set(io.kestra.jdbc.repository.AbstractJdbcRepository.field("key"), key(item))
-                        .set(finalFields)
-                        .onDuplicateKeyUpdate()
-                        .set(finalFields);
-                })
-                .toList();
-
-            return Arrays.stream(dslContext.batch(inserts).execute()).sum();
-        });
+        return dslContextWrapper.transactionResult(configuration ->
+            this.persistBatch(DSL.using(configuration), items)
+        );
+    }
+
+    public int persistBatch(DSLContext dslContext, List<T> items) {
+        var inserts = items.stream().map(item -> {
+                Map<Field<Object>, Object> finalFields = this.persistFields(item);
+
+                return dslContext
+                    .insertInto(table)
+                    .set(io.kestra.jdbc.repository.AbstractJdbcRepository.field("key"), key(item))
+                    .set(finalFields)
+                    .onDuplicateKeyUpdate()
+                    .set(finalFields);
+            })
+            .toList();
+
+        return Arrays.stream(dslContext.batch(inserts).execute()).sum();
+    }
+
+    /**
+     * Insert a row in a table with a "key" primary key, or update the existing one with the update fields.
+     * The update fields can reference the current values of the row, allowing atomic increments.
+     */
+    public void upsert(DSLContext dslContext, Table<Record> table, String key, Map<Field<?>, Object> insertFields, Map<Field<?>, Object> updateFields) {
+        dslContext
+            .insertInto(table)
+            .set(io.kestra.jdbc.repository.AbstractJdbcRepository.field("key"), key)
+            .set(insertFields)
+            .onDuplicateKeyUpdate()
+            .set(updateFields)
+            .execute();
     }
 
     public int delete(T entity) {
@@ -205,6 +224,95 @@ public abstract class AbstractJdbcRepository<T> {
         return this.fetchPage(context, select, pageable, this::map);
     }
 
+    public <R extends Record> ArrayListCursor<T> fetchKeysetPage(DSLContext context, SelectConditionStep<R> select, KeysetPageable pageable) {
+        return this.fetchKeysetPage(context, select, pageable, this::map);
+    }
+
+    /**
+     * Fetch a page seeking after the row of the cursor, the select must be on the table of this repository.
+     */
+    public <R extends Record, E> ArrayListCursor<E> fetchKeysetPage(DSLContext context, SelectConditionStep<R> select, KeysetPageable pageable, RecordMapper<R, E> mapper) {
+        Field<String> keyField = io.kestra.jdbc.repository.AbstractJdbcRepository.field("key", String.class);
+        SelectQuery<R> query = select.getQuery();
+
+        // no SQL_CALC_FOUND_ROWS, it would read all the rows found
+        query.addHint(null);
+
+        long total = pageable.isWithTotal() ? context.fetchCount(query) : -1;
+
+        List<Field<Object>> fields = new ArrayList<>();
+        List<Boolean> ascending = new ArrayList<>();
+        pageable.getSort().getOrderBy().forEach(order -> {
+            fields.add(io.kestra.jdbc.repository.AbstractJdbcRepository.field(order.getProperty()));
+            ascending.add(order.getDirection() == Sort.Order.Direction.ASC);
+        });
+
+        // the key makes the order total
+        fields.add(io.kestra.jdbc.repository.AbstractJdbcRepository.field("key"));
+        ascending.add(ascending.isEmpty() || ascending.getLast());
+
+        Optional<String> after = pageable.after();
+        if (after.isPresent()) {
+            // without the anchor row, the seek would silently return no rows
+            if (!context.fetchExists(this.table, keyField.eq(after.get()))) {
+                throw new IllegalArgumentException("The row of the cursor '" + pageable.getCursor() + "' no longer exists, restart from the first page");
+            }
+
+            query.addConditions(this.seek(fields, ascending, after.get()));
+        }
+
+        query.addSelect(keyField);
+        // nulls are sorted like the largest values, as the seek compares them
+        IntStream.range(0, fields.size()).forEach(i -> query.addOrderBy(ascending.get(i) ? fields.get(i).asc().nullsLast() : fields.get(i).desc().nullsFirst()));
+        // one more row to know if there is a next page
+        query.addLimit(pageable.getSize() + 1);
+
+        Result<R> results = query.fetch();
+
+        String next = null;
+        List<R> page = results;
+        if (results.size() > pageable.getSize()) {
+            page = results.subList(0, pageable.getSize());
+            next = KeysetPageable.cursor(page.getLast().get(keyField));
+        }
+
+        return new ArrayListCursor<>(page.stream().map(mapper::map).toList(), total, next);
+    }
+
+    /**
+     * The rows after the anchor row of this key in the given order, comparing each sorted column to the one of the
+     * anchor row read by primary key, so the cursor doesn't have to hold typed values.
+     * Sorted columns can be nullable, nulls are compared as the largest values.
+     */
+    private Condition seek(List<Field<Object>> fields, List<Boolean> ascending, String after) {
+        Field<Object> keyField = io.kestra.jdbc.repository.AbstractJdbcRepository.field("key");
+
+        Condition seek = DSL.falseCondition();
+        Condition previousEquals = DSL.trueCondition();
+
+        for (int i = 0; i < fields.size(); i++) {
+            Field<Object> field = fields.get(i);
+            Field<Object> anchor = DSL.field(DSL.select(field).from(this.table).where(keyField.eq(after)));
+
+            Condition next = ascending.get(i) ?
+                anchor.isNotNull().and(field.gt(anchor).or(field.isNull())) :
+                field.lt(anchor).or(anchor.isNull().and(field.isNotNull()));
+
+            seek = seek.or(previousEquals.and(next));
+            previousEquals = previousEquals.and(field.isNotDistinctFrom(anchor));
+        }
+
+        // an index range on the first column, the disjunction alone can't use it
+        Field<Object> first = fields.getFirst();
+        Field<Object> firstAnchor = DSL.field(DSL.select(first).from(this.table).where(keyField.eq(after)));
+
+        Condition range = ascending.getFirst() ?
+            first.greaterOrEqual(firstAnchor).or(first.isNull()) :
+            first.lessOrEqual(firstAnchor).or(firstAnchor.isNull());
+
+        return range.and(seek);
+    }
+
     @SneakyThrows
     public List<String> fragments(String query, String yaml) {
         List<String> split = Arrays.asList(StringUtils.split(yaml, "\n"));
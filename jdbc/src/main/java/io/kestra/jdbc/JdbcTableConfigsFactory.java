@@ -125,6 +125,42 @@ public class JdbcTableConfigsFactory {
         return new InstantiableJdbcTableConfig("slamonitor", SLAMonitor.class, "sla_monitor");
     }
 
+    @Bean
+    @Named("concurrencylimit")
+    public InstantiableJdbcTableConfig concurrencyLimit() {
+        return new InstantiableJdbcTableConfig("concurrencylimit", ConcurrencyLimit.class, "concurrency_limit");
+    }
+
+    @Bean
+    @Named("executionstatistics")
+    public InstantiableJdbcTableConfig executionStatistics() {
+        return new InstantiableJdbcTableConfig("executionstatistics", null, "execution_statistics");
+    }
+
+    @Bean
+    @Named("logstatistics")
+    public InstantiableJdbcTableConfig logStatistics() {
+        return new InstantiableJdbcTableConfig("logstatistics", null, "log_statistics");
+    }
+
+    @Bean
+    @Named("executionstatisticsdeltas")
+    public InstantiableJdbcTableConfig executionStatisticsDeltas() {
+        return new InstantiableJdbcTableConfig("executionstatisticsdeltas", null, "execution_statistics_deltas");
+    }
+
+    @Bean
+    @Named("logstatisticsdeltas")
+    public InstantiableJdbcTableConfig logStatisticsDeltas() {
+        return new InstantiableJdbcTableConfig("logstatisticsdeltas", null, "log_statistics_deltas");
+    }
+
+    @Bean
+    @Named("schedulerpartitions")
+    public InstantiableJdbcTableConfig schedulerPartitions() {
+        return new InstantiableJdbcTableConfig("schedulerpartitions", null, "scheduler_partitions");
+    }
+
     @Bean
     @Named("dashboards")
     public InstantiableJdbcTableConfig dashboards() {
@@ -11,13 +11,16 @@ import io.kestra.core.models.flows.FlowScope;
 import io.kestra.core.models.flows.State;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.repositories.ArrayListCursor;
 import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.repositories.ExecutionRepositoryInterface;
+import io.kestra.core.repositories.KeysetPageable;
 import io.kestra.core.runners.Executor;
 import io.kestra.core.runners.ExecutorState;
 import io.kestra.core.utils.DateUtils;
 import io.kestra.core.utils.ListUtils;
 import io.kestra.core.utils.NamespaceUtils;
+import io.kestra.jdbc.JdbcTableConfig;
 import io.kestra.jdbc.runner.AbstractJdbcExecutorStateStorage;
 import io.kestra.jdbc.runner.JdbcQueueIndexerInterface;
 import io.kestra.plugin.core.dashboard.data.Executions;
@@ -44,6 +47,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.*;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -57,6 +61,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
     private final ApplicationEventPublisher<CrudEvent<Execution>> eventPublisher;
     private final ApplicationContext applicationContext;
     protected final AbstractJdbcExecutorStateStorage executorStateStorage;
+    protected final JdbcStatisticsRollup statisticsRollup;
 
     private QueueInterface<Execution> executionQueue;
     private NamespaceUtils namespaceUtils;
@@ -69,6 +74,13 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
     ) {
         this.jdbcRepository = jdbcRepository;
         this.executorStateStorage = executorStateStorage;
+        this.statisticsRollup = new JdbcStatisticsRollup(
+            jdbcRepository,
+            applicationContext.getBean(JdbcTableConfig.class, Qualifiers.byName("executionstatistics")),
+            applicationContext.getBean(JdbcTableConfig.class, Qualifiers.byName("executionstatisticsdeltas")),
+            "state_current",
+            true
+        );
         this.eventPublisher = applicationContext.getBean(ApplicationEventPublisher.class);
         this.namespaceUtils = applicationContext.getBean(NamespaceUtils.class);
 
@@ -85,6 +97,13 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         return this.executionQueue;
     }
 
+    /**
+     * Fold the pending statistics deltas into the rollup, see {@link JdbcStatisticsRollup#fold(int)}.
+     */
+    public int foldStatistics(int limit) {
+        return this.statisticsRollup.fold(limit);
+    }
+
     public Boolean isTaskRunEnabled() {
         return false;
     }
@@ -209,6 +228,46 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
             });
     }
 
+    @Override
+    public ArrayListCursor<Execution> find(
+        KeysetPageable pageable,
+        @Nullable String query,
+        @Nullable String tenantId,
+        @Nullable List<FlowScope> scope,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        @Nullable List<State.Type> state,
+        @Nullable Map<String, String> labels,
+        @Nullable String triggerExecutionId,
+        @Nullable ChildFilter childFilter
+    ) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                SelectConditionStep<Record1<Object>> select = this.findSelect(
+                    context,
+                    query,
+                    tenantId,
+                    scope,
+                    namespace,
+                    flowId,
+                    startDate,
+                    endDate,
+                    state,
+                    labels,
+                    triggerExecutionId,
+                    childFilter,
+                    false
+                );
+
+                return this.jdbcRepository.fetchKeysetPage(context, select, pageable);
+            });
+    }
+
     @Override
     public Flux<Execution> find(
         @Nullable String query,
@@ -355,7 +414,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         ZonedDateTime finalStartDate = startDate == null ? ZonedDateTime.now().minusDays(30) : startDate;
         ZonedDateTime finalEndDate = endDate == null ? ZonedDateTime.now() : endDate;
 
-        Results results = dailyStatisticsQueryForAllTenants(
+        List<Record> records = dailyStatisticsQueryForAllTenants(
             List.of(
                 STATE_CURRENT_FIELD
             ),
@@ -370,9 +429,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         );
 
         return dailyStatisticsQueryMapRecord(
-            results.resultsOrRows()
-                .getFirst()
-                .result(),
+            records,
             finalStartDate,
             finalEndDate,
             groupBy
@@ -399,7 +456,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         ZonedDateTime finalStartDate = startDate == null ? ZonedDateTime.now().minusDays(30) : startDate;
         ZonedDateTime finalEndDate = endDate == null ? ZonedDateTime.now() : endDate;
 
-        Results results = dailyStatisticsQuery(
+        List<Record> records = dailyStatisticsQuery(
             List.of(
                 STATE_CURRENT_FIELD
             ),
@@ -416,9 +473,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         );
 
         return dailyStatisticsQueryMapRecord(
-            results.resultsOrRows()
-                .getFirst()
-                .result(),
+            records,
             finalStartDate,
             finalEndDate,
             groupBy
@@ -426,7 +481,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
     }
 
     private List<DailyExecutionStatistics> dailyStatisticsQueryMapRecord(
-        Result<Record> records,
+        List<Record> records,
         ZonedDateTime startDate,
         ZonedDateTime endDate,
         @Nullable DateUtils.GroupType groupType
@@ -453,7 +508,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
             .toList(), startDate, endDate);
     }
 
-    private Results dailyStatisticsQueryForAllTenants(
+    private List<Record> dailyStatisticsQueryForAllTenants(
         List<Field<?>> fields,
         @Nullable String query,
         @Nullable String namespace,
@@ -466,6 +521,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
     ) {
         return dailyStatisticsQuery(
             this.defaultFilter(),
+            this.defaultFilter(true),
             fields,
             query,
             null,
@@ -479,7 +535,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         );
     }
 
-    private Results dailyStatisticsQuery(
+    private List<Record> dailyStatisticsQuery(
         List<Field<?>> fields,
         @Nullable String query,
         @Nullable String tenantId,
@@ -494,6 +550,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
     ) {
         return dailyStatisticsQuery(
             this.defaultFilter(tenantId),
+            this.defaultFilter(tenantId, true),
             fields,
             query,
             scope,
@@ -507,8 +564,13 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         );
     }
 
-    private Results dailyStatisticsQuery(
+    /**
+     * The full hours of the period are served by the statistics rollup when the query allows it, the partial hours at
+     * its bounds are still aggregated from the executions table.
+     */
+    private List<Record> dailyStatisticsQuery(
         Condition defaultFilter,
+        Condition rollupFilter,
         List<Field<?>> fields,
         @Nullable String query,
         @Nullable List<FlowScope> scope,
@@ -520,7 +582,59 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         @Nullable DateUtils.GroupType groupBy,
         @Nullable List<State.Type> state
     ) {
-        List<Field<?>> dateFields = new ArrayList<>(groupByFields(Duration.between(startDate, endDate), "start_date", groupBy));
+        Duration duration = Duration.between(startDate, endDate);
+        Optional<JdbcStatisticsRollup.Hours> hours = query == null ?
+            JdbcStatisticsRollup.hours(startDate, endDate, groupBy) :
+            Optional.empty();
+
+        return jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                if (hours.isEmpty()) {
+                    return dailyStatisticsRawQuery(context, defaultFilter, fields, query, scope, namespace, flowId, flows, duration, groupBy, state,
+                        START_DATE_FIELD.greaterOrEqual(startDate.toOffsetDateTime()).and(START_DATE_FIELD.lessOrEqual(endDate.toOffsetDateTime()))
+                    );
+                }
+
+                ZonedDateTime from = hours.get().from();
+                ZonedDateTime to = hours.get().to();
+                List<Record> records = new ArrayList<>();
+
+                if (startDate.isBefore(from)) {
+                    records.addAll(dailyStatisticsRawQuery(context, defaultFilter, fields, null, scope, namespace, flowId, flows, duration, groupBy, state,
+                        START_DATE_FIELD.greaterOrEqual(startDate.toOffsetDateTime()).and(START_DATE_FIELD.lessThan(from.toOffsetDateTime()))
+                    ));
+                }
+
+                records.addAll(dailyStatisticsRollupQuery(context, rollupFilter, fields, scope, namespace, flowId, flows, duration, groupBy, state,
+                    this.statisticsRollup.between(from, to)
+                ));
+
+                records.addAll(dailyStatisticsRawQuery(context, defaultFilter, fields, null, scope, namespace, flowId, flows, duration, groupBy, state,
+                    START_DATE_FIELD.greaterOrEqual(to.toOffsetDateTime()).and(START_DATE_FIELD.lessOrEqual(endDate.toOffsetDateTime()))
+                ));
+
+                return records;
+            });
+    }
+
+    private List<Record> dailyStatisticsRawQuery(
+        DSLContext context,
+        Condition defaultFilter,
+        List<Field<?>> fields,
+        @Nullable String query,
+        @Nullable List<FlowScope> scope,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        List<FlowFilter> flows,
+        Duration duration,
+        @Nullable DateUtils.GroupType groupBy,
+        @Nullable List<State.Type> state,
+        Condition dates
+    ) {
+        List<Field<?>> dateFields = new ArrayList<>(groupByFields(duration, "start_date", groupBy));
         List<Field<?>> selectFields = new ArrayList<>(fields);
         selectFields.addAll(List.of(
             DSL.count().as("count"),
@@ -528,35 +642,67 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
             DSL.max(field("state_duration", Long.class)).as("duration_max"),
             DSL.sum(field("state_duration", Long.class)).as("duration_sum")
         ));
-        selectFields.addAll(groupByFields(Duration.between(startDate, endDate), "start_date", groupBy, true));
+        selectFields.addAll(groupByFields(duration, "start_date", groupBy, true));
 
-        return jdbcRepository
-            .getDslContextWrapper()
-            .transactionResult(configuration -> {
-                DSLContext context = DSL.using(configuration);
+        SelectConditionStep<Record> select = context
+            .select(selectFields)
+            .from(this.jdbcRepository.getTable())
+            .where(defaultFilter)
+            .and(dates);
 
-                SelectConditionStep<?> select = context
-                    .select(selectFields)
-                    .from(this.jdbcRepository.getTable())
-                    .where(defaultFilter)
-                    .and(START_DATE_FIELD.greaterOrEqual(startDate.toOffsetDateTime()))
-                    .and(START_DATE_FIELD.lessOrEqual(endDate.toOffsetDateTime()));
+        select = filteringQuery(select, scope, namespace, flowId, flows, query, null, null, null);
 
-                select = filteringQuery(select, scope, namespace, flowId, flows, query, null, null, null);
+        if (state != null) {
+            select = select.and(this.statesFilter(state));
+        }
 
-                if (state != null) {
-                    select = select.and(this.statesFilter(state));
-                }
+        List<Field<?>> groupFields = new ArrayList<>(fields);
 
-                List<Field<?>> groupFields = new ArrayList<>(fields);
+        groupFields.addAll(dateFields);
 
-                groupFields.addAll(dateFields);
+        return select
+            .groupBy(groupFields)
+            .fetch();
+    }
 
-                SelectHavingStep<?> finalQuery = select
-                    .groupBy(groupFields);
+    private List<Record> dailyStatisticsRollupQuery(
+        DSLContext context,
+        Condition rollupFilter,
+        List<Field<?>> fields,
+        @Nullable List<FlowScope> scope,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        List<FlowFilter> flows,
+        Duration duration,
+        @Nullable DateUtils.GroupType groupBy,
+        @Nullable List<State.Type> state,
+        Condition dates
+    ) {
+        List<Field<?>> dateFields = new ArrayList<>(groupByFields(duration, JdbcStatisticsRollup.DATE, groupBy));
+        List<Field<?>> selectFields = new ArrayList<>(fields);
+        selectFields.addAll(this.statisticsRollup.aggregateFields());
+        selectFields.addAll(groupByFields(duration, JdbcStatisticsRollup.DATE, groupBy, true));
 
-                return finalQuery.fetchMany();
-            });
+        SelectConditionStep<Record> select = context
+            .select(selectFields)
+            .from(this.statisticsRollup.getTable())
+            .where(rollupFilter)
+            .and(dates);
+
+        select = filteringQuery(select, scope, namespace, flowId, flows, null, null, null, null);
+
+        if (state != null) {
+            select = select.and(this.statisticsRollup.dimensionIn(state.stream().map(Enum::name).toList()));
+        }
+
+        List<Field<?>> groupFields = new ArrayList<>(fields);
+
+        groupFields.addAll(dateFields);
+
+        return select
+            .groupBy(groupFields)
+            .having(this.statisticsRollup.notEmpty())
+            .fetch();
     }
 
     private <T extends Record> SelectConditionStep<T> filteringQuery(
@@ -631,38 +777,81 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         ZonedDateTime finalStartDate = startDate == null ? ZonedDateTime.now().minusDays(30) : startDate;
         ZonedDateTime finalEndDate = endDate == null ? ZonedDateTime.now() : endDate;
 
+        // counts are not grouped by date, any full hour can be served by the rollup
+        Optional<JdbcStatisticsRollup.Hours> hours = JdbcStatisticsRollup.hours(finalStartDate, finalEndDate, DateUtils.GroupType.HOUR);
+
         return jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
                 DSLContext context = DSL.using(configuration);
-                SelectConditionStep<Record3<String, String, Long>> selectCount = context
-                    .select(NAMESPACE_FIELD, STATE_CURRENT_FIELD, DSL.count().cast(Long.class))
-                    .from(this.jdbcRepository.getTable())
-                    .where(this.defaultFilter(tenantId))
-                    .and(START_DATE_FIELD.greaterOrEqual(finalStartDate.toOffsetDateTime()))
-                    .and(START_DATE_FIELD.lessOrEqual(finalEndDate.toOffsetDateTime()));
+                List<Record3<String, String, Long>> records = new ArrayList<>();
 
-                if (namespace != null) {
-                    selectCount = selectCount.and(NAMESPACE_FIELD.eq(namespace));
-                }
+                if (hours.isEmpty()) {
+                    records.addAll(this.executionCountsRawQuery(context, tenantId, namespace,
+                        START_DATE_FIELD.greaterOrEqual(finalStartDate.toOffsetDateTime()).and(START_DATE_FIELD.lessOrEqual(finalEndDate.toOffsetDateTime()))
+                    ));
+                } else {
+                    ZonedDateTime from = hours.get().from();
+                    ZonedDateTime to = hours.get().to();
+
+                    if (finalStartDate.isBefore(from)) {
+                        records.addAll(this.executionCountsRawQuery(context, tenantId, namespace,
+                            START_DATE_FIELD.greaterOrEqual(finalStartDate.toOffsetDateTime()).and(START_DATE_FIELD.lessThan(from.toOffsetDateTime()))
+                        ));
+                    }
+
+                    SelectConditionStep<Record3<String, String, Long>> selectRollup = context
+                        .select(NAMESPACE_FIELD, STATE_CURRENT_FIELD, DSL.sum(field("count", Long.class)).cast(Long.class))
+                        .from(this.statisticsRollup.getTable())
+                        .where(this.defaultFilter(tenantId, true))
+                        .and(this.statisticsRollup.between(from, to));
+
+                    if (namespace != null) {
+                        selectRollup = selectRollup.and(NAMESPACE_FIELD.eq(namespace));
+                    }
+
+                    records.addAll(selectRollup
+                        .groupBy(STATE_CURRENT_FIELD, NAMESPACE_FIELD)
+                        .having(this.statisticsRollup.notEmpty())
+                        .fetch()
+                    );
 
-                Map<String, Result<Record3<String, String, Long>>> resultByNamespace = selectCount
-                    .groupBy(STATE_CURRENT_FIELD, NAMESPACE_FIELD)
-                    .fetch()
-                    .intoGroups(NAMESPACE_FIELD);
+                    records.addAll(this.executionCountsRawQuery(context, tenantId, namespace,
+                        START_DATE_FIELD.greaterOrEqual(to.toOffsetDateTime()).and(START_DATE_FIELD.lessOrEqual(finalEndDate.toOffsetDateTime()))
+                    ));
+                }
 
-                return resultByNamespace.entrySet().stream()
+                return records
+                    .stream()
+                    .collect(Collectors.groupingBy(Record3::value1))
+                    .entrySet()
+                    .stream()
                     .map(entry -> {
                         Map<State.Type, Long> counts = entry.getValue()
                             .stream()
-                            .map(r -> new AbstractMap.SimpleEntry<>(State.Type.valueOf(r.value2()), r.value3()))
-                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                            .collect(Collectors.toMap(r -> State.Type.valueOf(r.value2()), Record3::value3, Long::sum));
                         return new AbstractMap.SimpleEntry<>(entry.getKey(), new ExecutionCountStatistics(counts));
                     })
                     .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
             });
     }
 
+    private List<Record3<String, String, Long>> executionCountsRawQuery(DSLContext context, @Nullable String tenantId, @Nullable String namespace, Condition dates) {
+        SelectConditionStep<Record3<String, String, Long>> selectCount = context
+            .select(NAMESPACE_FIELD, STATE_CURRENT_FIELD, DSL.count().cast(Long.class))
+            .from(this.jdbcRepository.getTable())
+            .where(this.defaultFilter(tenantId))
+            .and(dates);
+
+        if (namespace != null) {
+            selectCount = selectCount.and(NAMESPACE_FIELD.eq(namespace));
+        }
+
+        return selectCount
+            .groupBy(STATE_CURRENT_FIELD, NAMESPACE_FIELD)
+            .fetch();
+    }
+
     @Override
     public Map<String, Map<String, List<DailyExecutionStatistics>>> dailyGroupByFlowStatistics(
         @Nullable String query,
@@ -686,7 +875,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         ZonedDateTime finalStartDate = startDate == null ? ZonedDateTime.now().minusDays(30) : startDate;
         ZonedDateTime finalEndDate = endDate == null ? ZonedDateTime.now() : endDate;
 
-        Results results = dailyStatisticsQuery(
+        List<Record> records = dailyStatisticsQuery(
             fields,
             query,
             tenantId,
@@ -700,11 +889,9 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
             null
         );
 
-        return results
-            .resultsOrRows()
-            .getFirst()
-            .result()
-            .intoGroups(NAMESPACE_FIELD)
+        return records
+            .stream()
+            .collect(Collectors.groupingBy(record -> record.get(NAMESPACE_FIELD)))
             .entrySet()
             .stream()
             .map(e -> {
@@ -724,7 +911,9 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
                 } else {
                     return new AbstractMap.SimpleEntry<>(
                         e.getKey(),
-                        e.getValue().intoGroups(field("flow_id", String.class))
+                        e.getValue()
+                            .stream()
+                            .collect(Collectors.groupingBy(record -> record.get("flow_id", String.class)))
                             .entrySet()
                             .stream()
                             .map(f -> new AbstractMap.SimpleEntry<>(
@@ -807,8 +996,8 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
             .groupBy(groupByType)
             .duration(DailyExecutionStatistics.Duration.builder()
                 .avg(Duration.ofMillis(durationSum / count))
-                .min(result.stream().map(ExecutionStatistics::getDurationMin).min(Long::compare).map(Duration::ofMillis).orElse(null))
-                .max(result.stream().map(ExecutionStatistics::getDurationMax).max(Long::compare).map(Duration::ofMillis).orElse(null))
+                .min(result.stream().map(ExecutionStatistics::getDurationMin).filter(Objects::nonNull).min(Long::compare).map(Duration::ofMillis).orElse(null))
+                .max(result.stream().map(ExecutionStatistics::getDurationMax).filter(Objects::nonNull).max(Long::compare).map(Duration::ofMillis).orElse(null))
                 .sum(Duration.ofMillis(durationSum))
                 .count(count)
                 .build()
@@ -818,7 +1007,8 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         result.forEach(record -> build.getExecutionCounts()
             .compute(
                 State.Type.valueOf(record.getStateCurrent()),
-                (type, current) -> record.getCount()
+                // the same state can come from the raw table and from the rollup
+                (type, current) -> current == null ? record.getCount() : current + record.getCount()
             ));
 
         return build;
@@ -975,16 +1165,16 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
 
     @Override
     public Execution save(Execution execution) {
-        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(execution);
-        this.jdbcRepository.persist(execution, fields);
+        this.jdbcRepository
+            .getDslContextWrapper()
+            .transaction(configuration -> this.persist(DSL.using(configuration), execution));
 
         return execution;
     }
 
     @Override
     public Execution save(DSLContext dslContext, Execution execution) {
-        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(execution);
-        this.jdbcRepository.persist(execution, dslContext, fields);
+        this.persist(dslContext, execution);
 
         return execution;
     }
@@ -995,7 +1185,14 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
             return 0;
         }
 
-        return this.jdbcRepository.persistBatch(items);
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+                items.forEach(execution -> this.persist(context, execution));
+
+                return items.size();
+            });
     }
 
     @Override
@@ -1003,12 +1200,17 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         return this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
-                DSL.using(configuration)
+                DSLContext context = DSL.using(configuration);
+                Optional<Record3<Boolean, String, Double>> previous = this.statistics(context, execution);
+
+                context
                     .update(this.jdbcRepository.getTable())
                     .set(this.jdbcRepository.persistFields((execution)))
                     .where(field("key").eq(execution.getId()))
                     .execute();
 
+                this.statisticsRollup.add(context, this.statisticsDeltas(execution, previous, this.statistics(context, execution)));
+
                 return execution;
             });
     }
@@ -1023,8 +1225,9 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
 
         Execution deleted = execution.toDeleted();
 
-        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(deleted);
-        this.jdbcRepository.persist(deleted, fields);
+        this.jdbcRepository
+            .getDslContextWrapper()
+            .transaction(configuration -> this.persist(DSL.using(configuration), deleted));
 
         executionQueue().emit(deleted);
 
@@ -1035,10 +1238,88 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
 
     @Override
     public Integer purge(Execution execution) {
-        return this.jdbcRepository.delete(execution);
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+                Optional<Record3<Boolean, String, Double>> previous = this.statistics(context, execution);
+
+                int deleted = this.jdbcRepository.delete(context, execution);
+                this.statisticsRollup.add(context, this.statisticsDeltas(execution, previous, Optional.empty()));
+
+                return deleted;
+            });
+    }
+
+    /**
+     * Persist the execution and move it in the statistics rollup, from the state it had to its new one.
+     */
+    private void persist(DSLContext context, Execution execution) {
+        Optional<Record3<Boolean, String, Double>> previous = this.statistics(context, execution);
+
+        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(execution);
+        this.jdbcRepository.persist(execution, context, fields);
+
+        this.statisticsRollup.add(context, this.statisticsDeltas(execution, previous, this.statistics(context, execution)));
+    }
+
+    /**
+     * The stored duration is read back as its unit depends on the database.
+     */
+    private Optional<Record3<Boolean, String, Double>> statistics(DSLContext context, Execution execution) {
+        return context
+            .select(field("deleted", Boolean.class), STATE_CURRENT_FIELD, field("state_duration", Double.class))
+            .from(this.jdbcRepository.getTable())
+            .where(field("key").eq(this.jdbcRepository.key(execution)))
+            .fetchOptional();
+    }
+
+    /**
+     * The namespace, the flow and the start date of an execution never change, only its state, its duration and its
+     * deleted flag can move it from a bucket of the rollup to another.
+     */
+    private List<JdbcStatisticsRollup.Delta> statisticsDeltas(
+        Execution execution,
+        Optional<Record3<Boolean, String, Double>> previous,
+        Optional<Record3<Boolean, String, Double>> current
+    ) {
+        List<JdbcStatisticsRollup.Delta> deltas = new ArrayList<>(2);
+        Instant startDate = execution.getState().getStartDate();
+
+        previous
+            .filter(record -> !record.value1())
+            .ifPresent(record -> deltas.add(JdbcStatisticsRollup.Delta.removed(
+                execution.getTenantId(),
+                execution.getNamespace(),
+                execution.getFlowId(),
+                record.value2(),
+                startDate,
+                record.value3()
+            )));
+
+        current
+            .filter(record -> !record.value1())
+            .ifPresent(record -> deltas.add(JdbcStatisticsRollup.Delta.added(
+                execution.getTenantId(),
+                execution.getNamespace(),
+                execution.getFlowId(),
+                record.value2(),
+                startDate,
+                record.value3()
+            )));
+
+        return deltas;
     }
 
     public Executor lock(String executionId, Function<Pair<Execution, ExecutorState>, Pair<Executor, ExecutorState>> function) {
+        return this.lock(executionId, (context, pair) -> function.apply(pair));
+    }
+
+    /**
+     * Same as {@link #lock(String, Function)} but the function also receives the context of the lock transaction,
+     * so other changes can be made atomically with the execution update.
+     */
+    public Executor lock(String executionId, BiFunction<DSLContext, Pair<Execution, ExecutorState>, Pair<Executor, ExecutorState>> function) {
         return this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
@@ -1059,10 +1340,11 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
                 }
 
                 ExecutorState executorState = executorStateStorage.get(context, execution.get());
-                Pair<Executor, ExecutorState> pair = function.apply(Pair.of(execution.get(), executorState));
+                Pair<Executor, ExecutorState> pair = function.apply(context, Pair.of(execution.get(), executorState));
 
                 if (pair != null) {
-                    this.jdbcRepository.persist(pair.getKey().getExecution(), context, null);
+                    // journal the statistics delta now, the execution is indexed again later with the same state
+                    this.persist(context, pair.getKey().getExecution());
                     this.executorStateStorage.save(context, pair.getRight());
 
                     return pair.getKey();
@@ -727,4 +727,19 @@ public abstract class AbstractJdbcFlowRepository extends AbstractJdbcRepository
                 )
             );
     }
+
+    @Override
+    public Optional<Integer> maxRevision(String tenantId, String namespace, String id) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> Optional.ofNullable(DSL
+                .using(configuration)
+                .select(DSL.max(field("revision", Integer.class)))
+                .from(this.jdbcRepository.getTable())
+                .where(this.defaultFilter(tenantId))
+                .and(NAMESPACE_FIELD.eq(namespace))
+                .and(field("id", String.class).eq(id))
+                .fetchOne(0, Integer.class)
+            ));
+    }
 }
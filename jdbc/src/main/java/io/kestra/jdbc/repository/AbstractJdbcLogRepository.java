@@ -5,22 +5,29 @@ import io.kestra.core.models.dashboards.DataFilter;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.executions.LogEntry;
 import io.kestra.core.models.executions.statistics.LogStatistics;
+import io.kestra.core.repositories.ArrayListCursor;
 import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.repositories.LogRepositoryInterface;
+import io.kestra.core.repositories.KeysetPageable;
 import io.kestra.core.utils.DateUtils;
 import io.kestra.core.utils.ListUtils;
+import io.kestra.jdbc.JdbcTableConfig;
 import io.kestra.plugin.core.dashboard.data.Logs;
 import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
 import jakarta.annotation.Nullable;
 import org.apache.commons.lang3.NotImplementedException;
 import org.jooq.Record;
 import org.jooq.*;
 import org.jooq.impl.DSL;
 import org.slf4j.event.Level;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -30,14 +37,25 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository implements LogRepositoryInterface {
+    private static final int STREAM_PAGE_SIZE = 1000;
+
     protected io.kestra.jdbc.AbstractJdbcRepository<LogEntry> jdbcRepository;
+    protected final JdbcStatisticsRollup statisticsRollup;
 
-    public AbstractJdbcLogRepository(io.kestra.jdbc.AbstractJdbcRepository<LogEntry> jdbcRepository) {
+    public AbstractJdbcLogRepository(io.kestra.jdbc.AbstractJdbcRepository<LogEntry> jdbcRepository, JdbcTableConfig statisticsTableConfig, JdbcTableConfig statisticsDeltasTableConfig) {
         this.jdbcRepository = jdbcRepository;
+        this.statisticsRollup = new JdbcStatisticsRollup(jdbcRepository, statisticsTableConfig, statisticsDeltasTableConfig, "level", false);
     }
 
     abstract protected Condition findCondition(String query);
 
+    /**
+     * Fold the pending statistics deltas into the rollup, see {@link JdbcStatisticsRollup#fold(int)}.
+     */
+    public int foldStatistics(int limit) {
+        return this.statisticsRollup.fold(limit);
+    }
+
     @Override
     public ArrayListTotal<LogEntry> find(
         Pageable pageable,
@@ -55,18 +73,55 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
             .transactionResult(configuration -> {
                 DSLContext context = DSL.using(configuration);
 
-                SelectConditionStep<Record1<Object>> select = context
-                    .select(field("value"))
-                    .hint(context.configuration().dialect().supports(SQLDialect.MYSQL) ? "SQL_CALC_FOUND_ROWS" : null)
-                    .from(this.jdbcRepository.getTable())
-                    .where(this.defaultFilter(tenantId));
-
-                this.filter(select, query, namespace, flowId, triggerId, minLevel, startDate , endDate);
+                SelectConditionStep<Record1<Object>> select = this.findSelect(context, query, tenantId, namespace, flowId, triggerId, minLevel, startDate, endDate);
 
                 return this.jdbcRepository.fetchPage(context, select, pageable);
             });
     }
 
+    @Override
+    public ArrayListCursor<LogEntry> find(
+        KeysetPageable pageable,
+        @Nullable String query,
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable String triggerId,
+        @Nullable Level minLevel,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate
+    ) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                SelectConditionStep<Record1<Object>> select = this.findSelect(context, query, tenantId, namespace, flowId, triggerId, minLevel, startDate, endDate);
+
+                return this.jdbcRepository.fetchKeysetPage(context, select, pageable);
+            });
+    }
+
+    private SelectConditionStep<Record1<Object>> findSelect(
+        DSLContext context,
+        @Nullable String query,
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable String triggerId,
+        @Nullable Level minLevel,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate
+    ) {
+        SelectConditionStep<Record1<Object>> select = context
+            .select(field("value"))
+            .hint(context.configuration().dialect().supports(SQLDialect.MYSQL) ? "SQL_CALC_FOUND_ROWS" : null)
+            .from(this.jdbcRepository.getTable())
+            .where(this.defaultFilter(tenantId));
+
+        return this.filter(select, query, namespace, flowId, triggerId, minLevel, startDate, endDate);
+    }
+
     private <T extends Record> SelectConditionStep<T> filter(
         SelectConditionStep<T> select,
         @Nullable String query,
@@ -123,35 +178,36 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
         ZonedDateTime finalEndDate = endDate == null ? ZonedDateTime.now() : endDate;
         DateUtils.GroupType groupByType = DateUtils.groupByType(Duration.between(finalStartDate, finalEndDate));
 
-        List<Field<String>> fields = List.of(field("level", String.class));
-
-        List<Field<?>> dateFields = new ArrayList<>(groupByFields(Duration.between(finalStartDate, finalEndDate), "timestamp", groupBy));
-        List<Field<?>> selectFields = new ArrayList<>(fields);
-        selectFields.add(
-            DSL.count().as("count")
-        );
-        selectFields.addAll(groupByFields(Duration.between(finalStartDate, finalEndDate), "timestamp", groupBy, true));
+        Duration duration = Duration.between(finalStartDate, finalEndDate);
+        Optional<JdbcStatisticsRollup.Hours> hours = query == null ?
+            JdbcStatisticsRollup.hours(finalStartDate, finalEndDate, groupBy) :
+            Optional.empty();
 
         return this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
                 DSLContext context = DSL.using(configuration);
+                List<Record> records = new ArrayList<>();
+
+                if (hours.isEmpty()) {
+                    records.addAll(this.statisticsRawQuery(context, query, tenantId, namespace, flowId, minLevel, startDate, endDate, duration, groupBy, DSL.trueCondition()));
+                } else {
+                    // the full hours are served by the rollup, the partial hours at the bounds by the logs table
+                    ZonedDateTime from = hours.get().from();
+                    ZonedDateTime to = hours.get().to();
+
+                    if (finalStartDate.isBefore(from)) {
+                        records.addAll(this.statisticsRawQuery(context, null, tenantId, namespace, flowId, minLevel, finalStartDate, null, duration, groupBy,
+                            field("timestamp").lessThan(from.toOffsetDateTime())
+                        ));
+                    }
+
+                    records.addAll(this.statisticsRollupQuery(context, tenantId, namespace, flowId, minLevel, from, to, duration, groupBy));
+                    records.addAll(this.statisticsRawQuery(context, null, tenantId, namespace, flowId, minLevel, to, finalEndDate, duration, groupBy, DSL.trueCondition()));
+                }
 
-                SelectConditionStep<Record> select = context
-                    .select(selectFields)
-                    .from(this.jdbcRepository.getTable())
-                    .where(this.defaultFilter(tenantId));
-
-                this.filter(select, query, namespace, flowId, null, minLevel, startDate, endDate);
-
-                List<Field<?>> groupFields = new ArrayList<>(fields);
-                groupFields.addAll(dateFields);
-
-                SelectHavingStep<?> finalQuery = select
-                    .groupBy(groupFields);
-
-                List<LogStatistics> result = finalQuery
-                    .fetch()
+                List<LogStatistics> result = records
+                    .stream()
                     .map(record -> {
                         Instant date = this.jdbcRepository.getDate(record, groupByType.val());
                         LogStatistics base = LogStatistics
@@ -170,7 +226,8 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
                             .toBuilder()
                             .counts(counts)
                             .build();
-                    });
+                    })
+                    .toList();
 
                 return fillDate(result, finalStartDate, finalEndDate);
             })
@@ -179,6 +236,89 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
             .toList();
     }
 
+    private List<Record> statisticsRawQuery(
+        DSLContext context,
+        @Nullable String query,
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable Level minLevel,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        Duration duration,
+        @Nullable DateUtils.GroupType groupBy,
+        Condition dates
+    ) {
+        List<Field<String>> fields = List.of(field("level", String.class));
+
+        List<Field<?>> dateFields = new ArrayList<>(groupByFields(duration, "timestamp", groupBy));
+        List<Field<?>> selectFields = new ArrayList<>(fields);
+        selectFields.add(
+            DSL.count().as("count")
+        );
+        selectFields.addAll(groupByFields(duration, "timestamp", groupBy, true));
+
+        SelectConditionStep<Record> select = context
+            .select(selectFields)
+            .from(this.jdbcRepository.getTable())
+            .where(this.defaultFilter(tenantId))
+            .and(dates);
+
+        this.filter(select, query, namespace, flowId, null, minLevel, startDate, endDate);
+
+        List<Field<?>> groupFields = new ArrayList<>(fields);
+        groupFields.addAll(dateFields);
+
+        return select
+            .groupBy(groupFields)
+            .fetch();
+    }
+
+    private List<Record> statisticsRollupQuery(
+        DSLContext context,
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable Level minLevel,
+        ZonedDateTime from,
+        ZonedDateTime to,
+        Duration duration,
+        @Nullable DateUtils.GroupType groupBy
+    ) {
+        List<Field<String>> fields = List.of(field("level", String.class));
+
+        List<Field<?>> dateFields = new ArrayList<>(groupByFields(duration, JdbcStatisticsRollup.DATE, groupBy));
+        List<Field<?>> selectFields = new ArrayList<>(fields);
+        selectFields.addAll(this.statisticsRollup.aggregateFields());
+        selectFields.addAll(groupByFields(duration, JdbcStatisticsRollup.DATE, groupBy, true));
+
+        SelectConditionStep<Record> select = context
+            .select(selectFields)
+            .from(this.statisticsRollup.getTable())
+            .where(this.defaultFilter(tenantId, true))
+            .and(this.statisticsRollup.between(from, to));
+
+        if (namespace != null) {
+            select = select.and(DSL.or(field("namespace").eq(namespace), field("namespace").likeIgnoreCase(namespace + ".%")));
+        }
+
+        if (flowId != null) {
+            select = select.and(field("flow_id").eq(flowId));
+        }
+
+        if (minLevel != null) {
+            select = select.and(this.statisticsRollup.dimensionIn(LogEntry.findLevelsByMin(minLevel).stream().map(Level::name).toList()));
+        }
+
+        List<Field<?>> groupFields = new ArrayList<>(fields);
+        groupFields.addAll(dateFields);
+
+        return select
+            .groupBy(groupFields)
+            .having(this.statisticsRollup.notEmpty())
+            .fetch();
+    }
+
     private List<LogStatistics> fillDate(List<LogStatistics> result, ZonedDateTime startDate, ZonedDateTime endDate) {
         DateUtils.GroupType groupByType = DateUtils.groupByType(Duration.between(startDate, endDate));
 
@@ -262,6 +402,34 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
         );
     }
 
+    @Override
+    public Flux<LogEntry> findAllByExecutionId(String tenantId, String executionId, @Nullable Level minLevel, @Nullable String taskRunId, @Nullable List<String> taskIds, @Nullable Integer attempt) {
+        return this.findAllByExecutionId(tenantId, executionId, minLevel, taskRunId, taskIds, attempt, true);
+    }
+
+    @Override
+    public Flux<LogEntry> findAllByExecutionIdWithoutAcl(String tenantId, String executionId, @Nullable Level minLevel, @Nullable String taskRunId, @Nullable List<String> taskIds, @Nullable Integer attempt) {
+        return this.findAllByExecutionId(tenantId, executionId, minLevel, taskRunId, taskIds, attempt, false);
+    }
+
+    private Flux<LogEntry> findAllByExecutionId(String tenantId, String executionId, Level minLevel, String taskRunId, List<String> taskIds, Integer attempt, boolean withAccessControl) {
+        Condition condition = field("execution_id").eq(executionId);
+
+        if (taskIds != null && !taskIds.isEmpty()) {
+            condition = condition.and(field("task_id").in(taskIds));
+        }
+
+        if (taskRunId != null) {
+            condition = condition.and(field("taskrun_id").eq(taskRunId));
+        }
+
+        if (attempt != null) {
+            condition = condition.and(field("attempt_number").eq(attempt));
+        }
+
+        return this.stream(tenantId, condition, minLevel, withAccessControl);
+    }
+
     @Override
     public List<LogEntry> findByExecutionId(String tenantId, String namespace, String flowId, String executionId, Level minLevel) {
         return this.query(
@@ -385,8 +553,16 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
 
     @Override
     public LogEntry save(LogEntry log) {
-        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(log);
-        this.jdbcRepository.persist(log, fields);
+        this.jdbcRepository
+            .getDslContextWrapper()
+            .transaction(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(log);
+                this.jdbcRepository.persist(log, context, fields);
+
+                this.statisticsRollup.add(context, List.of(statisticsDelta(log)));
+            });
 
         return log;
     }
@@ -397,7 +573,16 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
             return 0;
         }
 
-        return this.jdbcRepository.persistBatch(items);
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                int saved = this.jdbcRepository.persistBatch(context, items);
+                this.statisticsRollup.add(context, items.stream().map(AbstractJdbcLogRepository::statisticsDelta).toList());
+
+                return saved;
+            });
     }
 
     @Override
@@ -407,12 +592,12 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
             .transactionResult(configuration -> {
                 DSLContext context = DSL.using(configuration);
 
-                return context.delete(this.jdbcRepository.getTable())
-                    // The deleted field is not used, so ti will always be false.
-                    // We add it here to be sure to use the correct index.
-                    .where(field("deleted", Boolean.class).eq(false))
-                    .and(field("execution_id", String.class).eq(execution.getId()))
-                    .execute();
+                // The deleted field is not used, so ti will always be false.
+                // We add it here to be sure to use the correct index.
+                Condition condition = field("deleted", Boolean.class).eq(false)
+                    .and(field("execution_id", String.class).eq(execution.getId()));
+
+                return this.delete(context, condition);
             });
     }
 
@@ -423,28 +608,26 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
             .transaction(configuration -> {
                 DSLContext context = DSL.using(configuration);
 
-                var delete = context
-                    .delete(this.jdbcRepository.getTable())
-                    .where(this.defaultFilter(tenantId))
+                Condition condition = this.defaultFilter(tenantId)
                     .and(field("execution_id").eq(executionId));
 
                 if (taskId != null) {
-                    delete = delete.and(field("task_id").eq(taskId));
+                    condition = condition.and(field("task_id").eq(taskId));
                 }
 
                 if (taskRunId != null) {
-                    delete = delete.and(field("taskrun_id").eq(taskRunId));
+                    condition = condition.and(field("taskrun_id").eq(taskRunId));
                 }
 
                 if (minLevel != null) {
-                    delete = delete.and(minLevel(minLevel));
+                    condition = condition.and(minLevel(minLevel));
                 }
 
                 if (attempt != null) {
-                    delete = delete.and(field("attempt_number").eq(attempt));
+                    condition = condition.and(field("attempt_number").eq(attempt));
                 }
 
-                delete.execute();
+                this.delete(context, condition);
             });
     }
 
@@ -455,17 +638,15 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
             .transaction(configuration -> {
                 DSLContext context = DSL.using(configuration);
 
-                var delete = context
-                    .delete(this.jdbcRepository.getTable())
-                    .where(this.defaultFilter(tenantId))
+                Condition condition = this.defaultFilter(tenantId)
                     .and(field("namespace").eq(namespace))
                     .and(field("flow_id").eq(flowId));
 
                 if (triggerId != null) {
-                    delete = delete.and(field("trigger_id").eq(triggerId));
+                    condition = condition.and(field("trigger_id").eq(triggerId));
                 }
 
-                delete.execute();
+                this.delete(context, condition);
             });
     }
 
@@ -476,31 +657,90 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
             .transactionResult(configuration -> {
                 DSLContext context = DSL.using(configuration);
 
-                var delete = context
-                    .delete(this.jdbcRepository.getTable())
-                    .where(this.defaultFilter(tenantId))
+                Condition condition = this.defaultFilter(tenantId)
                     .and(field("timestamp").lessOrEqual(endDate.toOffsetDateTime()));
 
                 if (startDate != null) {
-                    delete = delete.and(field("timestamp").greaterOrEqual(startDate.toOffsetDateTime()));
+                    condition = condition.and(field("timestamp").greaterOrEqual(startDate.toOffsetDateTime()));
                 }
 
                 if (namespace != null) {
-                    delete = delete.and(field("namespace").eq(namespace));
+                    condition = condition.and(field("namespace").eq(namespace));
                 }
 
                 if (flowId != null) {
-                    delete = delete.and(field("flow_id").eq(flowId));
+                    condition = condition.and(field("flow_id").eq(flowId));
                 }
 
                 if (logLevels != null) {
-                    delete = delete.and(levelsCondition(logLevels));
+                    condition = condition.and(levelsCondition(logLevels));
                 }
 
-                return delete.execute();
+                return this.delete(context, condition);
             });
     }
 
+    /**
+     * Delete the logs and remove them from the statistics rollup, counted by hour in the same transaction.
+     */
+    private int delete(DSLContext context, Condition condition) {
+        List<Field<?>> fields = new ArrayList<>(List.of(
+            field("tenant_id", String.class),
+            field("namespace", String.class),
+            field("flow_id", String.class),
+            field("level", String.class)
+        ));
+        List<Field<?>> hourFields = groupByFields(Duration.ZERO, "timestamp", DateUtils.GroupType.HOUR, false);
+
+        List<Field<?>> selectFields = new ArrayList<>(fields);
+        selectFields.add(DSL.count().as("count"));
+        selectFields.addAll(groupByFields(Duration.ZERO, "timestamp", DateUtils.GroupType.HOUR, true));
+
+        List<Field<?>> groupFields = new ArrayList<>(fields);
+        groupFields.addAll(hourFields);
+
+        List<JdbcStatisticsRollup.Delta> deltas = context
+            .select(selectFields)
+            .from(this.jdbcRepository.getTable())
+            .where(condition)
+            .groupBy(groupFields)
+            .fetch()
+            .map(record -> JdbcStatisticsRollup.Delta.of(
+                record.get("tenant_id", String.class),
+                record.get("namespace", String.class),
+                record.get("flow_id", String.class),
+                record.get("level", String.class),
+                LocalDateTime.of(
+                    record.get("year", Integer.class),
+                    record.get("month", Integer.class),
+                    record.get("day", Integer.class),
+                    record.get("hour", Integer.class),
+                    0
+                ),
+                -record.get("count", Long.class)
+            ));
+
+        int deleted = context
+            .delete(this.jdbcRepository.getTable())
+            .where(condition)
+            .execute();
+
+        this.statisticsRollup.add(context, deltas);
+
+        return deleted;
+    }
+
+    private static JdbcStatisticsRollup.Delta statisticsDelta(LogEntry log) {
+        return JdbcStatisticsRollup.Delta.of(
+            log.getTenantId(),
+            log.getNamespace(),
+            log.getFlowId(),
+            log.getLevel().name(),
+            JdbcStatisticsRollup.bucket(log.getTimestamp()),
+            1
+        );
+    }
+
     private ArrayListTotal<LogEntry> query(String tenantId, Condition condition, Level minLevel, Pageable pageable) {
         return this.jdbcRepository
             .getDslContextWrapper()
@@ -528,17 +768,7 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
         return this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
-                SelectConditionStep<Record1<Object>> select = DSL
-                    .using(configuration)
-                    .select(field("value"))
-                    .from(this.jdbcRepository.getTable())
-                    .where(withAccessControl ? this.defaultFilter(tenantId) : this.defaultFilterWithNoACL(tenantId));
-
-                select = select.and(condition);
-
-                if (minLevel != null) {
-                    select = select.and(minLevel(minLevel));
-                }
+                SelectConditionStep<Record1<Object>> select = this.select(DSL.using(configuration), tenantId, condition, minLevel, withAccessControl);
 
                 return this.jdbcRepository.fetch(select
                     .orderBy(field("timestamp").sort(SortOrder.ASC))
@@ -546,6 +776,46 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
             });
     }
 
+    /**
+     * Stream the logs sorted by date, each page is fetched with the keyset pagination in its own transaction when it's
+     * requested, so a slow subscriber neither holds a connection nor makes the logs accumulate in memory.
+     */
+    private Flux<LogEntry> stream(String tenantId, Condition condition, Level minLevel, boolean withAccessControl) {
+        Sort sort = Sort.of(Sort.Order.asc("timestamp"));
+
+        return Mono
+            .fromCallable(() -> this.page(tenantId, condition, minLevel, withAccessControl, KeysetPageable.from(STREAM_PAGE_SIZE, sort, null, false)))
+            .expand(page -> page.getNext() == null ?
+                Mono.empty() :
+                Mono.fromCallable(() -> this.page(tenantId, condition, minLevel, withAccessControl, KeysetPageable.from(STREAM_PAGE_SIZE, sort, page.getNext(), false)))
+            )
+            .flatMapIterable(page -> page, 1);
+    }
+
+    private ArrayListCursor<LogEntry> page(String tenantId, Condition condition, Level minLevel, boolean withAccessControl, KeysetPageable pageable) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                return this.jdbcRepository.fetchKeysetPage(context, this.select(context, tenantId, condition, minLevel, withAccessControl), pageable);
+            });
+    }
+
+    private SelectConditionStep<Record1<Object>> select(DSLContext context, String tenantId, Condition condition, Level minLevel, boolean withAccessControl) {
+        SelectConditionStep<Record1<Object>> select = context
+            .select(field("value"))
+            .from(this.jdbcRepository.getTable())
+            .where(withAccessControl ? this.defaultFilter(tenantId) : this.defaultFilterWithNoACL(tenantId))
+            .and(condition);
+
+        if (minLevel != null) {
+            select = select.and(minLevel(minLevel));
+        }
+
+        return select;
+    }
+
     private Condition minLevel(Level minLevel) {
         return levelsCondition(LogEntry.findLevelsByMin(minLevel));
     }
@@ -6,11 +6,14 @@ import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.triggers.AbstractTrigger;
 import io.kestra.core.models.triggers.Trigger;
 import io.kestra.core.models.triggers.TriggerContext;
+import io.kestra.core.repositories.ArrayListCursor;
 import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.repositories.TriggerRepositoryInterface;
+import io.kestra.core.repositories.KeysetPageable;
 import io.kestra.core.schedulers.ScheduleContextInterface;
 import io.kestra.jdbc.runner.JdbcQueueIndexerInterface;
 import io.kestra.jdbc.runner.JdbcSchedulerContext;
+import io.kestra.jdbc.runner.JdbcSchedulerPartitions;
 import io.micronaut.data.model.Pageable;
 import jakarta.annotation.Nullable;
 import org.jooq.*;
@@ -19,6 +22,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -26,6 +30,7 @@ import java.util.function.Function;
 
 public abstract class AbstractJdbcTriggerRepository extends AbstractJdbcRepository implements TriggerRepositoryInterface, JdbcQueueIndexerInterface<Trigger> {
     public static final Field<Object> NAMESPACE_FIELD = field("namespace");
+    private static final Field<Object> PARTITION_SLOT_FIELD = field("partition_slot");
 
     protected io.kestra.jdbc.AbstractJdbcRepository<Trigger> jdbcRepository;
 
@@ -139,10 +144,45 @@ public abstract class AbstractJdbcTriggerRepository extends AbstractJdbcReposito
             .map(r -> this.jdbcRepository.deserialize(r.get("value", String.class)));
     }
 
-    public Trigger save(Trigger trigger, ScheduleContextInterface scheduleContextInterface) {
+    /**
+     * Same as {@link #findByNextExecutionDateReadyForAllTenants(ZonedDateTime, ScheduleContextInterface)} but only for
+     * the triggers of the given partition slots, so that multiple schedulers can lock and evaluate disjoint sets of
+     * triggers in parallel.
+     * The triggers saved before the slots were stored have no slot, and are ready for all the schedulers until saved again.
+     */
+    public List<Trigger> findByNextExecutionDateReadyForSlots(ZonedDateTime now, ScheduleContextInterface scheduleContextInterface, Collection<Integer> slots) {
         JdbcSchedulerContext jdbcSchedulerContext = (JdbcSchedulerContext) scheduleContextInterface;
 
+        return jdbcSchedulerContext.getContext()
+            .select(field("value"))
+            .from(this.jdbcRepository.getTable())
+            .where(
+                PARTITION_SLOT_FIELD.in(slots)
+                    .or(PARTITION_SLOT_FIELD.isNull())
+            )
+            .and(
+                field("next_execution_date").lessThan(now.toOffsetDateTime())
+                    // we check for null for backwards compatibility
+                    .or(field("next_execution_date").isNull())
+            )
+            .orderBy(field("next_execution_date").asc())
+            .forUpdate()
+            .skipLocked()
+            .fetch()
+            .map(r -> this.jdbcRepository.deserialize(r.get("value", String.class)));
+    }
+
+    private Map<Field<Object>, Object> persistFields(Trigger trigger) {
         Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(trigger);
+        fields.put(PARTITION_SLOT_FIELD, JdbcSchedulerPartitions.slot(trigger.uid()));
+
+        return fields;
+    }
+
+    public Trigger save(Trigger trigger, ScheduleContextInterface scheduleContextInterface) {
+        JdbcSchedulerContext jdbcSchedulerContext = (JdbcSchedulerContext) scheduleContextInterface;
+
+        Map<Field<Object>, Object> fields = this.persistFields(trigger);
         this.jdbcRepository.persist(trigger, jdbcSchedulerContext.getContext(), fields);
 
         return trigger;
@@ -150,7 +190,7 @@ public abstract class AbstractJdbcTriggerRepository extends AbstractJdbcReposito
 
     @Override
     public Trigger save(Trigger trigger) {
-        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(trigger);
+        Map<Field<Object>, Object> fields = this.persistFields(trigger);
         this.jdbcRepository.persist(trigger, fields);
 
         return trigger;
@@ -158,7 +198,7 @@ public abstract class AbstractJdbcTriggerRepository extends AbstractJdbcReposito
 
     @Override
     public Trigger save(DSLContext dslContext, Trigger trigger) {
-        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(trigger);
+        Map<Field<Object>, Object> fields = this.persistFields(trigger);
         this.jdbcRepository.persist(trigger, dslContext, fields);
 
         return trigger;
@@ -171,7 +211,7 @@ public abstract class AbstractJdbcTriggerRepository extends AbstractJdbcReposito
                 DSL.using(configuration)
                     .insertInto(this.jdbcRepository.getTable())
                     .set(AbstractJdbcRepository.field("key"), this.jdbcRepository.key(trigger))
-                    .set(this.jdbcRepository.persistFields(trigger))
+                    .set(this.persistFields(trigger))
                     .execute();
 
                 return trigger;
@@ -190,7 +230,7 @@ public abstract class AbstractJdbcTriggerRepository extends AbstractJdbcReposito
             .transactionResult(configuration -> {
                 DSL.using(configuration)
                     .update(this.jdbcRepository.getTable())
-                    .set(this.jdbcRepository.persistFields((trigger)))
+                    .set(this.persistFields(trigger))
                     .where(field("key").eq(trigger.uid()))
                     .execute();
 
@@ -217,7 +257,7 @@ public abstract class AbstractJdbcTriggerRepository extends AbstractJdbcReposito
 
                 DSL.using(configuration)
                     .update(this.jdbcRepository.getTable())
-                    .set(this.jdbcRepository.persistFields(updatedTrigger))
+                    .set(this.persistFields(updatedTrigger))
                     .where(field("key").eq(updatedTrigger.uid()))
                     .execute();
 
@@ -255,30 +295,49 @@ public abstract class AbstractJdbcTriggerRepository extends AbstractJdbcReposito
             .transactionResult(configuration -> {
                 DSLContext context = DSL.using(configuration);
 
-                SelectConditionStep<Record1<Object>> select = context
-                    .select(field("value"))
-                    .hint(context.configuration().dialect().supports(SQLDialect.MYSQL) ? "SQL_CALC_FOUND_ROWS" : null)
-                    .from(this.jdbcRepository.getTable())
-                    .where(this.fullTextCondition(query))
-                    .and(this.defaultFilter(tenantId));
+                SelectConditionStep<Record1<Object>> select = this.findSelect(context, query, tenantId, namespace, flowId, workerId);
 
-                if (namespace != null) {
-                    select.and(DSL.or(NAMESPACE_FIELD.eq(namespace), NAMESPACE_FIELD.likeIgnoreCase(namespace + ".%")));
-                }
+                return this.jdbcRepository.fetchPage(context, select, pageable);
+            });
+    }
 
-                if (flowId != null) {
-                    select.and(field("flow_id").eq(flowId));
-                }
+    @Override
+    public ArrayListCursor<Trigger> find(KeysetPageable pageable, String query, String tenantId, String namespace, String flowId, String workerId) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
 
-                if (workerId != null) {
-                    select.and(field("worker_id").eq(workerId));
-                }
-                select.and(this.defaultFilter());
+                SelectConditionStep<Record1<Object>> select = this.findSelect(context, query, tenantId, namespace, flowId, workerId);
 
-                return this.jdbcRepository.fetchPage(context, select, pageable);
+                return this.jdbcRepository.fetchKeysetPage(context, select, pageable);
             });
     }
 
+    private SelectConditionStep<Record1<Object>> findSelect(DSLContext context, String query, String tenantId, String namespace, String flowId, String workerId) {
+        SelectConditionStep<Record1<Object>> select = context
+            .select(field("value"))
+            .hint(context.configuration().dialect().supports(SQLDialect.MYSQL) ? "SQL_CALC_FOUND_ROWS" : null)
+            .from(this.jdbcRepository.getTable())
+            .where(this.fullTextCondition(query))
+            .and(this.defaultFilter(tenantId));
+
+        if (namespace != null) {
+            select.and(DSL.or(NAMESPACE_FIELD.eq(namespace), NAMESPACE_FIELD.likeIgnoreCase(namespace + ".%")));
+        }
+
+        if (flowId != null) {
+            select.and(field("flow_id").eq(flowId));
+        }
+
+        if (workerId != null) {
+            select.and(field("worker_id").eq(workerId));
+        }
+        select.and(this.defaultFilter());
+
+        return select;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Flux<Trigger> find(String query, String tenantId, String namespace) {
@@ -0,0 +1,42 @@
+package io.kestra.jdbc.repository;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically fold the statistics deltas appended by the repositories into the rollup tables, outside of the
+ * transactions that save the executions and the logs.
+ * Each instance can run it, the deltas being locked while they are folded.
+ */
+@Singleton
+@Slf4j
+@Requires(beans = {AbstractJdbcExecutionRepository.class, AbstractJdbcLogRepository.class})
+public class JdbcStatisticsFolder {
+    private static final int BATCH_SIZE = 1000;
+
+    @Inject
+    private AbstractJdbcExecutionRepository executionRepository;
+
+    @Inject
+    private AbstractJdbcLogRepository logRepository;
+
+    @Scheduled(initialDelay = "${kestra.jdbc.statistics.fold-interval:10s}", fixedDelay = "${kestra.jdbc.statistics.fold-interval:10s}")
+    public void fold() {
+        try {
+            // a full batch means there may be more pending deltas
+            while (this.executionRepository.foldStatistics(BATCH_SIZE) == BATCH_SIZE) {
+                log.debug("Folded {} execution statistics deltas", BATCH_SIZE);
+            }
+
+            while (this.logRepository.foldStatistics(BATCH_SIZE) == BATCH_SIZE) {
+                log.debug("Folded {} log statistics deltas", BATCH_SIZE);
+            }
+        } catch (RuntimeException e) {
+            // the deltas are still queried until they are folded, it will be retried on the next run
+            log.warn("Unable to fold the statistics deltas", e);
+        }
+    }
+}
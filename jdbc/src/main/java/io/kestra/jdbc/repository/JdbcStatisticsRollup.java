@@ -0,0 +1,364 @@
+package io.kestra.jdbc.repository;
+
+import io.kestra.core.utils.DateUtils;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcTableConfig;
+import jakarta.annotation.Nullable;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertValuesStepN;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static io.kestra.jdbc.repository.AbstractJdbcRepository.field;
+
+/**
+ * Statistics pre-aggregated by hour for each tenant, namespace, flow and dimension (the execution state or the log level),
+ * maintained incrementally by the repositories when they save or delete rows, so statistics over long periods don't
+ * have to aggregate all the raw rows.
+ * <p>
+ * The repositories only append their deltas to a journal table in their own transaction, so concurrent writers never
+ * update the same rows. The journal is periodically folded into the rollup table with atomic increments (or
+ * decrements) by {@link #fold(int)}, and the statistics are queried from both tables so they are always up to date.
+ * Rows are always summed when queried so there can be several rows for the same bucket, like the ones computed from
+ * the existing data by the migration.
+ * Buckets are stored with the same UTC wall time as the date columns of the raw tables.
+ */
+public class JdbcStatisticsRollup {
+    public static final String DATE = "date";
+
+    private static final Field<LocalDateTime> DATE_FIELD = DSL.field(DSL.quotedName(DATE), LocalDateTime.class);
+    private static final Field<Long> COUNT_FIELD = DSL.field(DSL.quotedName("count"), Long.class);
+    private static final Field<Double> DURATION_SUM_FIELD = DSL.field(DSL.quotedName("duration_sum"), Double.class);
+    private static final Field<Double> DURATION_MIN_FIELD = DSL.field(DSL.quotedName("duration_min"), Double.class);
+    private static final Field<Double> DURATION_MAX_FIELD = DSL.field(DSL.quotedName("duration_max"), Double.class);
+    private static final Field<Long> ID_FIELD = DSL.field(DSL.quotedName("id"), Long.class);
+
+    private final io.kestra.jdbc.AbstractJdbcRepository<?> jdbcRepository;
+    private final Table<Record> table;
+    private final Table<Record> deltasTable;
+    private final String dimension;
+    private final boolean withDuration;
+    private final Table<Record> statistics;
+
+    public JdbcStatisticsRollup(io.kestra.jdbc.AbstractJdbcRepository<?> jdbcRepository, JdbcTableConfig tableConfig, JdbcTableConfig deltasTableConfig, String dimension, boolean withDuration) {
+        this.jdbcRepository = jdbcRepository;
+        this.table = DSL.table(tableConfig.table());
+        this.deltasTable = DSL.table(deltasTableConfig.table());
+        this.dimension = dimension;
+        this.withDuration = withDuration;
+        this.statistics = DSL.select(this.columns()).from(this.table)
+            .unionAll(DSL.select(this.columns()).from(this.deltasTable))
+            .asTable("statistics");
+    }
+
+    /**
+     * @return the rollup and the deltas not folded yet, to be aggregated with {@link #aggregateFields()}.
+     */
+    public Table<Record> getTable() {
+        return this.statistics;
+    }
+
+    /**
+     * Append the deltas to the journal, deltas of the same bucket are merged first.
+     */
+    public void add(DSLContext context, Collection<Delta> deltas) {
+        Map<String, Delta> merged = this.merge(deltas);
+        List<Field<?>> columns = this.columns();
+
+        InsertValuesStepN<Record> insert = null;
+        for (Delta delta : merged.values()) {
+            if (delta.isEmpty()) {
+                continue;
+            }
+
+            List<Object> values = new ArrayList<>(List.of(
+                DSL.val(delta.tenantId(), String.class),
+                delta.namespace(),
+                delta.flowId(),
+                delta.dimension(),
+                delta.date(),
+                delta.count()
+            ));
+
+            if (this.withDuration) {
+                values.add(delta.durationSum());
+                values.add(DSL.val(delta.durationMin(), Double.class));
+                values.add(DSL.val(delta.durationMax(), Double.class));
+            }
+
+            insert = (insert == null ? context.insertInto(this.deltasTable, columns) : insert).values(values);
+        }
+
+        if (insert != null) {
+            insert.execute();
+        }
+    }
+
+    /**
+     * Fold the oldest deltas of the journal into the rollup, in their own transaction.
+     * The deltas are locked while they are folded, so concurrent folds never fold the same deltas.
+     *
+     * @param limit the maximum number of deltas to fold.
+     * @return the number of folded deltas.
+     */
+    public int fold(int limit) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                List<Field<?>> fields = new ArrayList<>(this.columns());
+                fields.add(ID_FIELD);
+
+                Result<Record> records = context
+                    .select(fields)
+                    .from(this.deltasTable)
+                    .orderBy(ID_FIELD.asc())
+                    .limit(limit)
+                    .forUpdate()
+                    .skipLocked()
+                    .fetch();
+
+                if (records.isEmpty()) {
+                    return 0;
+                }
+
+                this.apply(context, records.map(this::delta));
+
+                context.delete(this.deltasTable)
+                    .where(ID_FIELD.in(records.getValues(ID_FIELD)))
+                    .execute();
+
+                return records.size();
+            });
+    }
+
+    /**
+     * Apply the deltas to the rollup, deltas of the same bucket are merged first and buckets are always updated in the
+     * same order to avoid deadlocks between concurrent folds.
+     */
+    private void apply(DSLContext context, Collection<Delta> deltas) {
+        Map<String, Delta> merged = this.merge(deltas);
+
+        merged.forEach((key, delta) -> {
+            if (delta.isEmpty()) {
+                return;
+            }
+
+            Map<Field<?>, Object> insert = new HashMap<>();
+            insert.put(field("tenant_id"), delta.tenantId());
+            insert.put(field("namespace"), delta.namespace());
+            insert.put(field("flow_id"), delta.flowId());
+            insert.put(field(this.dimension), delta.dimension());
+            insert.put(DATE_FIELD, delta.date());
+            insert.put(COUNT_FIELD, delta.count());
+
+            Map<Field<?>, Object> update = new HashMap<>();
+            update.put(COUNT_FIELD, COUNT_FIELD.plus(delta.count()));
+
+            if (this.withDuration) {
+                insert.put(DURATION_SUM_FIELD, delta.durationSum());
+                insert.put(DURATION_MIN_FIELD, delta.durationMin());
+                insert.put(DURATION_MAX_FIELD, delta.durationMax());
+
+                update.put(DURATION_SUM_FIELD, DURATION_SUM_FIELD.plus(delta.durationSum()));
+
+                // extremes can't be removed, a bucket keeps the ones of all the rows that were in it
+                if (delta.durationMin() != null) {
+                    update.put(DURATION_MIN_FIELD, DSL.least(DSL.coalesce(DURATION_MIN_FIELD, DSL.val(delta.durationMin())), DSL.val(delta.durationMin())));
+                    update.put(DURATION_MAX_FIELD, DSL.greatest(DSL.coalesce(DURATION_MAX_FIELD, DSL.val(delta.durationMax())), DSL.val(delta.durationMax())));
+                }
+            }
+
+            this.jdbcRepository.upsert(context, this.table, key, insert, update);
+        });
+    }
+
+    private Map<String, Delta> merge(Collection<Delta> deltas) {
+        Map<String, Delta> merged = new TreeMap<>();
+        deltas.forEach(delta -> merged.merge(delta.key(), delta, Delta::merge));
+
+        return merged;
+    }
+
+    /**
+     * The columns shared by the rollup and the journal.
+     */
+    private List<Field<?>> columns() {
+        List<Field<?>> columns = new ArrayList<>(List.of(
+            field("tenant_id"),
+            field("namespace"),
+            field("flow_id"),
+            field(this.dimension),
+            DATE_FIELD,
+            COUNT_FIELD
+        ));
+
+        if (this.withDuration) {
+            columns.addAll(List.of(DURATION_SUM_FIELD, DURATION_MIN_FIELD, DURATION_MAX_FIELD));
+        }
+
+        return columns;
+    }
+
+    private Delta delta(Record record) {
+        return new Delta(
+            record.get(field("tenant_id", String.class)),
+            record.get(field("namespace", String.class)),
+            record.get(field("flow_id", String.class)),
+            record.get(field(this.dimension, String.class)),
+            record.get(DATE_FIELD),
+            record.get(COUNT_FIELD),
+            this.withDuration ? record.get(DURATION_SUM_FIELD) : 0,
+            this.withDuration ? record.get(DURATION_MIN_FIELD) : null,
+            this.withDuration ? record.get(DURATION_MAX_FIELD) : null
+        );
+    }
+
+    /**
+     * The aggregated fields, named like the ones of the raw statistics queries.
+     */
+    public List<Field<?>> aggregateFields() {
+        List<Field<?>> fields = new ArrayList<>();
+        fields.add(DSL.sum(COUNT_FIELD).as("count"));
+
+        if (this.withDuration) {
+            // buckets emptied by decrements must not count in the extremes
+            fields.add(DSL.min(DSL.when(COUNT_FIELD.gt(0L), DURATION_MIN_FIELD)).as("duration_min"));
+            fields.add(DSL.max(DSL.when(COUNT_FIELD.gt(0L), DURATION_MAX_FIELD)).as("duration_max"));
+            fields.add(DSL.sum(DURATION_SUM_FIELD).as("duration_sum"));
+        }
+
+        return fields;
+    }
+
+    /**
+     * Skip the groups that are empty once all their increments and decrements are summed.
+     */
+    public Condition notEmpty() {
+        return DSL.sum(COUNT_FIELD).gt(BigDecimal.ZERO);
+    }
+
+    /**
+     * The buckets of the full hours between these dates.
+     */
+    public Condition between(ZonedDateTime from, ZonedDateTime to) {
+        return DATE_FIELD.greaterOrEqual(bucket(from.toInstant()))
+            .and(DATE_FIELD.lessThan(bucket(to.toInstant())));
+    }
+
+    public Condition dimensionIn(List<String> values) {
+        return field(this.dimension).in(values);
+    }
+
+    /**
+     * The full hours between these dates that can be served by the rollup, only if the statistics are grouped by hours
+     * or by a larger period. The dates outside must be served by the raw table.
+     */
+    public static Optional<Hours> hours(ZonedDateTime startDate, ZonedDateTime endDate, @Nullable DateUtils.GroupType groupBy) {
+        Duration duration = Duration.between(startDate, endDate);
+
+        // same rules as the grouping fields of the raw statistics queries
+        boolean hourly = (groupBy != null && groupBy != DateUtils.GroupType.MINUTE) ||
+            duration.toDays() > DateUtils.GroupValue.DAY.getValue() ||
+            duration.toHours() > DateUtils.GroupValue.HOUR.getValue();
+
+        if (!hourly) {
+            return Optional.empty();
+        }
+
+        // buckets are UTC hours, whatever the zone of the dates
+        Instant from = startDate.toInstant().truncatedTo(ChronoUnit.HOURS);
+        if (from.isBefore(startDate.toInstant())) {
+            from = from.plus(1, ChronoUnit.HOURS);
+        }
+
+        Instant to = endDate.toInstant().truncatedTo(ChronoUnit.HOURS);
+
+        return from.isBefore(to) ?
+            Optional.of(new Hours(ZonedDateTime.ofInstant(from, startDate.getZone()), ZonedDateTime.ofInstant(to, endDate.getZone()))) :
+            Optional.empty();
+    }
+
+    public static LocalDateTime bucket(Instant date) {
+        return LocalDateTime.ofInstant(date.truncatedTo(ChronoUnit.HOURS), ZoneOffset.UTC);
+    }
+
+    /**
+     * @param from the first full hour, included
+     * @param to the end of the last full hour, excluded
+     */
+    public record Hours(ZonedDateTime from, ZonedDateTime to) {
+    }
+
+    public record Delta(
+        String tenantId,
+        String namespace,
+        String flowId,
+        String dimension,
+        LocalDateTime date,
+        long count,
+        double durationSum,
+        @Nullable Double durationMin,
+        @Nullable Double durationMax
+    ) {
+        public static Delta of(String tenantId, String namespace, String flowId, String dimension, LocalDateTime date, long count) {
+            return new Delta(tenantId, namespace, flowId, dimension, date, count, 0, null, null);
+        }
+
+        public static Delta added(String tenantId, String namespace, String flowId, String dimension, Instant date, double duration) {
+            return new Delta(tenantId, namespace, flowId, dimension, bucket(date), 1, duration, duration, duration);
+        }
+
+        public static Delta removed(String tenantId, String namespace, String flowId, String dimension, Instant date, double duration) {
+            return new Delta(tenantId, namespace, flowId, dimension, bucket(date), -1, -duration, null, null);
+        }
+
+        boolean isEmpty() {
+            return this.count == 0 && this.durationSum == 0 && this.durationMin == null;
+        }
+
+        String key() {
+            return IdUtils.from(String.join("|",
+                Optional.ofNullable(this.tenantId).orElse(""),
+                this.namespace,
+                this.flowId,
+                this.dimension,
+                this.date.toString()
+            ));
+        }
+
+        Delta merge(Delta other) {
+            return new Delta(
+                this.tenantId,
+                this.namespace,
+                this.flowId,
+                this.dimension,
+                this.date,
+                this.count + other.count,
+                this.durationSum + other.durationSum,
+                this.durationMin == null ? other.durationMin : (other.durationMin == null ? this.durationMin : Math.min(this.durationMin, other.durationMin)),
+                this.durationMax == null ? other.durationMax : (other.durationMax == null ? this.durationMax : Math.max(this.durationMax, other.durationMax))
+            );
+        }
+    }
+}
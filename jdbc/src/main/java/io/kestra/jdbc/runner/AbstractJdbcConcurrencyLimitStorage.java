@@ -0,0 +1,131 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.runners.ConcurrencyLimit;
+import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+public abstract class AbstractJdbcConcurrencyLimitStorage extends AbstractJdbcRepository {
+    protected io.kestra.jdbc.AbstractJdbcRepository<ConcurrencyLimit> jdbcRepository;
+
+    public AbstractJdbcConcurrencyLimitStorage(io.kestra.jdbc.AbstractJdbcRepository<ConcurrencyLimit> jdbcRepository) {
+        this.jdbcRepository = jdbcRepository;
+    }
+
+    /**
+     * Lock the running executions of the flow until the end of the transaction of the given context.
+     * <p>
+     * The row is created if it doesn't exist yet, as there is nothing to lock otherwise and the first admissions of
+     * a flow would not be serialized.
+     */
+    public ConcurrencyLimit lock(DSLContext dslContext, Flow flow) {
+        ConcurrencyLimit empty = ConcurrencyLimit.empty(flow.getTenantId(), flow.getNamespace(), flow.getId());
+
+        Optional<ConcurrencyLimit> locked = this.lock(dslContext, empty.uid());
+        if (locked.isPresent()) {
+            return locked.get();
+        }
+
+        // waits for a concurrent creation of the row, then does nothing
+        this.createIfAbsent(dslContext, empty);
+
+        return this.lock(dslContext, empty.uid())
+            .orElseThrow(() -> new IllegalStateException("Unable to lock the running executions of the flow '" + empty.uid() + "'"));
+    }
+
+    /**
+     * Insert the row of the given concurrency limit, or do nothing if it already exists.
+     */
+    protected abstract void createIfAbsent(DSLContext dslContext, ConcurrencyLimit concurrencyLimit);
+
+    public void save(DSLContext dslContext, ConcurrencyLimit concurrencyLimit) {
+        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(concurrencyLimit);
+        this.jdbcRepository.persist(concurrencyLimit, dslContext, fields);
+    }
+
+    /**
+     * Repair the running executions of all flows: the ones given by the function are added, and the other ones are
+     * only removed if the predicate tells that they ended. An execution admitted by the executor can still be queued
+     * in the repository, so it's kept as long as it's not ended.
+     * Each flow is locked while its running executions are computed, so it's safe to run it while executions are processed.
+     */
+    public void reconcile(Function<ConcurrencyLimit, List<String>> runningExecutions, BiPredicate<ConcurrencyLimit, String> isEnded) {
+        List<String> keys = this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> DSL
+                .using(configuration)
+                .select(field("key", String.class))
+                .from(this.jdbcRepository.getTable())
+                .fetch(field("key", String.class))
+            );
+
+        keys.forEach(key -> this.jdbcRepository
+            .getDslContextWrapper()
+            .transaction(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                this.lock(context, key).ifPresent(concurrencyLimit -> {
+                    Set<String> running = new HashSet<>(runningExecutions.apply(concurrencyLimit));
+
+                    ConcurrencyLimit reconciled = concurrencyLimit;
+                    for (String executionId : concurrencyLimit.getExecutionIds()) {
+                        if (!running.contains(executionId) && isEnded.test(concurrencyLimit, executionId)) {
+                            reconciled = reconciled.withoutRunning(executionId);
+                        }
+                    }
+
+                    for (String executionId : running) {
+                        reconciled = reconciled.withRunning(executionId);
+                    }
+
+                    // nothing to persist, the running executions are already up to date
+                    if (reconciled != concurrencyLimit) {
+                        this.save(context, reconciled);
+                    }
+                });
+            })
+        );
+    }
+
+    /**
+     * Update the running executions of the flow, in its own transaction.
+     * The running executions stay locked while the updater is called, and any transaction started by the updater is
+     * part of this one.
+     */
+    public void update(Flow flow, UnaryOperator<ConcurrencyLimit> updater) {
+        this.jdbcRepository
+            .getDslContextWrapper()
+            .transaction(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                ConcurrencyLimit concurrencyLimit = this.lock(context, flow);
+                ConcurrencyLimit updated = updater.apply(concurrencyLimit);
+
+                // nothing to persist, the execution was already added or removed
+                if (updated != concurrencyLimit) {
+                    this.save(context, updated);
+                }
+            });
+    }
+
+    private Optional<ConcurrencyLimit> lock(DSLContext dslContext, String key) {
+        var select = dslContext
+            .select(field("value"))
+            .from(this.jdbcRepository.getTable())
+            .where(field("key").eq(key))
+            .forUpdate();
+
+        return this.jdbcRepository.fetchOne(select);
+    }
+}
@@ -7,7 +7,6 @@ import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.exceptions.InternalException;
 import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.models.executions.*;
-import io.kestra.core.models.executions.statistics.ExecutionCount;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.*;
 import io.kestra.core.models.flows.sla.*;
@@ -33,6 +32,7 @@ import io.kestra.jdbc.repository.AbstractJdbcFlowTopologyRepository;
 import io.kestra.jdbc.repository.AbstractJdbcWorkerJobRunningRepository;
 import io.kestra.plugin.core.flow.ForEachItem;
 import io.kestra.plugin.core.flow.Template;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.transaction.exceptions.CannotCreateTransactionException;
 import jakarta.annotation.Nullable;
@@ -59,7 +59,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import static io.kestra.core.utils.Rethrow.throwConsumer;
-import static io.kestra.core.utils.Rethrow.throwFunction;
+import static io.kestra.core.utils.Rethrow.throwBiFunction;
 
 @SuppressWarnings("deprecation")
 @Singleton
@@ -128,6 +128,9 @@ public class JdbcExecutor implements ExecutorInterface, Service {
     @Inject
     protected FlowListenersInterface flowListeners;
 
+    @Inject
+    private FlowExecutorInterface flowExecutorInterface;
+
     // TODO we may be able to remove this storage and check that we have a parent execution or a dedicated trigger class and send a subflow execution result if needed
     @Inject
     private AbstractJdbcSubflowExecutionStorage subflowExecutionStorage;
@@ -144,11 +147,19 @@ public class JdbcExecutor implements ExecutorInterface, Service {
     @Inject
     private AbstractJdbcExecutorStateStorage executorStateStorage;
 
+    @Inject
+    private AbstractJdbcConcurrencyLimitStorage concurrencyLimitStorage;
+
+    @Value("${kestra.executor.concurrency-limit.reconcile-interval:PT5M}")
+    private Duration concurrencyLimitReconcileInterval;
+
     @Inject
     private FlowTopologyService flowTopologyService;
 
     protected List<FlowWithSource> allFlows;
 
+    private final FlowTriggerIndex flowTriggerIndex = new FlowTriggerIndex();
+
     @Inject
     private WorkerGroupService workerGroupService;
 
@@ -183,6 +194,14 @@ public class JdbcExecutor implements ExecutorInterface, Service {
 
     private final List<Runnable> receiveCancellations = new ArrayList<>();
 
+    @Value("${kestra.executor.lanes:1}")
+    private int laneCount;
+
+    @Value("${kestra.executor.lane-capacity:100}")
+    private int laneCapacity;
+
+    private JdbcExecutorLanes lanes;
+
     /**
      * Creates a new {@link JdbcExecutor} instance. Both constructor and field injection are used
      * to force Micronaut to respect order when invoking pre-destroy order.
@@ -213,14 +232,26 @@ public class JdbcExecutor implements ExecutorInterface, Service {
             serviceLivenessCoordinator.setExecutor(this);
         }
         flowListeners.run();
-        flowListeners.listen(flows -> this.allFlows = flows);
+        // the flow trigger index is updated on each flow change, and initialized with the flows known on start
+        flowListeners.listen(flowTriggerIndex::update);
+        flowListeners.listen(flows -> {
+            if (this.allFlows == null) {
+                flowTriggerIndex.reset(flows);
+            }
+            this.allFlows = flows;
+        });
 
         Await.until(() -> this.allFlows != null, Duration.ofMillis(100), Duration.ofMinutes(5));
 
-        this.receiveCancellations.addFirst(this.executionQueue.receive(Executor.class, this::executionQueue));
-        this.receiveCancellations.addFirst(this.workerTaskResultQueue.receive(Executor.class, this::workerTaskResultQueue));
-        this.receiveCancellations.addFirst(this.killQueue.receive(Executor.class, this::killQueue));
-        this.receiveCancellations.addFirst(this.subflowExecutionResultQueue.receive(Executor.class, this::subflowExecutionResultQueue));
+        // messages of the same execution are always routed to the same lane, so they are processed in order
+        this.lanes = new JdbcExecutorLanes(laneCount, laneCapacity, metricRegistry);
+        this.receiveCancellations.addFirst(this.executionQueue.receive(Executor.class, lanes.route(Execution::getId, this::executionQueue)));
+        this.receiveCancellations.addFirst(this.workerTaskResultQueue.receive(Executor.class, lanes.route(message -> message.getTaskRun().getExecutionId(), this::workerTaskResultQueue)));
+        this.receiveCancellations.addFirst(this.killQueue.receive(Executor.class, lanes.route(
+            message -> message instanceof ExecutionKilledExecution killedExecution ? killedExecution.getExecutionId() : null,
+            this::killQueue
+        )));
+        this.receiveCancellations.addFirst(this.subflowExecutionResultQueue.receive(Executor.class, lanes.route(message -> message.getParentTaskRun().getExecutionId(), this::subflowExecutionResultQueue)));
 
         ScheduledFuture<?> scheduledDelayFuture = scheduledDelay.scheduleAtFixedRate(
             this::executionDelaySend,
@@ -229,6 +260,13 @@ public class JdbcExecutor implements ExecutorInterface, Service {
             TimeUnit.SECONDS
         );
 
+        scheduledDelay.scheduleAtFixedRate(
+            this::concurrencyLimitReconcile,
+            concurrencyLimitReconcileInterval.toSeconds(),
+            concurrencyLimitReconcileInterval.toSeconds(),
+            TimeUnit.SECONDS
+        );
+
         ScheduledFuture<?> scheduledSLAMonitorFuture = scheduledDelay.scheduleAtFixedRate(
             this::executionSLAMonitor,
             0,
@@ -386,12 +424,12 @@ public class JdbcExecutor implements ExecutorInterface, Service {
             return;
         }
 
-        Executor result = executionRepository.lock(message.getId(), throwFunction(pair -> {
+        Executor result = executionRepository.lock(message.getId(), throwBiFunction((dslContext, pair) -> {
             try {
                 Execution execution = pair.getLeft();
                 ExecutorState executorState = pair.getRight();
 
-                final Flow flow = transform(this.flowRepository.findByExecutionWithSource(execution), execution);
+                final Flow flow = transform(this.findFlow(execution), execution);
                 Executor executor = new Executor(execution, null).withFlow(flow);
 
                 // schedule it for later if needed
@@ -426,16 +464,10 @@ public class JdbcExecutor implements ExecutorInterface, Service {
 
                 // queue execution if needed (limit concurrency)
                 if (execution.getState().getCurrent() == State.Type.CREATED && flow.getConcurrency() != null) {
-                    ExecutionCount count = executionRepository.executionCounts(
-                        flow.getTenantId(),
-                        List.of(new io.kestra.core.models.executions.statistics.Flow(flow.getNamespace(), flow.getId())),
-                        List.of(State.Type.RUNNING, State.Type.PAUSED),
-                        null,
-                        null,
-                        null
-                    ).getFirst();
+                    // the running executions of the flow stay locked until the end of the transaction, so concurrent admissions are serialized
+                    ConcurrencyLimit concurrencyLimit = concurrencyLimitStorage.lock(dslContext, flow);
 
-                    executor = executorService.checkConcurrencyLimit(executor, flow, execution, count.getCount());
+                    executor = executorService.checkConcurrencyLimit(executor, flow, execution, concurrencyLimit.running());
 
                     // the execution has been queued, we save the queued execution and stops here
                     if (executor.getExecutionRunning() != null && executor.getExecutionRunning().getConcurrencyState() == ExecutionRunning.ConcurrencyState.QUEUED) {
@@ -453,6 +485,9 @@ public class JdbcExecutor implements ExecutorInterface, Service {
                             executorState
                         );
                     }
+
+                    // the execution is running until it ends
+                    concurrencyLimitStorage.save(dslContext, concurrencyLimit.withRunning(execution.getId()));
                 }
 
                 // handle execution changed SLA
@@ -471,39 +506,37 @@ public class JdbcExecutor implements ExecutorInterface, Service {
                     );
                 }
 
-                // worker task
+                // worker task, consecutive messages to the same queue are emitted in batch to avoid one round-trip
+                // per task on large fan-out, while keeping the order of the emits
+                OrderedBatches batches = new OrderedBatches();
                 if (!executor.getWorkerTasks().isEmpty()) {
                     executor
                         .getWorkerTasks()
                         .stream()
                         .filter(workerTask -> this.deduplicateWorkerTask(execution, executorState, workerTask.getTaskRun()))
-                        .forEach(throwConsumer(workerTask -> {
+                        .forEach(workerTask -> {
                             try {
                                 if (!TruthUtils.isTruthy(workerTask.getRunContext().render(workerTask.getTask().getRunIf()))) {
-                                    workerTaskResultQueue.emit(new WorkerTaskResult(workerTask.getTaskRun().withState(State.Type.SKIPPED)));
+                                    batches.add(workerTaskResultQueue, null, new WorkerTaskResult(workerTask.getTaskRun().withState(State.Type.SKIPPED)));
                                 }
                                 else {
                                     if (workerTask.getTask().isSendToWorkerTask()) {
-                                        workerTaskQueue.emit(workerGroupService.resolveGroupFromJob(workerTask).map(group -> group.getKey()).orElse(null), workerTask);
+                                        batches.add(workerTaskQueue, workerGroupService.resolveGroupFromJob(workerTask).map(group -> group.getKey()).orElse(null), workerTask);
                                     }
                                     if (workerTask.getTask().isFlowable()) {
-                                        workerTaskResultQueue.emit(new WorkerTaskResult(workerTask.getTaskRun().withState(State.Type.RUNNING)));
+                                        batches.add(workerTaskResultQueue, null, new WorkerTaskResult(workerTask.getTaskRun().withState(State.Type.RUNNING)));
                                     }
                                 }
                             } catch (IllegalVariableEvaluationException e) {
-                                workerTaskResultQueue.emit(new WorkerTaskResult(workerTask.getTaskRun().withState(State.Type.FAILED)));
+                                batches.add(workerTaskResultQueue, null, new WorkerTaskResult(workerTask.getTaskRun().withState(State.Type.FAILED)));
                                 workerTask.getRunContext().logger().error("Unable to evaluate the runIf condition for task {}", workerTask.getTask().getId(), e);
                             }
-                        }));
-
-
+                        });
                 }
 
                 // worker tasks results
-                if (!executor.getWorkerTaskResults().isEmpty()) {
-                    executor.getWorkerTaskResults()
-                        .forEach(throwConsumer(workerTaskResult -> workerTaskResultQueue.emit(workerTaskResult)));
-                }
+                executor.getWorkerTaskResults().forEach(workerTaskResult -> batches.add(workerTaskResultQueue, null, workerTaskResult));
+                batches.emit();
 
                 // subflow execution results
                 if (!executor.getSubflowExecutionResults().isEmpty()) {
@@ -574,7 +607,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
     }
 
     private void sendSubflowExecutionResult(Execution execution, SubflowExecution<?> subflowExecution, TaskRun taskRun) {
-        Flow workerTaskFlow = this.flowRepository.findByExecution(execution);
+        Flow workerTaskFlow = this.findFlow(execution);
 
         ExecutableTask<?> executableTask = subflowExecution.getParentTask();
 
@@ -632,7 +665,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
 
             if (execution.hasTaskRunJoinable(message.getTaskRun())) {
                 try {
-                    Flow flow = flowRepository.findByExecution(current.getExecution());
+                    Flow flow = this.findFlow(current.getExecution());
 
                     // dynamic tasks
                     Execution newExecution = executorService.addDynamicTaskRun(
@@ -718,7 +751,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
 
             if (execution.hasTaskRunJoinable(message.getParentTaskRun())) { // TODO if we remove this check, we can avoid adding 'iteration' on the 'isSame()' method
                 try {
-                    Flow flow = flowRepository.findByExecution(current.getExecution());
+                    Flow flow = this.findFlow(current.getExecution());
 
                     // iterative tasks
                     Task task = flow.findTaskByTaskId(message.getParentTaskRun().getTaskId());
@@ -853,7 +886,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
     private Executor mayTransitExecutionToKillingStateAndGet(final String executionId) {
         return executionRepository.lock(executionId, pair -> {
             Execution currentExecution = pair.getLeft();
-            Flow flow = this.flowRepository.findByExecution(currentExecution);
+            Flow flow = this.findFlow(currentExecution);
 
             Execution killing = executionService.kill(currentExecution, flow);
             Executor current = new Executor(currentExecution, null)
@@ -902,7 +935,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
             Execution execution = executor.getExecution();
             // handle flow triggers on state change
             if (!execution.getState().getCurrent().equals(executor.getOriginalState())) {
-                flowTriggerService.computeExecutionsFromFlowTriggers(execution, allFlows.stream().map(flow -> flow.toFlow()).toList(), Optional.of(multipleConditionStorage))
+                flowTriggerService.computeExecutionsFromFlowTriggers(execution, flowTriggerIndex, Optional.of(multipleConditionStorage))
                     .forEach(throwConsumer(executionFromFlowTrigger -> this.executionQueue.emit(executionFromFlowTrigger)));
             }
 
@@ -925,13 +958,28 @@ public class JdbcExecutor implements ExecutorInterface, Service {
                     slaMonitorStorage.purge(executor.getExecution().getId());
                 }
 
-                // check if there exist a queued execution and submit it to the execution queue
-                if (executor.getFlow().getConcurrency() != null && executor.getFlow().getConcurrency().getBehavior() == Concurrency.Behavior.QUEUE) {
-                    executionQueuedStorage.pop(executor.getFlow().getTenantId(),
-                        executor.getFlow().getNamespace(),
-                        executor.getFlow().getId(),
-                        throwConsumer(queued -> executionQueue.emit(queued.withState(State.Type.RUNNING)))
-                    );
+                Flow flow = executor.getFlow();
+                if (flow.getConcurrency() != null) {
+                    // the slot is given to the next queued execution while the running executions are locked, in the same
+                    // transaction as its emit, so a new execution can't take it in between and it's only counted once emitted
+                    concurrencyLimitStorage.update(flow, concurrencyLimit -> {
+                        ConcurrencyLimit[] updated = {concurrencyLimit.withoutRunning(execution.getId())};
+
+                        // check if there exist a queued execution and submit it to the execution queue
+                        if (flow.getConcurrency().getBehavior() == Concurrency.Behavior.QUEUE && updated[0].running() < flow.getConcurrency().getLimit()) {
+                            executionQueuedStorage.pop(flow.getTenantId(),
+                                flow.getNamespace(),
+                                flow.getId(),
+                                throwConsumer(queued -> {
+                                    // dequeued executions are not admitted again as they are emitted as running
+                                    updated[0] = updated[0].withRunning(queued.getId());
+                                    executionQueue.emit(queued.withState(State.Type.RUNNING));
+                                })
+                            );
+                        }
+
+                        return updated[0];
+                    });
                 }
             }
         } catch (QueueException e) {
@@ -966,6 +1014,23 @@ public class JdbcExecutor implements ExecutorInterface, Service {
         return pluginDefaultService.injectDefaults(flow, execution);
     }
 
+    /**
+     * Flows are resolved from the {@link FlowExecutorInterface} which is kept up to date by the flow queue
+     * and caches flow revisions, so the hot path doesn't hit the flow repository.
+     */
+    private FlowWithSource findFlow(Execution execution) {
+        return flowExecutorInterface.findById(
+                execution.getTenantId(),
+                execution.getNamespace(),
+                execution.getFlowId(),
+                Optional.ofNullable(execution.getFlowRevision())
+            )
+            .orElseThrow(() -> new IllegalStateException("Unable to find flow '" + execution.getNamespace() + "." +
+                execution.getFlowId() + "' with revision " + execution.getFlowRevision() + " on execution " +
+                execution.getId()
+            ));
+    }
+
     /**
      * ExecutionDelay is currently two type of execution :
      * <br/>
@@ -981,7 +1046,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
         executionDelayStorage.get(executionDelay -> {
             Executor result = executionRepository.lock(executionDelay.getExecutionId(), pair -> {
                 Executor executor = new Executor(pair.getLeft(), null);
-                Flow flow = flowRepository.findByExecution(pair.getLeft());
+                Flow flow = this.findFlow(pair.getLeft());
 
                 try {
                     // Handle paused tasks
@@ -1035,6 +1100,45 @@ public class JdbcExecutor implements ExecutorInterface, Service {
         });
     }
 
+    /**
+     * Add the running and paused executions of the flow to the running executions of the concurrency limits, and
+     * remove the ones that are terminated or deleted, to repair the executions that ended or were started without
+     * going through the executor.
+     * The other ones are kept, as an execution admitted by the executor can still be queued in the repository.
+     */
+    private void concurrencyLimitReconcile() {
+        if (shutdown.get()) {
+            return;
+        }
+
+        try {
+            concurrencyLimitStorage.reconcile(concurrencyLimit -> executionRepository
+                .find(
+                    null,
+                    concurrencyLimit.getTenantId(),
+                    null,
+                    concurrencyLimit.getNamespace(),
+                    concurrencyLimit.getFlowId(),
+                    null,
+                    null,
+                    List.of(State.Type.RUNNING, State.Type.PAUSED),
+                    null,
+                    null,
+                    null
+                )
+                .map(Execution::getId)
+                .collectList()
+                .block(),
+                (concurrencyLimit, executionId) -> executionRepository.findById(concurrencyLimit.getTenantId(), executionId)
+                    .map(execution -> execution.getState().isTerminated())
+                    .orElse(true)
+            );
+        } catch (RuntimeException e) {
+            // it will be retried on the next run
+            log.warn("Unable to reconcile the concurrency limits", e);
+        }
+    }
+
     private void executionSLAMonitor() {
         if (shutdown.get()) {
             return;
@@ -1043,7 +1147,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
         slaMonitorStorage.processExpired(Instant.now(), slaMonitor -> {
             Executor result = executionRepository.lock(slaMonitor.getExecutionId(), pair -> {
                 Executor executor = new Executor(pair.getLeft(), null);
-                Flow flow = flowRepository.findByExecution(pair.getLeft());
+                Flow flow = this.findFlow(pair.getLeft());
                 Optional<SLA> sla = flow.getSla().stream().filter(s -> s.getId().equals(slaMonitor.getSlaId())).findFirst();
                 if (sla.isEmpty()) {
                     // this can happen in case the flow has been updated and the SLA removed
@@ -1156,6 +1260,9 @@ public class JdbcExecutor implements ExecutorInterface, Service {
 
             setState(ServiceState.TERMINATING);
             this.receiveCancellations.forEach(Runnable::run);
+            if (this.lanes != null) {
+                this.lanes.close();
+            }
             scheduledDelay.shutdown();
             setState(ServiceState.TERMINATED_GRACEFULLY);
 
@@ -1193,4 +1300,39 @@ public class JdbcExecutor implements ExecutorInterface, Service {
     public ServiceState getState() {
         return state.get();
     }
+
+    /**
+     * The messages to emit, the consecutive ones to the same queue and consumer group being emitted in a single batch,
+     * so the messages are emitted in the order they were added.
+     */
+    private static class OrderedBatches {
+        private final List<Batch<?>> batches = new ArrayList<>();
+
+        @SuppressWarnings("unchecked")
+        <M> void add(QueueInterface<M> queue, String consumerGroup, M message) {
+            if (!batches.isEmpty()) {
+                Batch<?> last = batches.getLast();
+                if (last.queue() == queue && Objects.equals(last.consumerGroup(), consumerGroup)) {
+                    ((Batch<M>) last).messages().add(message);
+                    return;
+                }
+            }
+
+            List<M> messages = new ArrayList<>();
+            messages.add(message);
+            batches.add(new Batch<>(queue, consumerGroup, messages));
+        }
+
+        void emit() throws QueueException {
+            for (Batch<?> batch : batches) {
+                batch.emit();
+            }
+        }
+
+        private record Batch<M>(QueueInterface<M> queue, String consumerGroup, List<M> messages) {
+            void emit() throws QueueException {
+                queue.emit(consumerGroup, messages);
+            }
+        }
+    }
 }
@@ -0,0 +1,155 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.exceptions.DeserializationException;
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.utils.Either;
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Processing lanes of the {@link JdbcExecutor}: messages are routed to a lane by the hash of their execution id,
+ * so messages of the same execution are processed in order while different executions are processed in parallel.
+ * <p>
+ * Each lane has a bounded queue, submitting to a full lane blocks the queue poller so the executor doesn't fetch
+ * more messages than it can process. With a single lane, messages are processed directly on the poller thread.
+ */
+@Slf4j
+public class JdbcExecutorLanes implements AutoCloseable {
+    private final List<Lane> lanes;
+
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    public JdbcExecutorLanes(int count, int capacity, @Nullable MetricRegistry metricRegistry) {
+        if (count < 1) {
+            throw new IllegalArgumentException("The number of executor lanes must be at least 1, got " + count);
+        }
+
+        this.lanes = new ArrayList<>(count);
+
+        if (count > 1) {
+            for (int i = 0; i < count; i++) {
+                Lane lane = new Lane(i, new ArrayBlockingQueue<>(capacity));
+
+                if (metricRegistry != null) {
+                    String[] tags = new String[]{MetricRegistry.TAG_LANE, String.valueOf(i)};
+                    metricRegistry.gauge(MetricRegistry.EXECUTOR_LANE_QUEUE_SIZE, lane.queue, BlockingQueue::size, tags);
+                    lane.processed = metricRegistry.counter(MetricRegistry.EXECUTOR_LANE_MESSAGE_COUNT, tags)::increment;
+                }
+
+                lane.thread = Thread.ofPlatform()
+                    .name("jdbc-executor-lane-" + i)
+                    .start(lane::run);
+
+                this.lanes.add(lane);
+            }
+        }
+    }
+
+    /**
+     * Wrap a queue consumer so each message is processed on the lane of its execution id.
+     * Deserialization errors and messages without execution id are processed directly on the poller thread.
+     */
+    public <T> Consumer<Either<T, DeserializationException>> route(Function<T, String> executionId, Consumer<Either<T, DeserializationException>> consumer) {
+        if (this.lanes.isEmpty()) {
+            return consumer;
+        }
+
+        return either -> {
+            String key = either.isLeft() ? executionId.apply(either.getLeft()) : null;
+            if (key == null) {
+                consumer.accept(either);
+                return;
+            }
+
+            this.submit(key, () -> consumer.accept(either));
+        };
+    }
+
+    void submit(String key, Runnable runnable) {
+        Lane lane = this.lanes.get(Math.floorMod(key.hashCode(), this.lanes.size()));
+
+        try {
+            lane.queue.put(runnable);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while submitting to the executor lane " + lane.index, e);
+        }
+    }
+
+    /**
+     * Stop the lanes once the messages already submitted are processed, waiting at most the given timeout.
+     */
+    public void close(Duration timeout) {
+        if (!this.closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        this.lanes.forEach(lane -> lane.running = false);
+
+        for (Lane lane : this.lanes) {
+            try {
+                if (!lane.thread.join(Duration.ofNanos(Math.max(deadline - System.nanoTime(), 0)))) {
+                    log.warn("Executor lane {} is still processing {} message(s), interrupting it", lane.index, lane.queue.size());
+                    lane.thread.interrupt();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        this.close(Duration.ofSeconds(30));
+    }
+
+    private static class Lane {
+        private final int index;
+        private final BlockingQueue<Runnable> queue;
+        private Runnable processed = () -> {};
+        private Thread thread;
+        private volatile boolean running = true;
+
+        private Lane(int index, BlockingQueue<Runnable> queue) {
+            this.index = index;
+            this.queue = queue;
+        }
+
+        private void run() {
+            while (running || !queue.isEmpty()) {
+                Runnable next;
+                try {
+                    next = queue.poll(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                if (next == null) {
+                    continue;
+                }
+
+                try {
+                    next.run();
+                } catch (RuntimeException e) {
+                    // a failing message must not stop the processing of the other executions of this lane
+                    log.error("Executor lane {} failed to process a message", index, e);
+                } finally {
+                    processed.run();
+                }
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package io.kestra.jdbc.runner;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.CaseFormat;
+import com.google.common.collect.Lists;
 import io.kestra.core.exceptions.DeserializationException;
 import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.models.executions.Execution;
@@ -29,16 +30,27 @@ import org.jooq.impl.DSL;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
 import java.util.function.Supplier;
 
 import static io.kestra.core.utils.Rethrow.throwRunnable;
@@ -69,6 +81,14 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
 
     private final AtomicBoolean isClosed = new AtomicBoolean(false);
 
+    // one semaphore per poll loop, released on emit to wake up the loop before the end of its sleep
+    private final List<Semaphore> pollWakeUps = new CopyOnWriteArrayList<>();
+
+    // concurrent emits waiting to be written by the current group commit leader
+    private final ConcurrentLinkedQueue<PendingMessage<T>> pendingMessages = new ConcurrentLinkedQueue<>();
+
+    private final ReentrantLock groupCommitLock = new ReentrantLock();
+
     public JdbcQueue(Class<T> cls, ApplicationContext applicationContext) {
         ExecutorsUtils executorsUtils = applicationContext.getBean(ExecutorsUtils.class);
         this.poolExecutor = executorsUtils.cachedThreadPool("jdbc-queue-" + cls.getSimpleName());
@@ -112,10 +132,8 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         fields.put(AbstractJdbcRepository.field("type"), this.cls.getName());
         fields.put(AbstractJdbcRepository.field("key"), key != null ? key : IdUtils.create());
         fields.put(AbstractJdbcRepository.field("value"), JSONB.valueOf(new String(bytes)));
-
-        if (consumerGroup != null) {
-            fields.put(AbstractJdbcRepository.field("consumer_group"), consumerGroup);
-        }
+        // always set, so that all the rows of a multi-row insert have the same columns
+        fields.put(AbstractJdbcRepository.field("consumer_group"), consumerGroup);
 
         return fields;
     }
@@ -125,19 +143,152 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
             log.trace("New message: topic '{}', value {}", this.cls.getName(), message);
         }
 
-        Map<Field<Object>, Object> fields = this.produceFields(consumerGroup, key, message);
+        PendingMessage<T> pending = new PendingMessage<>(
+            this.produceFields(consumerGroup, key, message),
+            message,
+            skipIndexer,
+            new CompletableFuture<>()
+        );
+
+        if (this.isGroupCommitted(pending)) {
+            this.groupCommit(pending);
+        } else {
+            this.write(List.of(pending));
+        }
+
+        // consumers living in the same JVM are woken up directly, without waiting for their next poll
+        this.wakeUp();
+    }
+
+    /**
+     * Group commit is opt-in, and never used for indexed messages: the leader would make the indexer updates of the
+     * other emitters in its own transaction, possibly waiting for a row locked by one of them (like an execution
+     * locked by the executor) while holding the group commit lock.
+     * It must only be enabled when the emitters don't rely on the emit being part of their own transaction.
+     */
+    private boolean isGroupCommitted(PendingMessage<T> pending) {
+        return configuration.getGroupCommit() &&
+            configuration.getProduceBatchSize() > 1 &&
+            (pending.skipIndexer() || !jdbcQueueIndexer.isIndexed(pending.message()));
+    }
+
+    /**
+     * Group commit: concurrent emits are queued, and the first emitter to take the lock writes all the pending
+     * messages in a single transaction while the others wait for it.
+     * There is no added latency for a lone emitter, as the batch is only made of the messages that accumulated
+     * while the previous transaction was running (plus the optional produce batch window).
+     */
+    private void groupCommit(PendingMessage<T> pending) throws QueueException {
+        this.pendingMessages.add(pending);
+
+        while (!pending.result().isDone()) {
+            groupCommitLock.lock();
+            try {
+                if (pending.result().isDone()) {
+                    break;
+                }
+
+                if (configuration.getProduceBatchWindow().isPositive()) {
+                    LockSupport.parkNanos(configuration.getProduceBatchWindow().toNanos());
+                }
+
+                List<PendingMessage<T>> batch = new ArrayList<>();
+                PendingMessage<T> next;
+                while (batch.size() < configuration.getProduceBatchSize() && (next = this.pendingMessages.poll()) != null) {
+                    batch.add(next);
+                }
+
+                this.commit(batch);
+            } finally {
+                groupCommitLock.unlock();
+            }
+        }
+
+        try {
+            pending.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof QueueException queueException) {
+                throw queueException;
+            }
+
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw e;
+        }
+    }
+
+    private void commit(List<PendingMessage<T>> batch) {
+        try {
+            this.write(batch);
+            batch.forEach(pending -> pending.result().complete(null));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.getFirst().result().completeExceptionally(e);
+            } else {
+                // retry one by one, so only the faulty messages are reported as failed to their emitter
+                batch.forEach(pending -> {
+                    try {
+                        this.write(List.of(pending));
+                        pending.result().complete(null);
+                    } catch (RuntimeException ex) {
+                        pending.result().completeExceptionally(ex);
+                    }
+                });
+            }
+        } finally {
+            // never leave an emitter waiting for a message that was taken from the pending queue
+            batch.forEach(pending -> pending.result().completeExceptionally(new IllegalStateException("Message was not committed")));
+        }
+    }
 
+    private void write(List<PendingMessage<T>> messages) {
         dslContextWrapper.transaction(configuration -> {
             DSLContext context = DSL.using(configuration);
 
-            if (!skipIndexer) {
-                jdbcQueueIndexer.accept(context, message);
+            messages.forEach(pending -> {
+                if (!pending.skipIndexer()) {
+                    jdbcQueueIndexer.accept(context, pending.message());
+                }
+            });
+
+            InsertSetMoreStep<Record> insert = null;
+            for (PendingMessage<T> pending : messages) {
+                insert = insert == null ? context.insertInto(table).set(pending.fields()) : insert.newRecord().set(pending.fields());
             }
 
-            context
-                .insertInto(table)
-                .set(fields)
-                .execute();
+            if (insert != null) {
+                insert.execute();
+            }
+
+            this.notifyConsumers(context);
+        });
+    }
+
+    /**
+     * Hook called inside the produce transaction, allowing a database to notify the consumers of other instances
+     * once the message is committed.
+     */
+    protected void notifyConsumers(DSLContext context) {
+        // no notification by default, consumers rely on polling
+    }
+
+    /**
+     * Whether consumers are notified of new messages across instances, in which case polling is only used as a fallback.
+     */
+    protected boolean isNotificationEnabled() {
+        return false;
+    }
+
+    /**
+     * Wake up all the poll loops of this queue so they fetch new messages immediately.
+     */
+    protected void wakeUp() {
+        this.pollWakeUps.forEach(semaphore -> {
+            if (semaphore.availablePermits() == 0) {
+                semaphore.release();
+            }
         });
     }
 
@@ -150,6 +301,63 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         this.produce(consumerGroup, queueService.key(message), message, false);
     }
 
+    /**
+     * Emit all the messages with multi-row inserts, in as few transactions as possible.
+     * If a batch fails, its messages are emitted one by one so that only the faulty messages are lost: every message
+     * is attempted, then a single exception reports all the failures.
+     */
+    @Override
+    public void emit(String consumerGroup, List<T> messages) throws QueueException {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        if (log.isTraceEnabled()) {
+            messages.forEach(message -> log.trace("New message: topic '{}', value {}", this.cls.getName(), message));
+        }
+
+        List<PendingMessage<T>> pendings = new ArrayList<>(messages.size());
+        for (T message : messages) {
+            pendings.add(new PendingMessage<>(
+                this.produceFields(consumerGroup, queueService.key(message), message),
+                message,
+                false,
+                null
+            ));
+        }
+
+        List<RuntimeException> failures = new ArrayList<>();
+        for (List<PendingMessage<T>> batch : Lists.partition(pendings, Math.max(1, configuration.getProduceBatchSize()))) {
+            try {
+                this.write(batch);
+            } catch (RuntimeException e) {
+                if (batch.size() == 1) {
+                    failures.add(e);
+                    continue;
+                }
+
+                // retry one by one, so only the faulty messages are reported as failed
+                batch.forEach(pending -> {
+                    try {
+                        this.write(List.of(pending));
+                    } catch (RuntimeException ex) {
+                        failures.add(ex);
+                    }
+                });
+            }
+        }
+
+        if (failures.size() < pendings.size()) {
+            this.wakeUp();
+        }
+
+        if (!failures.isEmpty()) {
+            QueueException exception = new QueueException("Unable to emit " + failures.size() + " of " + pendings.size() + " messages", failures.getFirst());
+            failures.stream().skip(1).forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+
     @Override
     public void emitAsync(String consumerGroup, T message) throws QueueException {
         this.asyncPoolExecutor.submit(throwRunnable(() -> this.emit(consumerGroup, message)));
@@ -202,7 +410,11 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         return this.receiveFetch(ctx, consumerGroup, queueType, true);
     }
 
-    abstract protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType, boolean forUpdate);
+    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType, boolean forUpdate) {
+        return this.receiveFetch(ctx, consumerGroup, queueType, forUpdate, configuration.getPollSize());
+    }
+
+    abstract protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType, boolean forUpdate, int limit);
 
     abstract protected void updateGroupOffsets(DSLContext ctx, String consumerGroup, String queueType, List<Integer> offsets);
 
@@ -295,20 +507,47 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         );
     }
 
+    /**
+     * Same as {@link #receiveTransaction(String, Class, BiConsumer)} but each poll fetches at most the number of
+     * messages given by the credits supplier (and never more than the configured poll size).
+     * Nothing is fetched while there are no credits left, so messages stay in the queue for other consumers.
+     */
+    public Runnable receiveTransaction(String consumerGroup, Class<?> queueType, IntSupplier credits, BiConsumer<DSLContext, List<Either<T, DeserializationException>>> consumer) {
+        return this.receiveImpl(
+            consumerGroup,
+            queueType,
+            consumer,
+            true,
+            true,
+            credits
+        );
+    }
+
     public Runnable receiveImpl(
         String consumerGroup,
         Class<?> queueType,
         BiConsumer<DSLContext, List<Either<T, DeserializationException>>> consumer,
         Boolean inTransaction,
         boolean forUpdate
+    ) {
+        return this.receiveImpl(consumerGroup, queueType, consumer, inTransaction, forUpdate, configuration::getPollSize);
+    }
+
+    public Runnable receiveImpl(
+        String consumerGroup,
+        Class<?> queueType,
+        BiConsumer<DSLContext, List<Either<T, DeserializationException>>> consumer,
+        Boolean inTransaction,
+        boolean forUpdate,
+        IntSupplier credits
     ) {
         String queueName = queueName(queueType);
 
-        return this.poll(() -> {
+        return this.poll(limit -> {
             Result<Record> fetch = dslContextWrapper.transactionResult(configuration -> {
                 DSLContext ctx = DSL.using(configuration);
 
-                Result<Record> result = this.receiveFetch(ctx, consumerGroup, queueName, forUpdate);
+                Result<Record> result = this.receiveFetch(ctx, consumerGroup, queueName, forUpdate, limit);
 
                 if (!result.isEmpty()) {
                     if (inTransaction) {
@@ -341,39 +580,70 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         );
     }
 
-    @SuppressWarnings("BusyWait")
     protected Runnable poll(Supplier<Integer> runnable) {
+        return this.poll(limit -> runnable.get(), configuration::getPollSize);
+    }
+
+    /**
+     * Poll until cancelled, the fetch function receives the maximum number of messages to fetch and returns the number fetched.
+     */
+    protected Runnable poll(IntUnaryOperator fetch, IntSupplier credits) {
         AtomicBoolean running = new AtomicBoolean(true);
         AtomicLong sleep = new AtomicLong(configuration.getMaxPollInterval().toMillis());
         AtomicReference<ZonedDateTime> lastPoll = new AtomicReference<>(ZonedDateTime.now());
+        Semaphore wakeUp = new Semaphore(0);
+        this.pollWakeUps.add(wakeUp);
 
         poolExecutor.execute(() -> {
-            while (running.get() && !this.isClosed.get()) {
-                try {
-                    Integer count = runnable.get();
-                    if (count > 0) {
-                        lastPoll.set(ZonedDateTime.now());
+            try {
+                while (running.get() && !this.isClosed.get()) {
+                    try {
+                        int limit = Math.min(credits.getAsInt(), configuration.getPollSize());
+                        int count = limit > 0 ? fetch.applyAsInt(limit) : 0;
+                        if (count > 0) {
+                            lastPoll.set(ZonedDateTime.now());
+                        }
+
+                        if (limit <= 0) {
+                            // the consumer can't take more messages, leave them to the others and check again soon
+                            sleep.set(configuration.getMinPollInterval().toMillis());
+                        } else if (count >= limit) {
+                            // the batch was full, there is probably more to fetch
+                            sleep.set(0);
+                        } else if (this.isNotificationEnabled()) {
+                            // new messages will wake us up, polling is only a fallback for missed notifications
+                            sleep.set(configuration.getMaxPollInterval().toMillis());
+                        } else {
+                            sleep.set(lastPoll.get().plus(configuration.getPollSwitchInterval()).compareTo(ZonedDateTime.now()) < 0 ?
+                                configuration.getMaxPollInterval().toMillis() :
+                                configuration.getMinPollInterval().toMillis()
+                            );
+                        }
+                    } catch (CannotCreateTransactionException e) {
+                        if (log.isDebugEnabled()) {
+                            log.debug("Can't poll on receive", e);
+                        }
+
+                        sleep.set(configuration.getMaxPollInterval().toMillis());
                     }
 
-                    sleep.set(lastPoll.get().plus(configuration.getPollSwitchInterval()).compareTo(ZonedDateTime.now()) < 0 ?
-                        configuration.getMaxPollInterval().toMillis() :
-                        configuration.getMinPollInterval().toMillis()
-                    );
-                } catch (CannotCreateTransactionException e) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Can't poll on receive", e);
+                    try {
+                        if (sleep.get() > 0 && wakeUp.tryAcquire(sleep.get(), TimeUnit.MILLISECONDS)) {
+                            wakeUp.drainPermits();
+                        }
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
                     }
                 }
-
-                try {
-                    Thread.sleep(sleep.get());
-                } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
-                }
+            } finally {
+                this.pollWakeUps.remove(wakeUp);
             }
         });
 
-        return () -> running.set(false);
+        return () -> {
+            running.set(false);
+            wakeUp.release();
+        };
     }
 
     protected List<Either<T, DeserializationException>> map(Result<Record> fetch) {
@@ -398,6 +668,7 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         if (!this.isClosed.compareAndSet(false, true)) {
             return;
         }
+        this.wakeUp();
         this.poolExecutor.shutdown();
         this.asyncPoolExecutor.shutdown();
     }
@@ -409,5 +680,11 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         Duration maxPollInterval = Duration.ofMillis(500);
         Duration pollSwitchInterval = Duration.ofSeconds(30);
         Integer pollSize = 100;
+        Integer produceBatchSize = 100;
+        Boolean groupCommit = false;
+        Duration produceBatchWindow = Duration.ZERO;
+    }
+
+    private record PendingMessage<M>(Map<Field<Object>, Object> fields, M message, boolean skipIndexer, CompletableFuture<Void> result) {
     }
 }
@@ -42,6 +42,10 @@ public class JdbcQueueIndexer {
         this.metricRegistry = applicationContext.getBean(MetricRegistry.class);
     }
 
+    public boolean isIndexed(Object item) {
+        return repositories.containsKey(item.getClass());
+    }
+
     public void accept(DSLContext context, Object item) {
         if (repositories.containsKey(item.getClass())) {
             this.metricRegistry.counter(MetricRegistry.METRIC_INDEXER_REQUEST_COUNT, "type", item.getClass().getName()).increment();
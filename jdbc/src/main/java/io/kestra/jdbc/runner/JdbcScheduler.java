@@ -6,12 +6,15 @@ import io.kestra.core.models.triggers.Trigger;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.repositories.FlowRepositoryInterface;
+import io.kestra.core.repositories.ServiceInstanceRepositoryInterface;
 import io.kestra.core.repositories.TriggerRepositoryInterface;
 import io.kestra.core.schedulers.*;
+import io.kestra.core.server.Service;
 import io.kestra.core.services.ConditionService;
 import io.kestra.core.services.FlowListenersInterface;
 import io.kestra.core.services.FlowService;
 import io.kestra.core.utils.ListUtils;
+import io.kestra.jdbc.JdbcTableConfigs;
 import io.kestra.jdbc.JooqDSLContextWrapper;
 import io.kestra.jdbc.repository.AbstractJdbcTriggerRepository;
 import io.micronaut.context.ApplicationContext;
@@ -19,9 +22,13 @@ import io.micronaut.inject.qualifiers.Qualifiers;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
+import org.jooq.exception.DataAccessException;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.function.BiConsumer;
 
 @JdbcRunnerEnabled
@@ -34,6 +41,16 @@ public class JdbcScheduler extends AbstractScheduler {
     private final FlowRepositoryInterface flowRepository;
     private final JooqDSLContextWrapper dslContextWrapper;
     private final ConditionService conditionService;
+    private final ServiceInstanceRepositoryInterface serviceInstanceRepository;
+
+    private static final Duration PARTITIONS_REFRESH_INTERVAL = Duration.ofSeconds(5);
+    private static final Duration PARTITIONS_LEASE_DURATION = Duration.ofSeconds(30);
+
+    // null when the triggers are not partitioned, every scheduler then tries to lock all the triggers
+    private final JdbcSchedulerPartitions partitions;
+    private Set<Integer> ownedSlots;
+    private Instant ownedSlotsRefreshDate = Instant.EPOCH;
+    private Instant ownedSlotsLeaseEnd = Instant.EPOCH;
 
 
     @SuppressWarnings("unchecked")
@@ -51,6 +68,15 @@ public class JdbcScheduler extends AbstractScheduler {
         conditionService = applicationContext.getBean(ConditionService.class);
         flowRepository = applicationContext.getBean(FlowRepositoryInterface.class);
         dslContextWrapper = applicationContext.getBean(JooqDSLContextWrapper.class);
+        serviceInstanceRepository = applicationContext.getBean(ServiceInstanceRepositoryInterface.class);
+
+        int partitionCount = applicationContext.getProperty("kestra.jdbc.scheduler.partitions", Integer.class, 1);
+        partitions = partitionCount <= 1 ? null : new JdbcSchedulerPartitions(
+            dslContextWrapper,
+            applicationContext.getBean(JdbcTableConfigs.class),
+            partitionCount,
+            PARTITIONS_LEASE_DURATION
+        );
     }
 
     @Override
@@ -96,11 +122,70 @@ public class JdbcScheduler extends AbstractScheduler {
     @Override
     public void handleNext(List<FlowWithSource> flows, ZonedDateTime now, BiConsumer<List<Trigger>, ScheduleContextInterface> consumer) {
         JdbcSchedulerContext schedulerContext = new JdbcSchedulerContext(this.dslContextWrapper);
+        Set<Integer> slots = this.partitions == null ? null : this.ownedSlots();
 
         schedulerContext.doInTransaction(scheduleContextInterface -> {
-            List<Trigger> triggers = this.triggerState.findByNextExecutionDateReadyForAllTenants(now, scheduleContextInterface);
+            List<Trigger> triggers;
+            if (slots == null) {
+                triggers = this.triggerState.findByNextExecutionDateReadyForAllTenants(now, scheduleContextInterface);
+            } else if (slots.isEmpty()) {
+                triggers = List.of();
+            } else {
+                triggers = ((AbstractJdbcTriggerRepository) this.triggerRepository).findByNextExecutionDateReadyForSlots(now, scheduleContextInterface, slots);
+            }
 
             consumer.accept(triggers, scheduleContextInterface);
         });
     }
+
+    /**
+     * The slots of the partitions leased by this scheduler, the leases are refreshed periodically.
+     * If they can't be refreshed, the partitions are kept until the end of their lease only.
+     */
+    private Set<Integer> ownedSlots() {
+        Instant now = Instant.now();
+        if (this.ownedSlots != null && now.isBefore(this.ownedSlotsRefreshDate.plus(PARTITIONS_REFRESH_INTERVAL))) {
+            return this.ownedSlots;
+        }
+
+        try {
+            int schedulers = (int) serviceInstanceRepository.findAllInstancesInStates(Service.ServiceState.allRunningStates())
+                .stream()
+                .filter(instance -> instance.type() == Service.ServiceType.SCHEDULER)
+                .count();
+
+            Set<Integer> owned = this.partitions.refresh(this.getId(), schedulers, now);
+            Set<Integer> slots = this.partitions.slots(owned);
+
+            if (!slots.equals(this.ownedSlots)) {
+                log.info("Scheduler owns the trigger partitions {}", owned);
+            }
+
+            this.ownedSlots = slots;
+            this.ownedSlotsLeaseEnd = now.plus(PARTITIONS_LEASE_DURATION);
+        } catch (DataAccessException e) {
+            log.warn("Unable to refresh the trigger partitions", e);
+
+            if (this.ownedSlots == null || now.isAfter(this.ownedSlotsLeaseEnd)) {
+                this.ownedSlots = Set.of();
+            }
+        }
+
+        this.ownedSlotsRefreshDate = now;
+
+        return this.ownedSlots;
+    }
+
+    @Override
+    protected void close(Runnable onClose) {
+        super.close(onClose);
+
+        if (this.partitions != null) {
+            try {
+                this.partitions.release(this.getId());
+            } catch (DataAccessException e) {
+                log.warn("Unable to release the trigger partitions, they will be taken over once expired", e);
+            }
+        }
+    }
 }
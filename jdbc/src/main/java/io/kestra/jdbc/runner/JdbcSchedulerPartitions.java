@@ -0,0 +1,195 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.jdbc.JdbcTableConfigs;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Record3;
+import org.jooq.Table;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static io.kestra.jdbc.repository.AbstractJdbcRepository.field;
+
+/**
+ * Leases of the trigger partitions, so that each partition is evaluated by a single scheduler at a time.
+ * <p>
+ * Trigger keys are hashed into {@link #SLOT_COUNT} slots, stored on the trigger rows, and each partition owns the slots
+ * whose number modulo the partition count is the partition number.
+ * <p>
+ * On each refresh, a scheduler renews its leases, claims the free or expired ones up to its share of the partitions
+ * (from the number of running schedulers) and releases the ones above it, so a new scheduler can take them. The
+ * partitions of a dead scheduler are taken over once its leases expire.
+ * Lease ends are epoch milliseconds from the clocks of the schedulers, so the lease duration must be far above the
+ * clock skew between instances.
+ */
+@Slf4j
+public class JdbcSchedulerPartitions {
+    public static final int SLOT_COUNT = 1024;
+
+    private static final Field<Integer> PARTITION_FIELD = field("partition_id", Integer.class);
+    private static final Field<String> OWNER_FIELD = field("owner", String.class);
+    private static final Field<Long> LEASE_END_FIELD = field("lease_end", Long.class);
+
+    private final JooqDSLContextWrapper dslContextWrapper;
+    private final Table<Record> table;
+    private final int partitionCount;
+    private final Duration leaseDuration;
+
+    private volatile boolean created = false;
+
+    public JdbcSchedulerPartitions(JooqDSLContextWrapper dslContextWrapper, JdbcTableConfigs jdbcTableConfigs, int partitionCount, Duration leaseDuration) {
+        if (partitionCount < 1 || partitionCount > SLOT_COUNT) {
+            throw new IllegalArgumentException("The scheduler partition count must be between 1 and " + SLOT_COUNT + ", was " + partitionCount);
+        }
+
+        this.dslContextWrapper = dslContextWrapper;
+        this.table = DSL.table(jdbcTableConfigs.tableConfig("schedulerpartitions").table());
+        this.partitionCount = partitionCount;
+        this.leaseDuration = leaseDuration;
+    }
+
+    public static int slot(String key) {
+        return Math.floorMod(key.hashCode(), SLOT_COUNT);
+    }
+
+    /**
+     * @return the slots of the given partitions.
+     */
+    public Set<Integer> slots(Set<Integer> partitions) {
+        Set<Integer> slots = new TreeSet<>();
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            if (partitions.contains(slot % this.partitionCount)) {
+                slots.add(slot);
+            }
+        }
+
+        return slots;
+    }
+
+    /**
+     * Renew, claim and release the leases of the owner.
+     *
+     * @param owner the id of the scheduler.
+     * @param schedulers the number of running schedulers, the owner claims all the partitions if 0.
+     * @param now the current date, leases ended before it are expired.
+     * @return the partitions owned until the end of the lease.
+     */
+    public Set<Integer> refresh(String owner, int schedulers, Instant now) {
+        this.create();
+
+        int share = schedulers <= 0 ? this.partitionCount : Math.ceilDiv(this.partitionCount, schedulers);
+        long nowMillis = now.toEpochMilli();
+
+        return this.dslContextWrapper.transactionResult(configuration -> {
+            DSLContext context = DSL.using(configuration);
+
+            // all the partitions are locked, so concurrent refreshes are serialized
+            List<Record3<Integer, String, Long>> records = context
+                .select(PARTITION_FIELD, OWNER_FIELD, LEASE_END_FIELD)
+                .from(this.table)
+                .where(PARTITION_FIELD.lt(this.partitionCount))
+                .orderBy(PARTITION_FIELD.asc())
+                .forUpdate()
+                .fetch();
+
+            List<Integer> owned = new ArrayList<>();
+            List<Integer> free = new ArrayList<>();
+            for (Record3<Integer, String, Long> record : records) {
+                boolean expired = record.value2() == null || record.value3() == null || record.value3() < nowMillis;
+
+                if (!expired && owner.equals(record.value2())) {
+                    owned.add(record.value1());
+                } else if (expired) {
+                    free.add(record.value1());
+                }
+            }
+
+            List<Integer> released = new ArrayList<>();
+            while (owned.size() > share) {
+                released.add(owned.removeLast());
+            }
+
+            for (int i = 0; i < free.size() && owned.size() < share; i++) {
+                owned.add(free.get(i));
+            }
+
+            if (!released.isEmpty()) {
+                context.update(this.table)
+                    .set(OWNER_FIELD, (String) null)
+                    .set(LEASE_END_FIELD, (Long) null)
+                    .where(PARTITION_FIELD.in(released))
+                    .execute();
+            }
+
+            if (!owned.isEmpty()) {
+                context.update(this.table)
+                    .set(OWNER_FIELD, owner)
+                    .set(LEASE_END_FIELD, now.plus(this.leaseDuration).toEpochMilli())
+                    .where(PARTITION_FIELD.in(owned))
+                    .execute();
+            }
+
+            return Collections.unmodifiableSet(new HashSet<>(owned));
+        });
+    }
+
+    /**
+     * Release all the leases of the owner, so the other schedulers can take its partitions without waiting for them to expire.
+     */
+    public void release(String owner) {
+        this.dslContextWrapper.transaction(configuration -> DSL.using(configuration)
+            .update(this.table)
+            .set(OWNER_FIELD, (String) null)
+            .set(LEASE_END_FIELD, (Long) null)
+            .where(OWNER_FIELD.eq(owner))
+            .execute()
+        );
+    }
+
+    /**
+     * Create the missing partitions, they are never deleted so a lower partition count only ignores the ones above it.
+     */
+    private void create() {
+        if (this.created) {
+            return;
+        }
+
+        try {
+            this.dslContextWrapper.transaction(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                Set<Integer> existing = new HashSet<>(context
+                    .select(PARTITION_FIELD)
+                    .from(this.table)
+                    .where(PARTITION_FIELD.lt(this.partitionCount))
+                    .fetch(PARTITION_FIELD)
+                );
+
+                for (int partition = 0; partition < this.partitionCount; partition++) {
+                    if (!existing.contains(partition)) {
+                        context.insertInto(this.table)
+                            .set(PARTITION_FIELD, partition)
+                            .execute();
+                    }
+                }
+            });
+
+            this.created = true;
+        } catch (DataAccessException e) {
+            // created concurrently by another scheduler, we will check again on the next refresh
+            log.debug("Unable to create the scheduler partitions", e);
+        }
+    }
+}
@@ -1,11 +1,30 @@
 package io.kestra.jdbc.repository;
 
+import com.devskiller.friendly_id.FriendlyId;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.statistics.DailyExecutionStatistics;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.runners.Executor;
+import io.kestra.core.utils.DateUtils;
 import io.kestra.jdbc.JdbcTestUtils;
 import jakarta.inject.Inject;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 
 public abstract class AbstractJdbcExecutionRepositoryTest extends io.kestra.core.repositories.AbstractExecutionRepositoryTest {
     @Inject
@@ -21,4 +40,123 @@ public abstract class AbstractJdbcExecutionRepositoryTest extends io.kestra.core
     protected void fetchData() {
         // TODO Remove the override once JDBC implementation has the QueryBuilder working
     }
-}
\ No newline at end of file
+
+    @Test
+    protected void statisticsRollup() {
+        // more than 6 hours, starting and ending in the middle of an hour
+        Instant hour = Instant.now().truncatedTo(ChronoUnit.HOURS).minus(12, ChronoUnit.HOURS);
+        ZonedDateTime startDate = ZonedDateTime.ofInstant(hour.plus(15, ChronoUnit.MINUTES), ZoneOffset.UTC);
+        ZonedDateTime endDate = ZonedDateTime.ofInstant(hour.plus(10 * 60 + 45, ChronoUnit.MINUTES), ZoneOffset.UTC);
+
+        // the executions of the partial hours outside the period are in the same buckets as the ones inside it
+        List<Integer> minutes = new ArrayList<>(List.of(-30, 0, 10, 20, 640, 650, 700));
+        for (int minute = 30; minute <= 630; minute += 30) {
+            minutes.add(minute);
+        }
+
+        List<Execution> executions = new ArrayList<>();
+        for (int i = 0; i < minutes.size(); i++) {
+            Instant date = hour.plus(minutes.get(i), ChronoUnit.MINUTES);
+            Execution execution = execution(i % 3 == 0 ? State.Type.FAILED : State.Type.SUCCESS, date);
+
+            executions.add(executionRepository.save(execution));
+        }
+
+        assertStatistics(executions, startDate, endDate);
+
+        AbstractJdbcExecutionRepository jdbcExecutionRepository = (AbstractJdbcExecutionRepository) executionRepository;
+        jdbcExecutionRepository.foldStatistics(1000);
+        assertThat(jdbcExecutionRepository.foldStatistics(1000), is(0));
+        assertStatistics(executions, startDate, endDate);
+
+        // an execution inside the period and one in a partial hour outside of it
+        executionRepository.delete(executions.get(3));
+        executionRepository.delete(executions.get(2));
+        executions.remove(3);
+        executions.remove(2);
+        assertStatistics(executions, startDate, endDate);
+
+        jdbcExecutionRepository.foldStatistics(1);
+        assertStatistics(executions, startDate, endDate);
+
+        jdbcExecutionRepository.foldStatistics(1000);
+        assertStatistics(executions, startDate, endDate);
+    }
+
+    @Test
+    protected void statisticsRollupLock() {
+        Instant hour = Instant.now().truncatedTo(ChronoUnit.HOURS).minus(12, ChronoUnit.HOURS);
+        ZonedDateTime startDate = ZonedDateTime.ofInstant(hour.plus(15, ChronoUnit.MINUTES), ZoneOffset.UTC);
+        ZonedDateTime endDate = ZonedDateTime.ofInstant(hour.plus(10 * 60 + 45, ChronoUnit.MINUTES), ZoneOffset.UTC);
+
+        AbstractJdbcExecutionRepository jdbcExecutionRepository = (AbstractJdbcExecutionRepository) executionRepository;
+        Execution execution = executionRepository.save(Execution.builder()
+            .id(FriendlyId.createFriendlyId())
+            .namespace(NAMESPACE)
+            .flowId(FLOW)
+            .flowRevision(1)
+            .state(new State(State.Type.CREATED, new ArrayList<>(List.of(new State.History(State.Type.CREATED, hour.plus(2, ChronoUnit.HOURS))))))
+            .build()
+        );
+        assertStatistics(List.of(execution), startDate, endDate);
+
+        // the executor changes the state under the lock, then the execution is indexed again from the queue
+        for (State.Type state : List.of(State.Type.RUNNING, State.Type.SUCCESS)) {
+            Executor executor = jdbcExecutionRepository.lock(execution.getId(), pair -> Pair.of(
+                new Executor(pair.getLeft().withState(state), null),
+                pair.getRight()
+            ));
+            execution = executionRepository.save(executor.getExecution());
+
+            assertStatistics(List.of(execution), startDate, endDate);
+            jdbcExecutionRepository.foldStatistics(1000);
+            assertStatistics(List.of(execution), startDate, endDate);
+        }
+    }
+
+    private void assertStatistics(List<Execution> executions, ZonedDateTime startDate, ZonedDateTime endDate) {
+        Map<State.Type, Long> expected = new EnumMap<>(State.Type.class);
+        executions.stream()
+            .filter(execution -> !execution.getState().getStartDate().isBefore(startDate.toInstant()) && !execution.getState().getStartDate().isAfter(endDate.toInstant()))
+            .forEach(execution -> expected.merge(execution.getState().getCurrent(), 1L, Long::sum));
+
+        for (DateUtils.GroupType groupBy : List.of(DateUtils.GroupType.HOUR, DateUtils.GroupType.DAY)) {
+            List<DailyExecutionStatistics> result = executionRepository.dailyStatistics(
+                null,
+                null,
+                null,
+                null,
+                null,
+                startDate,
+                endDate,
+                groupBy,
+                null,
+                false
+            );
+
+            Map<State.Type, Long> counts = new EnumMap<>(State.Type.class);
+            result.forEach(statistics -> statistics.getExecutionCounts()
+                .forEach((state, count) -> {
+                    if (count > 0) {
+                        counts.merge(state, count, Long::sum);
+                    }
+                })
+            );
+
+            assertThat(counts, is(expected));
+        }
+    }
+
+    private static Execution execution(State.Type state, Instant startDate) {
+        return Execution.builder()
+            .id(FriendlyId.createFriendlyId())
+            .namespace(NAMESPACE)
+            .flowId(FLOW)
+            .flowRevision(1)
+            .state(new State(state, List.of(
+                new State.History(State.Type.CREATED, startDate),
+                new State.History(state, startDate.plusSeconds(10))
+            )))
+            .build();
+    }
+}
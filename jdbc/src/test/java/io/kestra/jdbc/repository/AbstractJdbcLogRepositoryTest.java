@@ -1,8 +1,26 @@
 package io.kestra.jdbc.repository;
 
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.models.executions.statistics.LogStatistics;
+import io.kestra.core.utils.DateUtils;
+import io.kestra.core.utils.IdUtils;
 import io.kestra.jdbc.JdbcTestUtils;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 
 public abstract class AbstractJdbcLogRepositoryTest extends io.kestra.core.repositories.AbstractLogRepositoryTest {
     @Inject
@@ -13,4 +31,85 @@ public abstract class AbstractJdbcLogRepositoryTest extends io.kestra.core.repos
         jdbcTestUtils.drop();
         jdbcTestUtils.migrate();
     }
-}
\ No newline at end of file
+
+    @Test
+    void statisticsRollup() {
+        // more than 6 hours, starting and ending in the middle of an hour
+        Instant hour = Instant.now().truncatedTo(ChronoUnit.HOURS).minus(12, ChronoUnit.HOURS);
+        ZonedDateTime startDate = ZonedDateTime.ofInstant(hour.plus(15, ChronoUnit.MINUTES), ZoneOffset.UTC);
+        ZonedDateTime endDate = ZonedDateTime.ofInstant(hour.plus(10 * 60 + 45, ChronoUnit.MINUTES), ZoneOffset.UTC);
+
+        // the logs of the partial hours outside the period are in the same buckets as the ones inside it
+        List<Integer> minutes = new ArrayList<>(List.of(-30, 0, 10, 20, 640, 650, 700));
+        for (int minute = 30; minute <= 630; minute += 30) {
+            minutes.add(minute);
+        }
+
+        List<LogEntry> logs = new ArrayList<>();
+        for (int i = 0; i < minutes.size(); i++) {
+            logs.add(logRepository.save(LogEntry.builder()
+                .flowId("flowId")
+                .namespace("io.kestra.unittest")
+                .taskId("taskId")
+                .executionId(IdUtils.create())
+                .taskRunId(IdUtils.create())
+                .attemptNumber(0)
+                .timestamp(hour.plus(minutes.get(i), ChronoUnit.MINUTES))
+                .level(i % 3 == 0 ? Level.WARN : Level.INFO)
+                .thread("")
+                .message("john doe")
+                .build()
+            ));
+        }
+
+        assertStatistics(logs, startDate, endDate);
+
+        AbstractJdbcLogRepository jdbcLogRepository = (AbstractJdbcLogRepository) logRepository;
+        jdbcLogRepository.foldStatistics(1000);
+        assertThat(jdbcLogRepository.foldStatistics(1000), is(0));
+        assertStatistics(logs, startDate, endDate);
+
+        // the warnings of the first hours, inside the period and in the partial hour outside of it
+        ZonedDateTime deletedEndDate = ZonedDateTime.ofInstant(hour.plus(100, ChronoUnit.MINUTES), ZoneOffset.UTC);
+        logRepository.deleteByQuery(null, "io.kestra.unittest", "flowId", List.of(Level.WARN), null, deletedEndDate);
+        logs.removeIf(log -> log.getLevel() == Level.WARN && log.getTimestamp().isBefore(deletedEndDate.toInstant()));
+        assertStatistics(logs, startDate, endDate);
+
+        jdbcLogRepository.foldStatistics(1);
+        assertStatistics(logs, startDate, endDate);
+
+        jdbcLogRepository.foldStatistics(1000);
+        assertStatistics(logs, startDate, endDate);
+    }
+
+    private void assertStatistics(List<LogEntry> logs, ZonedDateTime startDate, ZonedDateTime endDate) {
+        Map<Level, Long> expected = new EnumMap<>(Level.class);
+        logs.stream()
+            .filter(log -> !log.getTimestamp().isBefore(startDate.toInstant()) && !log.getTimestamp().isAfter(endDate.toInstant()))
+            .forEach(log -> expected.merge(log.getLevel(), 1L, Long::sum));
+
+        for (DateUtils.GroupType groupBy : List.of(DateUtils.GroupType.HOUR, DateUtils.GroupType.DAY)) {
+            List<LogStatistics> result = logRepository.statistics(
+                null,
+                null,
+                "io.kestra.unittest",
+                "flowId",
+                null,
+                startDate,
+                endDate,
+                groupBy
+            );
+
+            Map<Level, Long> counts = new EnumMap<>(Level.class);
+            result.forEach(statistics -> statistics.getCounts()
+                .forEach((level, count) -> {
+                    if (count > 0) {
+                        counts.merge(level, count, Long::sum);
+                    }
+                })
+            );
+
+            assertThat(counts, is(expected));
+        }
+    }
+}
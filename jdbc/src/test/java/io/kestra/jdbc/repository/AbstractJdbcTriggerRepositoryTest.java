@@ -3,11 +3,24 @@ package io.kestra.jdbc.repository;
 import io.kestra.core.models.triggers.Trigger;
 import io.kestra.core.utils.IdUtils;
 import io.kestra.jdbc.JdbcTestUtils;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.kestra.jdbc.runner.JdbcSchedulerContext;
+import io.kestra.jdbc.runner.JdbcSchedulerPartitions;
 import jakarta.inject.Inject;
+import org.jooq.impl.DSL;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static io.kestra.jdbc.repository.AbstractJdbcRepository.field;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
 public abstract class AbstractJdbcTriggerRepositoryTest extends io.kestra.core.repositories.AbstractTriggerRepositoryTest {
     @Inject
     JdbcTestUtils jdbcTestUtils;
@@ -15,6 +28,9 @@ public abstract class AbstractJdbcTriggerRepositoryTest extends io.kestra.core.r
     @Inject
     protected AbstractJdbcTriggerRepository repository;
 
+    @Inject
+    JooqDSLContextWrapper dslContextWrapper;
+
     @BeforeEach
     protected void init() {
         jdbcTestUtils.drop();
@@ -54,4 +70,42 @@ public abstract class AbstractJdbcTriggerRepositoryTest extends io.kestra.core.r
         Assertions.assertEquals(1, count);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByNextExecutionDateReadyForSlots() {
+        Trigger owned = repository.create(readyTrigger());
+        int slot = JdbcSchedulerPartitions.slot(owned.uid());
+
+        Trigger other = readyTrigger();
+        while (JdbcSchedulerPartitions.slot(other.uid()) == slot) {
+            other = readyTrigger();
+        }
+        repository.create(other);
+
+        // saved before the slots were stored
+        Trigger legacy = repository.create(readyTrigger());
+        dslContextWrapper.transaction(configuration -> DSL.using(configuration)
+            .update(repository.jdbcRepository.getTable())
+            .set(field("partition_slot"), (Object) null)
+            .where(field("key").eq(legacy.uid()))
+            .execute()
+        );
+
+        List<String> found = new ArrayList<>();
+        new JdbcSchedulerContext(dslContextWrapper).doInTransaction(context -> repository
+            .findByNextExecutionDateReadyForSlots(ZonedDateTime.now(), context, Set.of(slot))
+            .forEach(trigger -> found.add(trigger.uid()))
+        );
+
+        assertThat(found, containsInAnyOrder(owned.uid(), legacy.uid()));
+    }
+
+    private static Trigger readyTrigger() {
+        return Trigger.builder()
+            .triggerId(IdUtils.create())
+            .flowId(IdUtils.create())
+            .namespace("io.kestra.unittest")
+            .nextExecutionDate(ZonedDateTime.now().minusMinutes(1))
+            .build();
+    }
+}
@@ -0,0 +1,59 @@
+package io.kestra.jdbc.repository;
+
+import io.kestra.core.utils.DateUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class JdbcStatisticsRollupTest {
+    @Test
+    void hours() {
+        ZonedDateTime start = ZonedDateTime.parse("2024-01-01T10:15:00+01:00[Europe/Paris]");
+        ZonedDateTime end = ZonedDateTime.parse("2024-01-03T08:30:00+01:00[Europe/Paris]");
+
+        Optional<JdbcStatisticsRollup.Hours> hours = JdbcStatisticsRollup.hours(start, end, null);
+
+        assertThat(hours.isPresent(), is(true));
+        assertThat(hours.get().from().toInstant(), is(Instant.parse("2024-01-01T10:00:00Z")));
+        assertThat(hours.get().to().toInstant(), is(Instant.parse("2024-01-03T07:00:00Z")));
+    }
+
+    @Test
+    void hoursGroupedByMinute() {
+        ZonedDateTime end = ZonedDateTime.now(ZoneId.of("UTC"));
+
+        assertThat(JdbcStatisticsRollup.hours(end.minusHours(5), end, null).isPresent(), is(false));
+        assertThat(JdbcStatisticsRollup.hours(end.minusDays(2), end, DateUtils.GroupType.MINUTE).isPresent(), is(false));
+        assertThat(JdbcStatisticsRollup.hours(end.minusHours(5), end, DateUtils.GroupType.HOUR).isPresent(), is(true));
+    }
+
+    @Test
+    void hoursWithoutFullHour() {
+        ZonedDateTime start = ZonedDateTime.parse("2024-01-01T10:15:00Z");
+
+        assertThat(JdbcStatisticsRollup.hours(start, start.plusMinutes(30), DateUtils.GroupType.DAY).isPresent(), is(false));
+    }
+
+    @Test
+    void merge() {
+        JdbcStatisticsRollup.Delta added = JdbcStatisticsRollup.Delta.added(null, "io.kestra.tests", "flow", "SUCCESS", Instant.parse("2024-01-01T10:15:00Z"), 10);
+        JdbcStatisticsRollup.Delta removed = JdbcStatisticsRollup.Delta.removed(null, "io.kestra.tests", "flow", "SUCCESS", Instant.parse("2024-01-01T10:45:00Z"), 4);
+
+        assertThat(added.key(), is(removed.key()));
+        assertThat(added.date(), is(LocalDateTime.parse("2024-01-01T10:00:00")));
+
+        JdbcStatisticsRollup.Delta merged = added.merge(removed);
+
+        assertThat(merged.count(), is(0L));
+        assertThat(merged.durationSum(), is(6D));
+        assertThat(merged.durationMin(), is(10D));
+        assertThat(merged.durationMax(), is(10D));
+    }
+}
@@ -0,0 +1,137 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.runners.ConcurrencyLimit;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcTestUtils;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import jakarta.inject.Inject;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+@KestraTest
+public abstract class AbstractJdbcConcurrencyLimitStorageTest {
+    @Inject
+    AbstractJdbcConcurrencyLimitStorage concurrencyLimitStorage;
+
+    @Inject
+    JooqDSLContextWrapper dslContextWrapper;
+
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Test
+    void lockCreatesTheRow() {
+        Flow flow = flow();
+
+        ConcurrencyLimit concurrencyLimit = this.dslContextWrapper.transactionResult(configuration ->
+            this.concurrencyLimitStorage.lock(DSL.using(configuration), flow)
+        );
+        assertThat(concurrencyLimit.getExecutionIds(), is(empty()));
+
+        this.concurrencyLimitStorage.update(flow, current -> current.withRunning("first"));
+        this.concurrencyLimitStorage.update(flow, current -> current.withRunning("second").withoutRunning("first"));
+
+        assertThat(this.running(flow), contains("second"));
+    }
+
+    @Test
+    void concurrentAdmissions() throws Exception {
+        // the first admissions of a flow are the ones that used to find no row to lock
+        Flow flow = flow();
+        int concurrency = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(concurrency)) {
+            for (int i = 0; i < concurrency; i++) {
+                String executionId = IdUtils.create();
+
+                futures.add(executor.submit(() -> {
+                    start.await();
+
+                    return this.dslContextWrapper.transactionResult(configuration -> {
+                        DSLContext context = DSL.using(configuration);
+                        ConcurrencyLimit concurrencyLimit = this.concurrencyLimitStorage.lock(context, flow);
+
+                        // let the other admissions read the running executions if they are not locked
+                        Thread.sleep(50);
+
+                        if (concurrencyLimit.running() >= 1) {
+                            return false;
+                        }
+
+                        this.concurrencyLimitStorage.save(context, concurrencyLimit.withRunning(executionId));
+                        return true;
+                    });
+                }));
+            }
+
+            start.countDown();
+
+            int admitted = 0;
+            for (Future<Boolean> future : futures) {
+                admitted += future.get(30, TimeUnit.SECONDS) ? 1 : 0;
+            }
+
+            assertThat(admitted, is(1));
+            assertThat(this.running(flow).size(), is(1));
+        }
+    }
+
+    @Test
+    void reconcile() {
+        Flow flow = flow();
+        this.concurrencyLimitStorage.update(flow, current -> current
+            .withRunning("queued")
+            .withRunning("running")
+            .withRunning("ended")
+            .withRunning("missing")
+        );
+
+        // "queued" was admitted by the executor but is still queued in the repository, "started" didn't go through the executor
+        this.concurrencyLimitStorage.reconcile(
+            concurrencyLimit -> List.of("running", "started"),
+            (concurrencyLimit, executionId) -> Set.of("ended", "missing").contains(executionId)
+        );
+
+        assertThat(this.running(flow), containsInAnyOrder("queued", "running", "started"));
+    }
+
+    private List<String> running(Flow flow) {
+        return this.dslContextWrapper.transactionResult(configuration ->
+            this.concurrencyLimitStorage.lock(DSL.using(configuration), flow).getExecutionIds()
+        );
+    }
+
+    private static Flow flow() {
+        return Flow.builder()
+            .namespace("io.kestra.unittest")
+            .id(IdUtils.create())
+            .build();
+    }
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+}
@@ -0,0 +1,112 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.jdbc.JdbcTableConfigs;
+import io.kestra.jdbc.JdbcTestUtils;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+@KestraTest
+public abstract class AbstractJdbcSchedulerPartitionsTest {
+    private static final int PARTITION_COUNT = 8;
+    private static final Duration LEASE_DURATION = Duration.ofSeconds(30);
+
+    @Inject
+    JooqDSLContextWrapper dslContextWrapper;
+
+    @Inject
+    JdbcTableConfigs jdbcTableConfigs;
+
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Test
+    void assignment() {
+        JdbcSchedulerPartitions partitions = this.partitions();
+        Instant now = Instant.now();
+
+        // alone, the first scheduler takes all the partitions
+        assertThat(partitions.refresh("first", 1, now), hasSize(PARTITION_COUNT));
+
+        // a second one gets nothing until the first one releases its extra partitions
+        assertThat(partitions.refresh("second", 2, now), is(empty()));
+        Set<Integer> first = partitions.refresh("first", 2, now);
+        assertThat(first, hasSize(PARTITION_COUNT / 2));
+
+        Set<Integer> second = partitions.refresh("second", 2, now);
+        assertThat(second, hasSize(PARTITION_COUNT / 2));
+        assertThat(this.union(first, second), hasSize(PARTITION_COUNT));
+
+        // leases are renewed
+        assertThat(partitions.refresh("first", 2, now.plusSeconds(10)), is(first));
+        assertThat(partitions.refresh("second", 2, now.plusSeconds(10)), is(second));
+
+        // the slots of the partitions are disjoint and cover all the slots
+        Set<Integer> firstSlots = partitions.slots(first);
+        Set<Integer> secondSlots = partitions.slots(second);
+        assertThat(this.union(firstSlots, secondSlots), hasSize(JdbcSchedulerPartitions.SLOT_COUNT));
+        assertThat(firstSlots.size() + secondSlots.size(), is(JdbcSchedulerPartitions.SLOT_COUNT));
+    }
+
+    @Test
+    void takeover() {
+        JdbcSchedulerPartitions partitions = this.partitions();
+        Instant now = Instant.now();
+
+        partitions.refresh("first", 2, now);
+        partitions.refresh("second", 2, now);
+
+        // not expired yet, the partitions of the first scheduler can't be taken
+        Instant beforeExpiration = now.plus(LEASE_DURATION).minusSeconds(1);
+        assertThat(partitions.refresh("second", 1, beforeExpiration), hasSize(PARTITION_COUNT / 2));
+
+        // the first scheduler died, its partitions are taken over once expired
+        Instant afterExpiration = now.plus(LEASE_DURATION).plusSeconds(1);
+        assertThat(partitions.refresh("second", 1, afterExpiration), hasSize(PARTITION_COUNT));
+
+        // and it gets nothing back if it comes back
+        assertThat(partitions.refresh("first", 2, afterExpiration), is(empty()));
+    }
+
+    @Test
+    void release() {
+        JdbcSchedulerPartitions partitions = this.partitions();
+        Instant now = Instant.now();
+
+        partitions.refresh("first", 2, now);
+        partitions.refresh("second", 2, now);
+
+        // released on shutdown, taken without waiting for the lease to end
+        partitions.release("first");
+        assertThat(partitions.refresh("second", 1, now), hasSize(PARTITION_COUNT));
+    }
+
+    private JdbcSchedulerPartitions partitions() {
+        return new JdbcSchedulerPartitions(dslContextWrapper, jdbcTableConfigs, PARTITION_COUNT, LEASE_DURATION);
+    }
+
+    private Set<Integer> union(Set<Integer> first, Set<Integer> second) {
+        Set<Integer> union = new HashSet<>(first);
+        union.addAll(second);
+
+        return union;
+    }
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+}
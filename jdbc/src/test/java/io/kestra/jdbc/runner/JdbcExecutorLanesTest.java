@@ -0,0 +1,92 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.exceptions.DeserializationException;
+import io.kestra.core.utils.Either;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class JdbcExecutorLanesTest {
+    @Test
+    void keepOrderByExecution() {
+        Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+
+        try (JdbcExecutorLanes lanes = new JdbcExecutorLanes(4, 10, null)) {
+            Consumer<Either<String, DeserializationException>> consumer = lanes.route(
+                message -> message.split(":")[0],
+                either -> received
+                    .computeIfAbsent(either.getLeft().split(":")[0], k -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(Integer.parseInt(either.getLeft().split(":")[1]))
+            );
+
+            for (int i = 0; i < 100; i++) {
+                for (int execution = 0; execution < 10; execution++) {
+                    consumer.accept(Either.left("execution" + execution + ":" + i));
+                }
+            }
+        }
+
+        assertThat(received.size(), is(10));
+        received.values().forEach(values -> assertThat(values, is(IntStream.range(0, 100).boxed().toList())));
+    }
+
+    @Test
+    void processInParallel() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (JdbcExecutorLanes lanes = new JdbcExecutorLanes(2, 10, null)) {
+            // two keys routed to different lanes
+            String firstLane = keyOfLane(0);
+            String secondLane = keyOfLane(1);
+
+            Runnable blocking = () -> {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+            lanes.submit(firstLane, blocking);
+            lanes.submit(secondLane, blocking);
+
+            // both lanes are busy at the same time
+            assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+            release.countDown();
+            lanes.close(Duration.ofSeconds(10));
+        }
+    }
+
+    @Test
+    void singleLaneOnCallerThread() {
+        List<Thread> threads = new ArrayList<>();
+
+        try (JdbcExecutorLanes lanes = new JdbcExecutorLanes(1, 10, null)) {
+            Consumer<Either<String, DeserializationException>> consumer = lanes.route(message -> message, either -> threads.add(Thread.currentThread()));
+            consumer.accept(Either.left("execution"));
+        }
+
+        assertThat(threads, is(List.of(Thread.currentThread())));
+    }
+
+    private static String keyOfLane(int lane) {
+        return IntStream.range(0, 100)
+            .mapToObj(i -> "execution" + i)
+            .filter(key -> Math.floorMod(key.hashCode(), 2) == lane)
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -1,6 +1,8 @@
 package io.kestra.jdbc.runner;
 
+import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.models.flows.State;
 import io.kestra.core.queues.QueueException;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
@@ -9,6 +11,7 @@ import io.kestra.core.utils.TestsUtils;
 import io.kestra.plugin.core.debug.Return;
 import io.kestra.core.utils.IdUtils;
 import io.kestra.jdbc.JdbcTestUtils;
+import io.kestra.jdbc.repository.AbstractJdbcExecutionRepository;
 import io.kestra.core.junit.annotations.KestraTest;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -16,13 +19,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import static io.kestra.core.utils.Rethrow.throwConsumer;
+import static io.kestra.core.utils.Rethrow.throwFunction;
+import static io.kestra.core.utils.Rethrow.throwRunnable;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @KestraTest
 abstract public class JdbcQueueTest {
@@ -30,6 +43,13 @@ abstract public class JdbcQueueTest {
     @Named(QueueFactoryInterface.FLOW_NAMED)
     protected QueueInterface<FlowWithSource> flowQueue;
 
+    @Inject
+    @Named(QueueFactoryInterface.EXECUTION_NAMED)
+    protected QueueInterface<Execution> executionQueue;
+
+    @Inject
+    AbstractJdbcExecutionRepository executionRepository;
+
     @Inject
     JdbcTestUtils jdbcTestUtils;
 
@@ -127,6 +147,107 @@ abstract public class JdbcQueueTest {
         assertThat(receive.blockLast().getNamespace(), is("io.kestra.f2"));
     }
 
+    @Test
+    void batch() throws InterruptedException, QueueException {
+        CountDownLatch countDownLatch = new CountDownLatch(3);
+        List<String> namespaces = new CopyOnWriteArrayList<>();
+
+        Flux<FlowWithSource> receive = TestsUtils.receive(flowQueue, either -> {
+            namespaces.add(either.getLeft().getNamespace());
+            countDownLatch.countDown();
+        });
+
+        flowQueue.emit(List.of(builder("io.kestra.f1"), builder("io.kestra.f2"), builder("io.kestra.f3")));
+
+        countDownLatch.await(5, TimeUnit.SECONDS);
+        receive.blockLast();
+
+        assertThat(countDownLatch.getCount(), is(0L));
+        assertThat(namespaces, contains("io.kestra.f1", "io.kestra.f2", "io.kestra.f3"));
+    }
+
+    @Test
+    void batchFailure() throws InterruptedException {
+        CountDownLatch countDownLatch = new CountDownLatch(3);
+        List<String> namespaces = new CopyOnWriteArrayList<>();
+
+        Flux<FlowWithSource> receive = TestsUtils.receive(flowQueue, either -> {
+            namespaces.add(either.getLeft().getNamespace());
+            countDownLatch.countDown();
+        });
+
+        // the key of these ones is too long for the queue table
+        String tooLong = "io.kestra." + "a".repeat(300);
+        QueueException exception = assertThrows(QueueException.class, () -> flowQueue.emit(List.of(
+            builder("io.kestra.f1"),
+            builder(tooLong),
+            builder("io.kestra.f2"),
+            builder(tooLong),
+            builder("io.kestra.f3")
+        )));
+
+        countDownLatch.await(5, TimeUnit.SECONDS);
+        receive.blockLast();
+
+        // every message is attempted, the failures are reported at once
+        assertThat(exception.getSuppressed().length, is(1));
+        assertThat(countDownLatch.getCount(), is(0L));
+        assertThat(namespaces, contains("io.kestra.f1", "io.kestra.f2", "io.kestra.f3"));
+    }
+
+    @Test
+    void groupCommit() throws InterruptedException {
+        int count = 50;
+        CountDownLatch countDownLatch = new CountDownLatch(count);
+
+        Flux<FlowWithSource> receive = TestsUtils.receive(flowQueue, either -> countDownLatch.countDown());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < count; i++) {
+            executorService.submit(throwRunnable(() -> flowQueue.emit(builder("io.kestra.concurrent"))));
+        }
+        executorService.shutdown();
+
+        countDownLatch.await(10, TimeUnit.SECONDS);
+        receive.blockLast();
+
+        assertThat(countDownLatch.getCount(), is(0L));
+    }
+
+    @Test
+    void emitInsideLock() throws Exception {
+        // like the executor: each execution is emitted, and so indexed, while its row is locked, concurrently with the others
+        List<Execution> executions = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Execution execution = Execution.builder()
+                .id(IdUtils.create())
+                .namespace("io.kestra.lock")
+                .flowId("flow")
+                .flowRevision(1)
+                .state(new State())
+                .build();
+            executionRepository.save(execution);
+            executions.add(execution);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(executions.size());
+        List<Future<?>> futures = new ArrayList<>();
+        for (Execution execution : executions) {
+            futures.add(executorService.submit(() -> executionRepository.lock(execution.getId(), throwFunction(pair -> {
+                for (int i = 0; i < 5; i++) {
+                    executionQueue.emit(pair.getLeft().withState(State.Type.RUNNING));
+                }
+
+                return null;
+            }))));
+        }
+        executorService.shutdown();
+
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+    }
+
     private static FlowWithSource builder(String namespace) {
         return FlowWithSource.builder()
             .id(IdUtils.create())
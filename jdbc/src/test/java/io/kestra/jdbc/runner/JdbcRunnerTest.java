@@ -384,6 +384,12 @@ public abstract class JdbcRunnerTest {
         flowConcurrencyCaseTest.flowConcurrencyQueue();
     }
 
+    @Test
+    @LoadFlows({"flows/valids/flow-concurrency-queue.yml"})
+    void concurrencyQueueLimit() throws Exception {
+        flowConcurrencyCaseTest.flowConcurrencyQueueLimit();
+    }
+
     @Test
     @LoadFlows({"flows/valids/flow-concurrency-queue-pause.yml"})
     void concurrencyQueuePause() throws Exception {
@@ -5,9 +5,9 @@ import io.kestra.core.models.tasks.RunnableTaskException;
 import io.kestra.core.models.tasks.runners.DefaultLogConsumer;
 import io.kestra.core.models.tasks.runners.*;
 import io.kestra.core.runners.DefaultRunContext;
+import io.kestra.core.runners.NamespaceFilesCache;
 import io.kestra.core.runners.RunContextInitializer;
 import io.kestra.core.storages.NamespaceFile;
-import io.kestra.core.utils.Rethrow;
 import io.kestra.plugin.core.runner.Process;
 import io.kestra.core.models.tasks.NamespaceFiles;
 import io.kestra.core.runners.FilesService;
@@ -22,7 +22,6 @@ import lombok.Getter;
 import lombok.With;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
 import java.nio.file.Path;
 import java.time.Duration;
@@ -138,10 +137,8 @@ public class CommandsWrapper implements TaskCommands {
                 .namespace()
                 .findAllFilesMatching(this.namespaceFiles.getInclude(), this.namespaceFiles.getExclude());
 
-            matchedNamespaceFiles.forEach(Rethrow.throwConsumer(namespaceFile -> {
-                    InputStream content = runContext.storage().getFile(namespaceFile.uri());
-                    runContext.workingDir().createFile(namespaceFile.path().toString(), content);
-                }));
+            ((DefaultRunContext) runContext).getApplicationContext().getBean(NamespaceFilesCache.class)
+                .materialize(runContext, matchedNamespaceFiles, false);
         }
 
         TaskRunner realTaskRunner = this.getTaskRunner();
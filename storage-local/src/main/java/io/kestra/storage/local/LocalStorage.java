@@ -11,12 +11,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 import java.io.*;
 import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
@@ -68,6 +71,28 @@ public class LocalStorage implements StorageInterface {
         );
     }
 
+    @Override
+    public InputStream get(String tenantId, @Nullable String namespace, URI uri, long offset, long length) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(getPath(tenantId, uri), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException(e.getMessage());
+        }
+
+        try {
+            channel.position(offset);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        return BoundedInputStream.builder()
+            .setInputStream(new BufferedInputStream(Channels.newInputStream(channel)))
+            .setMaxCount(length)
+            .get();
+    }
+
     @Override
     public StorageObject getWithMetadata(String tenantId, @Nullable String namespace, URI uri) throws IOException {
         return new StorageObject(LocalFileAttributes.getMetadata(this.getPath(tenantId, uri)), this.get(tenantId, namespace, uri));
@@ -148,11 +173,7 @@ public class LocalStorage implements StorageInterface {
         }
 
         try (InputStream data = storageObject.inputStream(); OutputStream outStream = new FileOutputStream(file)) {
-            byte[] buffer = new byte[8 * 1024];
-            int bytesRead;
-            while ((bytesRead = data.read(buffer)) != -1) {
-                outStream.write(buffer, 0, bytesRead);
-            }
+            data.transferTo(outStream);
         }
 
         Map<String, String> metadata = storageObject.metadata();
@@ -165,6 +186,32 @@ public class LocalStorage implements StorageInterface {
         return URI.create("kestra://" + uri.getRawPath());
     }
 
+    @Override
+    public URI put(String tenantId, @Nullable String namespace, URI uri, Path file) throws IOException {
+        Path target = getPath(tenantId, uri);
+        Files.createDirectories(target.getParent());
+
+        try {
+            // a rename when the file is on the same file system
+            Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException(e.getMessage());
+        } catch (AtomicMoveNotSupportedException e) {
+            try (
+                FileChannel from = FileChannel.open(file, StandardOpenOption.READ);
+                FileChannel to = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
+            ) {
+                long size = from.size();
+                long position = 0;
+                while (position < size) {
+                    position += from.transferTo(position, size - position, to);
+                }
+            }
+        }
+
+        return URI.create("kestra://" + uri.getRawPath());
+    }
+
     @Override
     public FileAttributes getAttributes(String tenantId, @Nullable String namespace, URI uri) throws IOException {
         Path path = getPath(tenantId, uri);
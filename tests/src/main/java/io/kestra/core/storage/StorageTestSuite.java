@@ -12,6 +12,8 @@ import org.junit.jupiter.api.Test;
 import java.io.*;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
@@ -114,6 +116,38 @@ public abstract class StorageTestSuite {
             storageInterface.get(tenantId, prefix, new URI("/" + prefix + "/storage/missing.yml"));
         });
     }
+
+    @Test
+    void getRange() throws Exception {
+        String prefix = IdUtils.create();
+        String tenantId = IdUtils.create();
+
+        URI item = new URI("/" + prefix + "/storage/get.yml");
+        putFile(tenantId, item.getPath());
+
+        try (InputStream get = storageInterface.get(tenantId, prefix, item, 2, 3)) {
+            assertThat(CharStreams.toString(new InputStreamReader(get)), is(CONTENT_STRING.substring(2, 5)));
+        }
+
+        // the range is truncated at the end of the file
+        try (InputStream get = storageInterface.get(tenantId, prefix, item, 4, 100)) {
+            assertThat(CharStreams.toString(new InputStreamReader(get)), is(CONTENT_STRING.substring(4)));
+        }
+
+        try (InputStream get = storageInterface.get(tenantId, prefix, item, 100, 10)) {
+            assertThat(CharStreams.toString(new InputStreamReader(get)), is(""));
+        }
+    }
+
+    @Test
+    void getRangeFileNotFound() {
+        String prefix = IdUtils.create();
+        String tenantId = IdUtils.create();
+
+        assertThrows(FileNotFoundException.class, () -> {
+            storageInterface.get(tenantId, prefix, new URI("/" + prefix + "/storage/missing.yml"), 0, 10);
+        });
+    }
     //endregion
 
     @Test
@@ -699,6 +733,41 @@ public abstract class StorageTestSuite {
 
     }
 
+    @Test
+    void putPath() throws Exception {
+        String prefix = IdUtils.create();
+        String tenantId = IdUtils.create();
+
+        Path file = Files.createTempFile("storage", ".yml");
+        Files.writeString(file, CONTENT_STRING);
+
+        URI put = storageInterface.put(tenantId, prefix, new URI("/" + prefix + "/storage/put.yml"), file);
+        Files.deleteIfExists(file);
+
+        assertThat(put.toString(), is(new URI("kestra:///" + prefix + "/storage/put.yml").toString()));
+        InputStream get = storageInterface.get(tenantId, prefix, new URI("/" + prefix + "/storage/put.yml"));
+        assertThat(CharStreams.toString(new InputStreamReader(get)), is(CONTENT_STRING));
+
+        // replace an existing file
+        Path other = Files.createTempFile("storage", ".yml");
+        Files.writeString(other, "Other");
+        storageInterface.put(tenantId, prefix, new URI("/" + prefix + "/storage/put.yml"), other);
+        Files.deleteIfExists(other);
+
+        get = storageInterface.get(tenantId, prefix, new URI("/" + prefix + "/storage/put.yml"));
+        assertThat(CharStreams.toString(new InputStreamReader(get)), is("Other"));
+    }
+
+    @Test
+    void putPathNotFound() {
+        String prefix = IdUtils.create();
+        String tenantId = IdUtils.create();
+
+        assertThrows(FileNotFoundException.class, () -> {
+            storageInterface.put(tenantId, prefix, new URI("/" + prefix + "/storage/put.yml"), Path.of("/" + prefix + "/missing.yml"));
+        });
+    }
+
     private void put(String tenantId, String prefix) throws Exception {
         URI put = putFile(tenantId, "/" + prefix + "/storage/put.yml");
         InputStream get = storageInterface.get(tenantId, prefix, new URI("/" + prefix + "/storage/put.yml"));
@@ -22,6 +22,7 @@ import io.kestra.core.models.triggers.AbstractTrigger;
 import io.kestra.core.models.validations.ManualConstraintViolation;
 import io.kestra.core.queues.QueueException;
 import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueFanOut;
 import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.repositories.ExecutionRepositoryInterface;
 import io.kestra.core.repositories.FlowRepositoryInterface;
@@ -38,6 +39,8 @@ import io.kestra.plugin.core.trigger.Webhook;
 import io.kestra.webserver.responses.BulkErrorResponse;
 import io.kestra.webserver.responses.BulkResponse;
 import io.kestra.webserver.responses.PagedResults;
+import io.kestra.webserver.services.ExecutionEmitter;
+import io.kestra.webserver.services.WebhookRoutingTable;
 import io.kestra.webserver.utils.PageableUtils;
 import io.kestra.webserver.utils.RequestUtils;
 import io.kestra.webserver.utils.filepreview.FileRender;
@@ -75,6 +78,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.validation.Valid;
@@ -104,6 +108,7 @@ import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -172,9 +177,27 @@ public class ExecutionController {
     @Inject
     private TenantService tenantService;
 
+    @Inject
+    private WebhookRoutingTable webhookRoutingTable;
+
+    @Inject
+    private ExecutionEmitter executionEmitter;
+
+    // answer 202 as soon as the execution is submitted, without waiting for it to be emitted
+    @Value("${kestra.webserver.webhook.async:false}")
+    private boolean webhookAsync;
+
     @Value("${kestra.url}")
     private Optional<String> kestraUrl;
 
+    // a single execution queue subscription for all the followers of this instance
+    private QueueFanOut<Execution> executionFanOut;
+
+    @PostConstruct
+    void initFanOut() {
+        this.executionFanOut = new QueueFanOut<>(this.executionQueue, Execution::getId);
+    }
+
     @ExecuteOn(TaskExecutors.IO)
     @Get(uri = "/search")
     @Operation(tags = {"Executions"}, summary = "Search for executions")
@@ -195,11 +218,30 @@ public class ExecutionController {
         @Parameter(description = "A state filter") @Nullable @QueryValue List<State.Type> state,
         @Parameter(description = "A labels filter as a list of 'key:value'") @Nullable @QueryValue @Format("MULTI") List<String> labels,
         @Parameter(description = "The trigger execution id") @Nullable @QueryValue String triggerExecutionId,
-        @Parameter(description = "A execution child filter") @Nullable @QueryValue ExecutionRepositoryInterface.ChildFilter childFilter
+        @Parameter(description = "A execution child filter") @Nullable @QueryValue ExecutionRepositoryInterface.ChildFilter childFilter,
+        @Parameter(description = "The cursor of the keyset pagination: `*` for the first page, then the `next` value of the previous page. The page number is ignored") @Nullable @QueryValue String cursor,
+        @Parameter(description = "Whether to count the total with the keyset pagination, as it reads all the results") @QueryValue(defaultValue = "false") boolean withTotal
     ) {
         validateTimeline(startDate, endDate);
         final ZonedDateTime now = ZonedDateTime.now();
 
+        if (cursor != null) {
+            return PagedResults.of(executionRepository.find(
+                PageableUtils.keyset(size, sort, executionRepository.sortMapping(), cursor, withTotal),
+                query,
+                tenantService.resolveTenant(),
+                scope,
+                namespace,
+                flowId,
+                resolveAbsoluteDateTime(startDate, timeRange, now),
+                endDate,
+                state,
+                RequestUtils.toMap(labels),
+                triggerExecutionId,
+                childFilter
+            ));
+        }
+
         return PagedResults.of(executionRepository.find(
             PageableUtils.from(page, size, sort, executionRepository.sortMapping()),
             query,
@@ -461,7 +503,15 @@ public class ExecutionController {
         String key,
         HttpRequest<String> request
     ) {
-        Optional<Flow> find = flowRepository.findById(tenantService.resolveTenant(), namespace, id);
+        String tenantId = tenantService.resolveTenant();
+
+        Optional<WebhookRoutingTable.Route> route = webhookRoutingTable.find(tenantId, namespace, id, key);
+        if (route.isPresent()) {
+            return webhook(route.get().flow(), route.get().webhook(), request);
+        }
+
+        // the routing table may not be up to date yet
+        Optional<Flow> find = flowRepository.findById(tenantId, namespace, id);
         return webhook(find, key, request);
     }
 
@@ -505,7 +555,15 @@ public class ExecutionController {
             throw new HttpStatusException(HttpStatus.NOT_FOUND, "Webhook not found");
         }
 
-        Optional<Execution> execution = webhook.get().evaluate(request, flow);
+        return webhook(flow, webhook.get(), request);
+    }
+
+    private HttpResponse<Execution> webhook(
+        Flow flow,
+        Webhook webhook,
+        HttpRequest<String> request
+    ) {
+        Optional<Execution> execution = webhook.evaluate(request, flow);
 
         if (execution.isEmpty()) {
             throw new HttpStatusException(HttpStatus.NOT_FOUND, "No execution triggered");
@@ -518,19 +576,37 @@ public class ExecutionController {
 
         // we check conditions here as it's easier as the execution is created we have the body and headers available for the runContext
         var conditionContext = conditionService.conditionContext(runContextFactory.of(flow, result), flow, result);
-        if (!conditionService.isValid(flow, webhook.get(), conditionContext)) {
+        if (!conditionService.isValid(flow, webhook, conditionContext)) {
             return HttpResponse.noContent();
         }
 
+        CompletableFuture<Execution> emitted = executionEmitter.emit(result);
+
+        if (webhookAsync) {
+            // the event is created from the request thread that holds the request context, and only published once emitted
+            CrudEvent<Execution> event = new CrudEvent<>(result, CrudEventType.CREATE);
+            emitted.whenComplete((execution, throwable) -> {
+                if (throwable != null) {
+                    log.error("Unable to emit the execution '{}' of the webhook", event.getModel().getId(), throwable);
+                } else {
+                    eventPublisher.publishEvent(event);
+                }
+            });
+
+            return HttpResponse.<Execution>accepted().body(result);
+        }
+
         try {
-            executionQueue.emit(result);
+            emitted.get();
             eventPublisher.publishEvent(new CrudEvent<>(result, CrudEventType.CREATE));
             return HttpResponse.ok(result);
-        } catch (QueueException e) {
-            log.error(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            log.error(e.getCause().getMessage(), e.getCause());
+            return HttpResponse.serverError();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             return HttpResponse.serverError();
         }
-
     }
 
     @ExecuteOn(TaskExecutors.IO)
@@ -599,14 +675,8 @@ public class ExecutionController {
                     if (!wait) {
                         future.complete(ExecutionResponse.fromExecution(executionWithInputs, executionUrl(executionWithInputs)));
                     } else {
-                        disposable.set(this.executionQueue.receive(either -> {
-                            if (either.isRight()) {
-                                log.error("Unable to deserialize the execution: {}", either.getRight().getMessage());
-                                sink.complete();
-                            }
-
-                            Execution item = either.getLeft();
-                            if (item.getId().equals(executionWithInputs.getId()) && this.isStopFollow(flow, item)) {
+                        disposable.set(this.executionFanOut.subscribe(executionWithInputs.getId(), item -> {
+                            if (this.isStopFollow(flow, item)) {
                                 future.complete(ExecutionResponse.fromExecution(item, executionUrl(item)));
                             }
                         }));
@@ -1494,26 +1564,18 @@ public class ExecutionController {
                 emitter.next(Event.of(execution).id("progress"));
 
                 // consume new value
-                Runnable receive = this.executionQueue.receive(either -> {
-                    if (either.isRight()) {
-                        log.error("Unable to deserialize the execution: {}", either.getRight().getMessage());
-                        return;
-                    }
+                Runnable receive = this.executionFanOut.subscribe(executionId, current -> {
+                    emitter.next(Event.of(current).id("progress"));
 
-                    Execution current = either.getLeft();
-                    if (current.getId().equals(executionId)) {
-
-                        emitter.next(Event.of(current).id("progress"));
-
-                        if (this.isStopFollow(flow, current)) {
-                            emitter.next(Event.of(current).id("end"));
-                            emitter.complete();
-                        }
+                    if (this.isStopFollow(flow, current)) {
+                        emitter.next(Event.of(current).id("end"));
+                        emitter.complete();
                     }
                 });
 
                 cancel.set(receive);
-            }, FluxSink.OverflowStrategy.BUFFER)
+                // only the last state of an execution matters, so a slow follower only receives the latest one
+            }, FluxSink.OverflowStrategy.LATEST)
             .doFinally(ignored -> {
                 if (cancel.get() != null) {
                     cancel.get().run();
@@ -1546,12 +1608,20 @@ public class ExecutionController {
             throw new IllegalArgumentException("Unable to preview using encoding '" + encoding + "'");
         }
 
-        try (InputStream fileStream = storageInterface.get(execution.get().getTenantId(), execution.get().getNamespace(), path)) {
+        int maxLine = maxRows == null ? this.initialPreviewRows : (maxRows > this.maxPreviewRows ? this.maxPreviewRows : maxRows);
+
+        // text files are only read up to the size that can be rendered
+        Optional<Long> maxBytes = FileRenderBuilder.maxBytes(extension, charset, maxLine);
+
+        try (InputStream fileStream = maxBytes.isPresent() ?
+            storageInterface.get(execution.get().getTenantId(), execution.get().getNamespace(), path, 0, maxBytes.get()) :
+            storageInterface.get(execution.get().getTenantId(), execution.get().getNamespace(), path)
+        ) {
             FileRender fileRender = FileRenderBuilder.of(
                 extension,
                 fileStream,
                 charset,
-                maxRows == null ? this.initialPreviewRows : (maxRows > this.maxPreviewRows ? this.maxPreviewRows : maxRows)
+                maxLine
             );
 
             return HttpResponse.ok(fileRender);
@@ -2,6 +2,7 @@ package io.kestra.webserver.controllers.api;
 
 import io.kestra.core.models.executions.LogEntry;
 import io.kestra.core.repositories.LogRepositoryInterface;
+import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.services.ExecutionLogService;
 import io.kestra.core.tenant.TenantService;
 import io.kestra.webserver.responses.PagedResults;
@@ -20,6 +21,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.inject.Inject;
 import jakarta.validation.constraints.Min;
+import lombok.SneakyThrows;
 import org.slf4j.event.Level;
 import reactor.core.publisher.Flux;
 
@@ -34,6 +36,8 @@ import static io.kestra.core.utils.DateUtils.validateTimeline;
 @Controller("/api/v1/")
 @Requires(beans = LogRepositoryInterface.class)
 public class LogController {
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
     @Inject
     private LogRepositoryInterface logRepository;
 
@@ -56,10 +60,18 @@ public class LogController {
         @Parameter(description = "A trigger id filter") @Nullable @QueryValue String triggerId,
         @Parameter(description = "The min log level filter") @Nullable @QueryValue Level minLevel,
         @Parameter(description = "The start datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime startDate,
-        @Parameter(description = "The end datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime endDate
+        @Parameter(description = "The end datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime endDate,
+        @Parameter(description = "The cursor of the keyset pagination: `*` for the first page, then the `next` value of the previous page. The page number is ignored") @Nullable @QueryValue String cursor,
+        @Parameter(description = "Whether to count the total with the keyset pagination, as it reads all the results") @QueryValue(defaultValue = "false") boolean withTotal
     ) {
         validateTimeline(startDate, endDate);
 
+        if (cursor != null) {
+            return PagedResults.of(
+                logRepository.find(PageableUtils.keyset(size, sort, cursor, withTotal), query, tenantService.resolveTenant(), namespace, flowId, triggerId, minLevel, startDate, endDate)
+            );
+        }
+
         return PagedResults.of(
             logRepository.find(PageableUtils.from(page, size, sort), query, tenantService.resolveTenant(), namespace, flowId, triggerId, minLevel, startDate, endDate)
         );
@@ -87,15 +99,17 @@ public class LogController {
     }
 
     @ExecuteOn(TaskExecutors.IO)
-    @Get(uri = "logs/{executionId}/download", produces = MediaType.TEXT_PLAIN)
+    @Get(uri = "logs/{executionId}/download", produces = {MediaType.TEXT_PLAIN, APPLICATION_NDJSON})
     @Operation(tags = {"Logs"}, summary = "Download logs for a specific execution, taskrun or task")
     public StreamedFile download(
         @Parameter(description = "The execution id") @PathVariable String executionId,
         @Parameter(description = "The min log level filter") @Nullable @QueryValue Level minLevel,
         @Parameter(description = "The taskrun id") @Nullable @QueryValue String taskRunId,
         @Parameter(description = "The task id") @Nullable @QueryValue String taskId,
-        @Parameter(description = "The attempt number") @Nullable @QueryValue Integer attempt
+        @Parameter(description = "The attempt number") @Nullable @QueryValue Integer attempt,
+        @Parameter(description = "The format of the file, a line of text or a JSON object by log") @QueryValue(defaultValue = "TEXT") DownloadFormat format
     ) {
+        // logs are fetched while the response is written, they are never all loaded in memory
         InputStream inputStream = logService.getExecutionLogsAsStream(
             tenantService.resolveTenant(),
             executionId,
@@ -103,9 +117,13 @@ public class LogController {
             taskRunId,
             Optional.ofNullable(taskId).map(List::of).orElse(null),
             attempt,
-            true
+            true,
+            format == DownloadFormat.NDJSON ? LogController::toJson : LogEntry::toPrettyString
         );
-        return new StreamedFile(inputStream, MediaType.TEXT_PLAIN_TYPE).attach(executionId + ".log");
+
+        return format == DownloadFormat.NDJSON ?
+            new StreamedFile(inputStream, MediaType.of(APPLICATION_NDJSON)).attach(executionId + ".ndjson") :
+            new StreamedFile(inputStream, MediaType.TEXT_PLAIN_TYPE).attach(executionId + ".log");
     }
 
     @ExecuteOn(TaskExecutors.IO)
@@ -141,4 +159,14 @@ public class LogController {
     ) {
         logRepository.deleteByQuery(tenantService.resolveTenant(), namespace, flowId, triggerId);
     }
+
+    @SneakyThrows
+    private static String toJson(LogEntry logEntry) {
+        return JacksonMapper.ofJson().writeValueAsString(logEntry);
+    }
+
+    public enum DownloadFormat {
+        TEXT,
+        NDJSON
+    }
 }
@@ -7,6 +7,7 @@ import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.triggers.*;
 import io.kestra.core.queues.QueueException;
 import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.repositories.ArrayListCursor;
 import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.repositories.FlowRepositoryInterface;
 import io.kestra.core.repositories.TriggerRepositoryInterface;
@@ -77,17 +78,28 @@ public class TriggerController {
         @Parameter(description = "A string filter") @Nullable @QueryValue(value = "q") String query,
         @Parameter(description = "A namespace filter prefix") @Nullable @QueryValue String namespace,
         @Parameter(description = "The identifier of the worker currently evaluating the trigger") @Nullable @QueryValue String workerId,
-        @Parameter(description = "The flow identifier") @Nullable @QueryValue String flowId
+        @Parameter(description = "The flow identifier") @Nullable @QueryValue String flowId,
+        @Parameter(description = "The cursor of the keyset pagination: `*` for the first page, then the `next` value of the previous page. The page number is ignored") @Nullable @QueryValue String cursor,
+        @Parameter(description = "Whether to count the total with the keyset pagination, as it reads all the results") @QueryValue(defaultValue = "false") boolean withTotal
     ) throws HttpStatusException {
 
-        ArrayListTotal<Trigger> triggerContexts = triggerRepository.find(
-            PageableUtils.from(page, size, sort, triggerRepository.sortMapping()),
-            query,
-            tenantService.resolveTenant(),
-            namespace,
-            flowId,
-            workerId
-        );
+        ArrayListTotal<Trigger> triggerContexts = cursor != null ?
+            triggerRepository.find(
+                PageableUtils.keyset(size, sort, triggerRepository.sortMapping(), cursor, withTotal),
+                query,
+                tenantService.resolveTenant(),
+                namespace,
+                flowId,
+                workerId
+            ) :
+            triggerRepository.find(
+                PageableUtils.from(page, size, sort, triggerRepository.sortMapping()),
+                query,
+                tenantService.resolveTenant(),
+                namespace,
+                flowId,
+                workerId
+            );
 
         List<Triggers> triggers = new ArrayList<>();
         triggerContexts.forEach(tc -> {
@@ -122,6 +134,10 @@ public class TriggerController {
             );
         });
 
+        if (triggerContexts instanceof ArrayListCursor<Trigger> cursorContexts) {
+            return PagedResults.of(new ArrayListCursor<>(triggers, cursorContexts.getTotal(), cursorContexts.getNext()));
+        }
+
         return PagedResults.of(new ArrayListTotal<>(triggers, triggerContexts.getTotal()));
     }
 
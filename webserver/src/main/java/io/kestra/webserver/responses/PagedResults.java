@@ -1,6 +1,7 @@
 package io.kestra.webserver.responses;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import io.kestra.core.repositories.ArrayListCursor;
 import io.kestra.core.repositories.ArrayListTotal;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,9 +18,19 @@ public class PagedResults<T> {
     @NotNull
     private long total;
 
+    /**
+     * The cursor of the next page with the keyset pagination, null if there is no next page.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String next;
+
     private PagedResults(ArrayListTotal<T> results) {
         this.results = results;
         this.total = results.getTotal();
+
+        if (results instanceof ArrayListCursor<T> cursor) {
+            this.next = cursor.getNext();
+        }
     }
 
     public static <T> PagedResults<T> of(ArrayListTotal<T> results) {
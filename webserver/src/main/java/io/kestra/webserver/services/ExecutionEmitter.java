@@ -0,0 +1,76 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.queues.BatchingEmitter;
+import io.kestra.core.queues.QueueException;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.micronaut.context.annotation.Value;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Emit the executions created by the webhooks to the execution queue in batches, from a single thread.
+ * <p>
+ * The thread emits everything that was submitted while the previous batch was emitted, so there is no added latency
+ * when the load is low and the batches grow with the load, up to the batch size.
+ */
+@Singleton
+@Slf4j
+public class ExecutionEmitter {
+    private final QueueInterface<Execution> executionQueue;
+    private final BatchingEmitter<Pending> emitter;
+
+    public ExecutionEmitter(
+        @Named(QueueFactoryInterface.EXECUTION_NAMED) QueueInterface<Execution> executionQueue,
+        @Value("${kestra.webserver.webhook.capacity:10000}") int capacity,
+        @Value("${kestra.webserver.webhook.batch-size:100}") int batchSize
+    ) {
+        this.executionQueue = executionQueue;
+        this.emitter = new BatchingEmitter<>("webhook-execution-emitter", capacity, batchSize, Duration.ZERO, this::send, this::failed);
+    }
+
+    /**
+     * Submit an execution, the future is completed once it is emitted to the execution queue, or exceptionally if it
+     * can't be emitted.
+     * If the buffer is full, the caller waits for some space.
+     */
+    public CompletableFuture<Execution> emit(Execution execution) {
+        Pending pending = new Pending(execution, new CompletableFuture<>());
+
+        try {
+            this.emitter.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.future().completeExceptionally(e);
+        }
+
+        return pending.future();
+    }
+
+    private void send(List<Pending> batch) throws QueueException {
+        this.executionQueue.emit(batch.stream().map(Pending::execution).toList());
+        batch.forEach(pending -> pending.future().complete(pending.execution()));
+    }
+
+    private void failed(List<Pending> batch, Exception e) {
+        log.error("Unable to emit {} executions", batch.size(), e);
+        batch.forEach(pending -> pending.future().completeExceptionally(e));
+    }
+
+    /**
+     * Emit the remaining executions, the ones submitted after are emitted directly.
+     */
+    @PreDestroy
+    public void close() throws InterruptedException {
+        this.emitter.close();
+    }
+
+    private record Pending(Execution execution, CompletableFuture<Execution> future) {}
+}
@@ -0,0 +1,143 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.FlowWithException;
+import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.repositories.FlowRepositoryInterface;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.services.FlowListenersInterface;
+import io.kestra.plugin.core.trigger.Webhook;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The {@link Webhook} triggers of the enabled flows, indexed by tenant, namespace, flow id and key, kept up to date
+ * from the flow queue so a webhook call doesn't need to load its flow from the repository.
+ * <p>
+ * The keys without any expression are indexed as-is. The ones with an expression are rendered on each call, so a
+ * key using a secret is never cached.
+ * <p>
+ * The table is eventually consistent with the repository: a miss must be resolved from the repository, as the flow
+ * can have been created since the last update. A hit is only returned if its flow is still the highest revision in
+ * the repository, so a flow disabled, deleted or with another key since the last update is also resolved from the
+ * repository. This costs an index lookup for each call, but the flow is neither loaded nor parsed.
+ */
+@Singleton
+@Slf4j
+public class WebhookRoutingTable {
+    private final FlowListenersInterface flowListeners;
+    private final FlowRepositoryInterface flowRepository;
+    private final RunContextFactory runContextFactory;
+    private final AtomicBoolean started = new AtomicBoolean(false);
+
+    private volatile Table table = new Table(Map.of(), Map.of());
+
+    @Inject
+    public WebhookRoutingTable(FlowListenersInterface flowListeners, FlowRepositoryInterface flowRepository, RunContextFactory runContextFactory) {
+        this.flowListeners = flowListeners;
+        this.flowRepository = flowRepository;
+        this.runContextFactory = runContextFactory;
+    }
+
+    /**
+     * Find the webhook trigger of a flow by its rendered key.
+     */
+    public Optional<Route> find(String tenantId, String namespace, String flowId, String key) {
+        this.start();
+
+        // the table may not be up to date yet
+        return this.route(tenantId, namespace, flowId, key).filter(this::isLastRevision);
+    }
+
+    private Optional<Route> route(String tenantId, String namespace, String flowId, String key) {
+        Table current = this.table;
+        Route route = current.routes().get(new RouteKey(tenantId, namespace, flowId, key));
+        if (route != null) {
+            return Optional.of(route);
+        }
+
+        List<Route> templated = current.templated().get(new FlowKey(tenantId, namespace, flowId));
+        if (templated == null) {
+            return Optional.empty();
+        }
+
+        return templated
+            .stream()
+            .filter(r -> {
+                try {
+                    return this.runContextFactory.of(r.flow(), r.webhook()).render(r.webhook().getKey()).trim().equals(key);
+                } catch (IllegalVariableEvaluationException e) {
+                    // be conservative, don't crash but filter the webhook
+                    log.warn("Unable to render the webhook key {}, the webhook will be ignored", key, e);
+                    return false;
+                }
+            })
+            .findFirst();
+    }
+
+    private boolean isLastRevision(Route route) {
+        Flow flow = route.flow();
+
+        return this.flowRepository.maxRevision(flow.getTenantId(), flow.getNamespace(), flow.getId())
+            .map(revision -> revision.equals(flow.getRevision()))
+            .orElse(false);
+    }
+
+    private void start() {
+        if (this.started.compareAndSet(false, true)) {
+            this.flowListeners.run();
+            this.flowListeners.listen(flows -> this.table = build(flows));
+        }
+    }
+
+    private static Table build(List<FlowWithSource> flows) {
+        Map<RouteKey, Route> routes = new HashMap<>();
+        Map<FlowKey, List<Route>> templated = new HashMap<>();
+
+        for (FlowWithSource flow : flows) {
+            if (flow.getTriggers() == null || flow.isDisabled() || flow.isDeleted() || flow instanceof FlowWithException) {
+                continue;
+            }
+
+            flow.getTriggers()
+                .stream()
+                .filter(trigger -> trigger instanceof Webhook)
+                .map(trigger -> (Webhook) trigger)
+                .forEach(webhook -> {
+                    Route route = new Route(flow, webhook);
+
+                    if (isTemplated(webhook.getKey())) {
+                        templated
+                            .computeIfAbsent(new FlowKey(flow.getTenantId(), flow.getNamespace(), flow.getId()), k -> new ArrayList<>())
+                            .add(route);
+                    } else {
+                        // the first webhook wins, like when searching the triggers of the flow
+                        routes.putIfAbsent(new RouteKey(flow.getTenantId(), flow.getNamespace(), flow.getId(), webhook.getKey().trim()), route);
+                    }
+                });
+        }
+
+        return new Table(routes, templated);
+    }
+
+    private static boolean isTemplated(String key) {
+        return key.contains("{{") || key.contains("{%");
+    }
+
+    public record Route(Flow flow, Webhook webhook) {}
+
+    private record RouteKey(String tenantId, String namespace, String flowId, String key) {}
+
+    private record FlowKey(String tenantId, String namespace, String flowId) {}
+
+    private record Table(Map<RouteKey, Route> routes, Map<FlowKey, List<Route>> templated) {}
+}
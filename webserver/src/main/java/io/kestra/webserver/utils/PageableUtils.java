@@ -1,5 +1,6 @@
 package io.kestra.webserver.utils;
 
+import io.kestra.core.repositories.KeysetPageable;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Sort;
 import io.micronaut.http.HttpStatus;
@@ -9,6 +10,8 @@ import java.util.List;
 import java.util.function.Function;
 
 public class PageableUtils {
+    public static final String FIRST_CURSOR = "*";
+
     private PageableUtils() {
     }
 
@@ -34,6 +37,22 @@ public class PageableUtils {
         return from(page, size, null, null);
     }
 
+    /**
+     * @param cursor {@link #FIRST_CURSOR} for the first page, then the next cursor returned with the previous page.
+     */
+    public static KeysetPageable keyset(int size, List<String> sort, Function<String, String> sortMapper, String cursor, boolean withTotal) throws HttpStatusException {
+        return KeysetPageable.from(
+            size,
+            sort(sort, sortMapper),
+            FIRST_CURSOR.equals(cursor) ? null : cursor,
+            withTotal
+        );
+    }
+
+    public static KeysetPageable keyset(int size, List<String> sort, String cursor, boolean withTotal) throws HttpStatusException {
+        return keyset(size, sort, null, cursor, withTotal);
+    }
+
     protected static Sort sort(List<String> sort, Function<String, String> sortMapper) {
         return sort == null ? null :
             Sort.of(sort
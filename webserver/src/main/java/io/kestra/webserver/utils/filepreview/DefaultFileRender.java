@@ -10,6 +10,9 @@ import java.nio.charset.Charset;
 
 @Getter
 public class DefaultFileRender extends FileRender {
+    // Equivalent to 2MB
+    static final int MAX_SIZE_IN_BYTES = 2097152;
+
     DefaultFileRender(String extension, InputStream filestream, Charset charset, Integer maxLine) throws IOException {
         super(extension, maxLine);
         renderContent(filestream, charset);
@@ -47,8 +50,7 @@ public class DefaultFileRender extends FileRender {
     }
 
     private String truncateStringSize(String content) {
-        // Equivalent to 2MB
-        int maxSizeInBytes = 2097152;
+        int maxSizeInBytes = MAX_SIZE_IN_BYTES;
         byte[] inputBytes = content.getBytes();
 
         if (inputBytes.length <= maxSizeInBytes) {
@@ -9,6 +9,24 @@ import java.util.Optional;
 public class FileRenderBuilder {
     private static final Charset DEFAULT_FILE_CHARSET = StandardCharsets.UTF_8;
 
+    /**
+     * The number of bytes needed to render a file, or empty if the whole file is needed.
+     */
+    public static Optional<Long> maxBytes(String extension, Optional<Charset> charset, Integer maxLine) {
+        if (ImageFileRender.ImageFileExtension.isImageFileExtension(extension)) {
+            return Optional.empty();
+        }
+
+        return switch (extension.toLowerCase()) {
+            case "ion", "pdf" -> Optional.empty();
+            // one byte more than the rendered size, and the line separators that are not rendered, so a bigger file is still marked as truncated
+            case "md" -> Optional.of(DefaultFileRender.MAX_SIZE_IN_BYTES + 2L * maxLine + 1);
+            default -> charset.orElse(DEFAULT_FILE_CHARSET).equals(DEFAULT_FILE_CHARSET) ?
+                Optional.of(DefaultFileRender.MAX_SIZE_IN_BYTES + 2L * maxLine + 1) :
+                Optional.empty();
+        };
+    }
+
     public static FileRender of(String extension, InputStream filestream, Optional<Charset> charset, Integer maxLine) throws IOException {
         if (ImageFileRender.ImageFileExtension.isImageFileExtension(extension)) {
             return new ImageFileRender(extension, filestream, maxLine);
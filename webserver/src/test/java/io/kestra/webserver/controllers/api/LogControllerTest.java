@@ -117,6 +117,15 @@ class LogControllerTest {
         );
         assertThat(logs, containsString("john doe"));
         assertThat(logs, containsString("another message"));
+
+        logs = client.toBlocking().retrieve(
+            GET("/api/v1/logs/" + log1.getExecutionId() + "/download?format=NDJSON"),
+            String.class
+        );
+        List<String> lines = logs.lines().toList();
+        assertThat(lines.size(), is(2));
+        assertThat(lines.getFirst(), containsString("\"message\":\"john doe\""));
+        assertThat(lines.get(1), containsString("\"message\":\"another message\""));
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,67 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.utils.IdUtils;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+
+class ExecutionEmitterTest {
+    @SuppressWarnings("unchecked")
+    @Test
+    void queueFailure() throws Exception {
+        QueueInterface<Execution> queue = Mockito.mock(QueueInterface.class);
+        List<String> emitted = new CopyOnWriteArrayList<>();
+        AtomicBoolean failed = new AtomicBoolean(false);
+        Mockito.doAnswer(invocation -> {
+            // like a database failure of the JDBC queue
+            if (failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("database unavailable");
+            }
+
+            List<Execution> executions = new ArrayList<>(invocation.getArgument(0));
+            return emitted.addAll(executions.stream().map(Execution::getId).toList());
+        }).when(queue).emit(anyList());
+
+        ExecutionEmitter emitter = new ExecutionEmitter(queue, 10, 10);
+
+        CompletableFuture<Execution> lost = emitter.emit(execution("lost"));
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> lost.get(5, TimeUnit.SECONDS));
+        assertThat(exception.getCause(), instanceOf(IllegalStateException.class));
+
+        // the emitter is still running
+        assertThat(emitter.emit(execution("sent")).get(5, TimeUnit.SECONDS).getId(), is("sent"));
+
+        // emitted directly once closed
+        emitter.close();
+        assertThat(emitter.emit(execution("closed")).get(5, TimeUnit.SECONDS).getId(), is("closed"));
+
+        assertThat(emitted, contains("sent", "closed"));
+    }
+
+    private static Execution execution(String id) {
+        return Execution.builder()
+            .id(id)
+            .namespace("io.kestra.tests")
+            .flowId(IdUtils.create())
+            .flowRevision(1)
+            .state(new State())
+            .build();
+    }
+}
@@ -0,0 +1,131 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.models.triggers.AbstractTrigger;
+import io.kestra.core.repositories.FlowRepositoryInterface;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.services.FlowListenersInterface;
+import io.kestra.plugin.core.trigger.Webhook;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@KestraTest
+class WebhookRoutingTableTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void find() {
+        StaticFlowListeners flowListeners = new StaticFlowListeners();
+        flowListeners.flows.add(flow("static", false, webhook("first", "a-key"), webhook("second", "{{ flow.id }}-key")));
+        flowListeners.flows.add(flow("disabled", true, webhook("first", "a-key")));
+
+        WebhookRoutingTable table = new WebhookRoutingTable(flowListeners, flowRepository(flowListeners.flows), runContextFactory);
+
+        assertThat(table.find(null, "io.kestra.tests", "static", "a-key").map(route -> route.webhook().getId()).orElseThrow(), is("first"));
+        assertThat(table.find(null, "io.kestra.tests", "static", "static-key").map(route -> route.webhook().getId()).orElseThrow(), is("second"));
+        assertThat(table.find(null, "io.kestra.tests", "static", "unknown").isPresent(), is(false));
+        assertThat(table.find("tenant", "io.kestra.tests", "static", "a-key").isPresent(), is(false));
+        assertThat(table.find(null, "io.kestra.tests", "disabled", "a-key").isPresent(), is(false));
+
+        // updated from the flow listeners
+        flowListeners.flows.add(flow("created", false, webhook("first", "a-key")));
+        flowListeners.notifyConsumers();
+
+        assertThat(table.find(null, "io.kestra.tests", "created", "a-key").isPresent(), is(true));
+    }
+
+    @Test
+    void staleRoutes() {
+        StaticFlowListeners flowListeners = new StaticFlowListeners();
+        flowListeners.flows.add(flow("updated", false, webhook("first", "a-key")));
+        flowListeners.flows.add(flow("deleted", false, webhook("first", "a-key")));
+
+        Map<String, Integer> revisions = new HashMap<>(Map.of("updated", 1, "deleted", 1));
+        FlowRepositoryInterface flowRepository = mock(FlowRepositoryInterface.class);
+        when(flowRepository.maxRevision(any(), any(), any())).thenAnswer(invocation -> Optional.ofNullable(revisions.get(invocation.<String>getArgument(2))));
+
+        WebhookRoutingTable table = new WebhookRoutingTable(flowListeners, flowRepository, runContextFactory);
+        assertThat(table.find(null, "io.kestra.tests", "updated", "a-key").isPresent(), is(true));
+        assertThat(table.find(null, "io.kestra.tests", "deleted", "a-key").isPresent(), is(true));
+
+        // updated or deleted in the repository, before the flow listeners are notified
+        revisions.put("updated", 2);
+        revisions.remove("deleted");
+
+        assertThat(table.find(null, "io.kestra.tests", "updated", "a-key").isPresent(), is(false));
+        assertThat(table.find(null, "io.kestra.tests", "deleted", "a-key").isPresent(), is(false));
+    }
+
+    private static FlowRepositoryInterface flowRepository(List<FlowWithSource> flows) {
+        FlowRepositoryInterface flowRepository = mock(FlowRepositoryInterface.class);
+        when(flowRepository.maxRevision(any(), any(), any())).thenAnswer(invocation -> flows.stream()
+            .filter(flow -> flow.getId().equals(invocation.getArgument(2)))
+            .map(FlowWithSource::getRevision)
+            .findFirst()
+        );
+
+        return flowRepository;
+    }
+
+    private static FlowWithSource flow(String id, boolean disabled, Webhook... webhooks) {
+        return FlowWithSource.builder()
+            .id(id)
+            .namespace("io.kestra.tests")
+            .revision(1)
+            .disabled(disabled)
+            .triggers(List.<AbstractTrigger>of(webhooks))
+            .build();
+    }
+
+    private static Webhook webhook(String id, String key) {
+        return Webhook.builder()
+            .id(id)
+            .type(Webhook.class.getName())
+            .key(key)
+            .build();
+    }
+
+    private static class StaticFlowListeners implements FlowListenersInterface {
+        private final List<FlowWithSource> flows = new ArrayList<>();
+        private final List<Consumer<List<FlowWithSource>>> consumers = new ArrayList<>();
+
+        @Override
+        public void run() {
+        }
+
+        @Override
+        public void listen(Consumer<List<FlowWithSource>> consumer) {
+            this.consumers.add(consumer);
+            consumer.accept(this.flows());
+        }
+
+        @Override
+        public void listen(BiConsumer<FlowWithSource, FlowWithSource> consumer) {
+        }
+
+        @Override
+        public List<FlowWithSource> flows() {
+            return new ArrayList<>(this.flows);
+        }
+
+        private void notifyConsumers() {
+            this.consumers.forEach(consumer -> consumer.accept(this.flows()));
+        }
+    }
+}
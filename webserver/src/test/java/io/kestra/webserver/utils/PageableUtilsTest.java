@@ -1,5 +1,6 @@
 package io.kestra.webserver.utils;
 
+import io.kestra.core.repositories.KeysetPageable;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Sort;
 import org.junit.jupiter.api.Test;
@@ -37,4 +38,22 @@ class PageableUtilsTest {
         assertThrows(IllegalArgumentException.class, () -> PageableUtils.from(1, -1, List.of("key:asc")));
         assertThrows(IllegalArgumentException.class, () -> PageableUtils.from(1, -1));
     }
-}
\ No newline at end of file
+
+    @Test
+    void keyset() {
+        final KeysetPageable first = PageableUtils.keyset(42, List.of("key:desc"), PageableUtils.FIRST_CURSOR, true);
+
+        assertThat(first.getSize(), is(42));
+        assertThat(first.getSort().getOrderBy().getFirst(), is(Sort.Order.desc("key")));
+        assertThat(first.after().isEmpty(), is(true));
+        assertTrue(first.isWithTotal());
+
+        final KeysetPageable next = PageableUtils.keyset(42, null, KeysetPageable.cursor("io.kestra.tests_flow"), false);
+
+        assertFalse(next.getSort().isSorted());
+        assertThat(next.after().orElseThrow(), is("io.kestra.tests_flow"));
+
+        assertThrows(IllegalArgumentException.class, () -> PageableUtils.keyset(-1, null, PageableUtils.FIRST_CURSOR, false));
+        assertThrows(IllegalArgumentException.class, () -> PageableUtils.keyset(42, null, "not a cursor!", false).after());
+    }
+}